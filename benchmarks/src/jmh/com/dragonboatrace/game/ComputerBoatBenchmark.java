@@ -0,0 +1,52 @@
+package jmh.com.dragonboatrace.game;
+
+import main.com.dragonboatrace.game.entities.boats.Boat;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.entities.boats.ComputerBoat;
+import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.Race;
+import main.com.dragonboatrace.game.tools.RaceSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures a computer boat moving, including the update of its lane, and deciding where to steer, which its race
+ * only asks it to do a few times a second, either for itself or from its
+ * {@link main.com.dragonboatrace.game.tools.AiPolicy} table.
+ */
+@State(Scope.Thread)
+public class ComputerBoatBenchmark {
+
+    /**
+     * If the boat decides from its table, which is loaded or solved before measuring starts.
+     */
+    @Param({"false", "true"})
+    public boolean aiPolicy;
+
+    /**
+     * The computer boat being updated.
+     */
+    private ComputerBoat boat;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        RaceSettings settings = RaceSettings.defaults().withPlayerCount(8).withAiPolicy(this.aiPolicy);
+        this.boat = (ComputerBoat) new Race(Integer.MAX_VALUE, BoatType.AGILE, 1, 42, Config.WIDTH, Config.HEIGHT, settings).getBoats().get(0);
+    }
+
+    @Benchmark
+    public Boat update() {
+        this.boat.update(1f / Config.SIMULATION_RATE);
+        return this.boat;
+    }
+
+    @Benchmark
+    public Boat decide() {
+        this.boat.decide();
+        return this.boat;
+    }
+}
@@ -0,0 +1,62 @@
+package jmh.com.dragonboatrace.game;
+
+import main.com.dragonboatrace.game.tools.Hitbox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the hit box checks used for every collision and every item leaving a lane.
+ */
+@State(Scope.Thread)
+public class HitboxBenchmark {
+
+    /**
+     * The area of a lane.
+     */
+    private Hitbox lane;
+
+    /**
+     * A box inside the lane.
+     */
+    private Hitbox inside;
+
+    /**
+     * A box overlapping the one inside the lane.
+     */
+    private Hitbox overlapping;
+
+    /**
+     * A box below the bottom of the lane.
+     */
+    private Hitbox below;
+
+    @Setup
+    public void setUp() {
+        this.lane = new Hitbox(240, 0, 240, 1080);
+        this.inside = new Hitbox(300, 500, 40, 40);
+        this.overlapping = new Hitbox(320, 520, 40, 40);
+        this.below = new Hitbox(300, -100, 40, 40);
+    }
+
+    @Benchmark
+    public boolean collidesWithHit() {
+        return this.inside.collidesWith(this.overlapping);
+    }
+
+    @Benchmark
+    public boolean collidesWithMiss() {
+        return this.inside.collidesWith(this.below);
+    }
+
+    @Benchmark
+    public boolean leavesInside() {
+        return this.inside.leaves(this.lane);
+    }
+
+    @Benchmark
+    public boolean leavesBelow() {
+        return this.below.leaves(this.lane);
+    }
+}
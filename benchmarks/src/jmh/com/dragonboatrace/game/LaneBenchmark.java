@@ -0,0 +1,57 @@
+package jmh.com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.Vector2;
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.Lane;
+import main.com.dragonboatrace.game.tools.RaceRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures updating a lane that is full of obstacles.
+ * <p>
+ * Obstacles that leave the lane are replaced after a random wait, so the lane stays close to the number of obstacles
+ * it started with.
+ */
+@State(Scope.Thread)
+public class LaneBenchmark {
+
+    /**
+     * How many obstacles the lane starts with.
+     */
+    @Param({"10", "100", "1000"})
+    public int obstacles;
+
+    /**
+     * The lane being updated.
+     */
+    private Lane lane;
+
+    /**
+     * How far the boat the lane follows has travelled.
+     */
+    private float distance;
+
+    @Setup
+    public void setUp() {
+        this.lane = new Lane(new Vector2(0, 0), Config.WIDTH / 8, Config.HEIGHT, 1, new RaceRandom(42));
+        this.distance = 0;
+        RaceRandom random = new RaceRandom(7);
+        for (int i = 0; i < this.obstacles; i++) {
+            ObstacleType type = ObstacleType.values()[random.nextInt(ObstacleType.values().length)];
+            this.lane.getObstacles().add(type, random.nextInt(Config.WIDTH / 8), random.nextInt(Config.HEIGHT));
+        }
+    }
+
+    @Benchmark
+    public Lane update() {
+        this.distance += 100f / Config.SIMULATION_RATE;
+        this.lane.follow(this.distance);
+        this.lane.update(1f / Config.SIMULATION_RATE);
+        return this.lane;
+    }
+}
@@ -0,0 +1,90 @@
+package jmh.com.dragonboatrace.game;
+
+import main.com.dragonboatrace.game.entities.EntityType;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.entities.boats.ComputerBoat;
+import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.PathPlanner;
+import main.com.dragonboatrace.game.tools.Race;
+import main.com.dragonboatrace.game.tools.RaceSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures computer boats planning their path on hard difficulty against only reacting to the closest obstacle.
+ * <p>
+ * {@link #decisionInterval()} is the work of one boat between two of its decisions, deciding once and then moving for
+ * every step until the next, so the planner's cost can be compared with the reactive boats at normal difficulty.
+ * {@link #fullPlan()} is the worst case of a path planned from scratch, as a boat does when it is knocked off its path.
+ */
+@State(Scope.Thread)
+public class PathPlannerBenchmark {
+
+    /**
+     * The difficulty of the race, computer boats plan their paths from {@link ComputerBoat#PLANNING_DIFFICULTY}.
+     */
+    @Param({"1", "2"})
+    public int difficulty;
+
+    /**
+     * The computer boat being measured.
+     */
+    private ComputerBoat boat;
+
+    /**
+     * The number of simulation steps between two decisions of the boat.
+     */
+    private int interval;
+
+    /**
+     * A planner for the boat's lane that is made to start again every plan.
+     */
+    private PathPlanner planner;
+
+    /**
+     * The time the planner plans at.
+     */
+    private double time;
+
+    /**
+     * If the next full plan is for the boat going twice as fast, so it can never carry on from the last one.
+     */
+    private boolean faster;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        RaceSettings settings = RaceSettings.defaults().withPlayerCount(8).withDifficulty(this.difficulty);
+        Race race = new Race(Integer.MAX_VALUE, BoatType.AGILE, 1, 42, Config.WIDTH, Config.HEIGHT, settings);
+        /* Fill the lanes with what has appeared in the first few seconds */
+        race.setTimeScale(Race.UNBOUNDED);
+        for (int frame = 0; frame < 5; frame++) {
+            race.advance(0);
+        }
+        this.boat = (ComputerBoat) race.getBoats().get(0);
+        this.interval = Math.round(settings.getSimulationRate() / (float) settings.getAiDecisionRate());
+        this.planner = new PathPlanner(this.boat.getLane(), EntityType.BOAT.getWidth(), EntityType.BOAT.getHeight());
+        this.time = 0;
+    }
+
+    @Benchmark
+    public ComputerBoat decisionInterval() {
+        this.boat.decide();
+        for (int step = 0; step < this.interval; step++) {
+            this.boat.update(1f / Config.SIMULATION_RATE);
+        }
+        return this.boat;
+    }
+
+    @Benchmark
+    public PathPlanner fullPlan() {
+        this.time += 1.0 / Config.AI_DECISION_RATE;
+        this.faster = !this.faster;
+        float forward = this.boat.getSpeed() * (this.faster ? 2 : 1);
+        this.planner.plan(this.time, this.boat.getHitBox().getX(), this.boat.getHitBox().getY(), forward, this.boat.getSpeed());
+        return this.planner;
+    }
+}
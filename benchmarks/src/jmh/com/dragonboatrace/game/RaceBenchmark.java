@@ -0,0 +1,39 @@
+package jmh.com.dragonboatrace.game;
+
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.Race;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures a single simulation step of a full race, with every lane and boat updated headlessly.
+ */
+@State(Scope.Thread)
+public class RaceBenchmark {
+
+    /**
+     * The race being stepped, long enough that nobody finishes during an iteration.
+     */
+    private Race race;
+
+    /**
+     * Start a new race for each iteration so that every iteration measures the same part of a race.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Config.setPlayerCount(8);
+        this.race = new Race(Integer.MAX_VALUE, BoatType.AGILE, 1, 42);
+        /* Nobody is steering the player, so keep their boat from breaking and ending the race */
+        this.race.getPlayer().addHealth(Float.MAX_VALUE / 2);
+    }
+
+    @Benchmark
+    public Race update() {
+        this.race.update(1f / Config.SIMULATION_RATE);
+        return this.race;
+    }
+}
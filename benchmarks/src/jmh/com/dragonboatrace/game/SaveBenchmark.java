@@ -0,0 +1,54 @@
+package jmh.com.dragonboatrace.game;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.Race;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures saving a race part way through and loading it back.
+ */
+@State(Scope.Thread)
+public class SaveBenchmark {
+
+    /**
+     * A race ten seconds in, so its lanes have obstacles and power ups to save.
+     */
+    private Race race;
+
+    /**
+     * The race's save, already parsed.
+     */
+    private JsonValue save;
+
+    @Setup
+    public void setUp() {
+        Config.setPlayerCount(8);
+        this.race = new Race(Integer.MAX_VALUE, BoatType.AGILE, 1, 42);
+        this.race.getPlayer().addHealth(Float.MAX_VALUE / 2);
+        for (int i = 0; i < 10 * Config.SIMULATION_RATE; i++) {
+            this.race.update(1f / Config.SIMULATION_RATE);
+        }
+        this.save = new JsonReader().parse(this.race.toJson());
+    }
+
+    @Benchmark
+    public String toJson() {
+        return this.race.toJson();
+    }
+
+    @Benchmark
+    public Race fromJson() {
+        return new Race(this.save);
+    }
+
+    @Benchmark
+    public Race roundTrip() {
+        return new Race(new JsonReader().parse(this.race.toJson()));
+    }
+}
@@ -0,0 +1,78 @@
+package jmh.com.dragonboatrace.game;
+
+import com.badlogic.gdx.math.Vector2;
+import main.com.dragonboatrace.game.entities.boats.Boat;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.Lane;
+import main.com.dragonboatrace.game.tools.RaceRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the stamina curves every boat works out each step.
+ */
+@State(Scope.Thread)
+public class StaminaBenchmark {
+
+    /**
+     * The stamina the boat has when the curves are worked out.
+     */
+    @Param({"0", "60", "120"})
+    public float stamina;
+
+    /**
+     * The boat the curves are worked out for.
+     */
+    private StaminaBoat boat;
+
+    @Setup
+    public void setUp() {
+        Lane lane = new Lane(new Vector2(0, 0), Config.WIDTH / 8, Config.HEIGHT, 1, new RaceRandom(42));
+        this.boat = new StaminaBoat(BoatType.AGILE, lane);
+        this.boat.setStamina(this.stamina);
+    }
+
+    @Benchmark
+    public float velocityPercentage() {
+        return this.boat.velocityPercentage();
+    }
+
+    @Benchmark
+    public float useStamina() {
+        return this.boat.useStamina();
+    }
+
+    @Benchmark
+    public float regenerateStamina() {
+        return this.boat.regenerateStamina();
+    }
+
+    /**
+     * A boat that makes its stamina curves visible to the benchmark.
+     */
+    private static class StaminaBoat extends Boat {
+
+        StaminaBoat(BoatType boat, Lane lane) {
+            super(boat, lane, "Benchmark");
+        }
+
+        @Override
+        protected float velocityPercentage() {
+            return super.velocityPercentage();
+        }
+
+        @Override
+        protected float useStamina() {
+            return super.useStamina();
+        }
+
+        @Override
+        protected float regenerateStamina() {
+            return super.regenerateStamina();
+        }
+    }
+}
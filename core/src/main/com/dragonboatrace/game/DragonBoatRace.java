@@ -1,11 +1,18 @@
 package main.com.dragonboatrace.game;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import main.com.dragonboatrace.game.screens.MainMenuScreen;
+import main.com.dragonboatrace.game.screens.LoadingScreen;
+import main.com.dragonboatrace.game.tools.Assets;
 import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.GameConfig;
+import main.com.dragonboatrace.game.tools.FontCache;
+import main.com.dragonboatrace.game.tools.Profiler;
+import main.com.dragonboatrace.game.tools.TextureCache;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -45,7 +52,8 @@ public class DragonBoatRace extends Game {
     public void create() {
         this.batch = new SpriteBatch();
         this.shapeRenderer = new ShapeRenderer();
-        this.setScreen(new MainMenuScreen(this));
+        Profiler.setEnabled(Config.PROFILING);
+        this.setScreen(new LoadingScreen(this));
         for (int i = 0; i < Config.PLAYER_COUNT; i++)
             totalTimes.add((float) 0);
     }
@@ -60,6 +68,25 @@ public class DragonBoatRace extends Game {
         super.resize(width, height);
     }
 
+    @Override
+    public void dispose() {
+        super.dispose();
+        TextureCache.clear();
+        FontCache.dispose();
+        Assets.dispose();
+        writeProfile();
+    }
+
+    /**
+     * Write the times of every profiled phase to a CSV file next to the save files, if any frames were profiled.
+     */
+    private void writeProfile() {
+        if (Profiler.getFrames() > 0 && GameConfig.SAVE_FILE_LOCATION != null) {
+            FileHandle profileFile = new FileHandle(new File(String.format("%s/dragonBoatProfile.csv", GameConfig.SAVE_FILE_LOCATION)));
+            profileFile.writeString(Profiler.toCsv(), false);
+        }
+    }
+
     public SpriteBatch getBatch() {
         return this.batch;
     }
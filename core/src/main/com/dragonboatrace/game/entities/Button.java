@@ -1,9 +1,10 @@
 package main.com.dragonboatrace.game.entities;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import main.com.dragonboatrace.game.tools.TextureCache;
 
 /**
  * Represents a UI Button.
@@ -11,10 +12,14 @@ import com.badlogic.gdx.math.Vector2;
  * @author Benji Garment, Joe Wrieden
  */
 public class Button extends Entity {
+    /**
+     * The texture to use when the button is not being hovered over.
+     */
+    private TextureRegion inactiveTexture;
     /**
      * The texture to use when the button is being hovered over.
      */
-    private final Texture activeTexture;
+    private TextureRegion activeTexture;
 
     /**
      * Create a new button at a position with an inactive texture and an active texture.
@@ -25,7 +30,8 @@ public class Button extends Entity {
      */
     public Button(Vector2 pos, String activeTexture, String inactiveTexture) {
         super(pos, new Vector2(), EntityType.BUTTON, inactiveTexture);
-        this.activeTexture = new Texture(activeTexture);
+        this.inactiveTexture = TextureCache.obtainRegion(inactiveTexture, EntityType.BUTTON);
+        this.activeTexture = TextureCache.obtainRegion(activeTexture, EntityType.BUTTON);
     }
 
     /**
@@ -37,7 +43,7 @@ public class Button extends Entity {
         if (this.isHovering()) {
             batch.draw(this.activeTexture, this.position.x, this.position.y, this.type.getWidth(), this.type.getHeight());
         } else {
-            batch.draw(this.texture, this.position.x, this.position.y, this.type.getWidth(), this.type.getHeight());
+            batch.draw(this.inactiveTexture, this.position.x, this.position.y, this.type.getWidth(), this.type.getHeight());
         }
     }
 
@@ -51,4 +57,16 @@ public class Button extends Entity {
                 && Gdx.graphics.getHeight() - Gdx.input.getY() < this.position.y + this.type.getHeight() && Gdx.graphics.getHeight() - Gdx.input.getY() > this.position.y);
     }
 
+    /**
+     * Give both of the button's textures back to the {@link TextureCache}.
+     */
+    public void dispose() {
+        if (this.activeTexture != null) {
+            TextureCache.release(this.activeTexture);
+            TextureCache.release(this.inactiveTexture);
+            this.activeTexture = null;
+            this.inactiveTexture = null;
+        }
+    }
+
 }
@@ -0,0 +1,327 @@
+package main.com.dragonboatrace.game.renderers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Vector2;
+import main.com.dragonboatrace.game.entities.EntityType;
+import main.com.dragonboatrace.game.entities.boats.Boat;
+import main.com.dragonboatrace.game.entities.boats.ComputerBoat;
+import main.com.dragonboatrace.game.entities.boats.PlayerBoat;
+import main.com.dragonboatrace.game.tools.FontCache;
+import main.com.dragonboatrace.game.tools.Hitbox;
+import main.com.dragonboatrace.game.tools.TextureCache;
+
+/**
+ * Draws a {@link Boat}, its stats at the top of its lane and its shield.
+ * <p>
+ * The player's boat also has its name drawn, and computer boats that are off-screen are shown with an arrow. Each part
+ * is drawn by its own method so the {@link RaceRenderer} can draw the same part of every boat together.
+ */
+public class BoatRenderer {
+
+    /**
+     * The number of rows of text in the HUD.
+     */
+    public static final int HUD_ROWS = 5;
+
+    /**
+     * The size the HUD fonts are generated at before being shrunk to fit in the lane.
+     */
+    private static final int HUD_FONT_SIZE = 50;
+
+    /**
+     * The width of the border around the HUD text.
+     */
+    private static final int HUD_BORDER_WIDTH = 3;
+
+    /**
+     * The label in front of each stat in the HUD, by row, with nothing in front of the name.
+     */
+    private static final String[] HUD_LABELS = {"", "Health:  ", "Stamina: ", "Shield: ", "Boost: "};
+
+    /**
+     * The only characters the stat fonts ever draw.
+     */
+    private static final String HUD_CHARACTERS = FontCache.charactersOf(FontCache.charactersOf(HUD_LABELS), FontCache.NUMBER_CHARACTERS);
+
+    /**
+     * The height of each row of the HUD.
+     */
+    private static final int HUD_ROW_HEIGHT = 50;
+
+    /**
+     * The boat being drawn.
+     */
+    private final Boat boat;
+
+    /**
+     * The formatter used to measure the text.
+     */
+    private final GlyphLayout layout;
+
+    /**
+     * The texture of the boat.
+     */
+    private TextureRegion texture;
+
+    /**
+     * The texture for the up indicator when a computer boat is off the screen but above.
+     */
+    private TextureRegion up;
+
+    /**
+     * The texture for the indicator when a computer boat is off the screen but below.
+     */
+    private TextureRegion down;
+
+    /**
+     * The label of each row of the HUD, laid out once, with the name in row 0 for the player's boat only.
+     */
+    private final BitmapFontCache[] labels;
+
+    /**
+     * The value of each stat in the HUD, by row, which is only laid out again when the value changes.
+     */
+    private final BitmapFontCache[] values;
+
+    /**
+     * The stat last laid out in each row of the HUD.
+     */
+    private final int[] shown;
+
+    /**
+     * Holds the digits of a stat while it is laid out, so no string is created.
+     */
+    private final StringBuilder digits;
+
+    /**
+     * Creates a new renderer for a boat, borrowing its textures and getting the fonts that fit in its lane.
+     * <p>
+     * Fonts come from the {@link FontCache}, so boats in lanes of the same width share them and they are only
+     * generated for the first race.
+     *
+     * @param boat The boat to draw.
+     */
+    public BoatRenderer(Boat boat) {
+        this.boat = boat;
+        this.layout = new GlyphLayout();
+        this.texture = TextureCache.obtainRegion(boat.getTexture(), EntityType.BOAT);
+        if (boat instanceof ComputerBoat) {
+            this.up = TextureCache.obtainRegion("up_arrow.png");
+            this.down = TextureCache.obtainRegion("down_arrow.png");
+        }
+
+        this.labels = new BitmapFontCache[HUD_ROWS];
+        this.values = new BitmapFontCache[HUD_ROWS];
+        this.shown = new int[HUD_ROWS];
+        this.digits = new StringBuilder();
+
+        /*Font for displaying the name */
+        if (boat instanceof PlayerBoat) {
+            BitmapFont font = FontCache.get(HUD_FONT_SIZE, Color.WHITE, Color.BLACK, HUD_BORDER_WIDTH, FontCache.NAME_CHARACTERS);
+            layout.setText(font, boat.getName());
+            if (this.layout.width > laneBox().getWidth()) {
+                font = FontCache.get(fitToLane(), Color.BLACK, Color.BLACK, HUD_BORDER_WIDTH, FontCache.NAME_CHARACTERS);
+            }
+            this.labels[0] = font.newFontCache();
+            this.labels[0].setText(boat.getName(), hudX(), hudY(0));
+        }
+
+        /* Fonts for displaying the health, stamina, shield and boost */
+        layoutStat(1, Color.RED);
+        layoutStat(2, Color.GREEN);
+        layoutStat(3, Color.BLUE);
+        layoutStat(4, Color.YELLOW);
+    }
+
+    /**
+     * Lay out the label of a row of the HUD and get ready to lay out its value, which is done the first time it is
+     * drawn.
+     *
+     * @param row   The row of the stat.
+     * @param color The colour of the stat's font.
+     */
+    private void layoutStat(int row, Color color) {
+        BitmapFont font = generateHudFont(color, HUD_LABELS[row] + "000");
+        this.labels[row] = font.newFontCache();
+        this.labels[row].setText(HUD_LABELS[row], hudX(), hudY(row));
+        this.values[row] = font.newFontCache();
+        this.shown[row] = Integer.MIN_VALUE;
+    }
+
+    /**
+     * The x position of the HUD text, just inside the boat's lane.
+     *
+     * @return A float of the left of the text.
+     */
+    private float hudX() {
+        return laneBox().getX() + 5;
+    }
+
+    /**
+     * The y position of a row of the HUD, counting down from the top of the screen.
+     *
+     * @param row The row of the HUD.
+     * @return A float of the top of the row.
+     */
+    private static float hudY(int row) {
+        return Gdx.graphics.getHeight() - 5 - HUD_ROW_HEIGHT * row;
+    }
+
+    /**
+     * Get a font for one of the stats in the HUD, shrunk if the widest text it will show does not fit in the lane.
+     *
+     * @param color  The colour of the font.
+     * @param widest The widest text the font will need to show.
+     * @return The font to use for the stat.
+     */
+    private BitmapFont generateHudFont(Color color, String widest) {
+        BitmapFont font = FontCache.get(HUD_FONT_SIZE, color, Color.BLACK, HUD_BORDER_WIDTH, HUD_CHARACTERS);
+        layout.setText(font, widest);
+        if (this.layout.width > laneBox().getWidth()) {
+            font = FontCache.get(fitToLane(), color, Color.BLACK, HUD_BORDER_WIDTH, HUD_CHARACTERS);
+        }
+        return font;
+    }
+
+    /**
+     * Get the font size that makes the text last measured by the layout fit in the lane.
+     *
+     * @return The size of font to use.
+     */
+    private int fitToLane() {
+        return (int) (HUD_FONT_SIZE / (this.layout.width / laneBox().getWidth()));
+    }
+
+    /**
+     * The hit box of the lane the boat is in.
+     *
+     * @return The lane's {@link Hitbox}.
+     */
+    private Hitbox laneBox() {
+        return this.boat.getLane().getHitbox();
+    }
+
+    /**
+     * The boat being drawn.
+     *
+     * @return The {@link Boat} this renderer draws.
+     */
+    public Boat getBoat() {
+        return this.boat;
+    }
+
+    /**
+     * Draw the boat.
+     *
+     * @param batch   The SpriteBatch to be added to, which must have already begun.
+     * @param cameraY The race distance at the bottom of the screen.
+     */
+    public void renderBoat(SpriteBatch batch, float cameraY) {
+        Vector2 position = this.boat.getRenderPosition();
+        batch.draw(this.texture, position.x, position.y - cameraY);
+    }
+
+    /**
+     * Draw an arrow at the top or bottom of the screen if the boat is a computer boat that is off the screen.
+     *
+     * @param batch   The SpriteBatch to be added to, which must have already begun.
+     * @param cameraY The race distance at the bottom of the screen.
+     */
+    public void renderArrow(SpriteBatch batch, float cameraY) {
+        if (this.up == null) {
+            return;
+        }
+        Vector2 position = this.boat.getRenderPosition();
+        float screenY = position.y - cameraY;
+        if (screenY > Gdx.graphics.getHeight()) {
+            batch.draw(up, position.x, Gdx.graphics.getHeight() - this.texture.getRegionHeight(), 50, 50);
+        } else if (screenY < 0) {
+            batch.draw(down, position.x, 0, 50, 50);
+        }
+    }
+
+    /**
+     * Draw one row of the HUD at the top of the boat's lane.
+     * <p>
+     * Row 0 is the name, which is only drawn for the player's boat, and the rows after it are the health, stamina,
+     * shield and boost. Each row has its own font, so drawing a row for every boat before the next keeps the batch on
+     * one font's texture at a time.
+     * <p>
+     * The labels are laid out when the renderer is created. A stat's digits are only laid out again when its whole
+     * number changes, so drawing the HUD normally just copies the cached glyphs into the batch.
+     *
+     * @param batch The SpriteBatch to be added to, which must have already begun.
+     * @param row   The row to draw, from 0 to {@link #HUD_ROWS} - 1.
+     */
+    public void renderHud(SpriteBatch batch, int row) {
+        if (row > 0) {
+            int value = (int) stat(row);
+            if (value != this.shown[row]) {
+                this.shown[row] = value;
+                this.digits.setLength(0);
+                this.digits.append(value);
+                this.values[row].setText(this.digits, hudX() + this.labels[row].getLayouts().first().width, hudY(row));
+            }
+            this.values[row].draw(batch);
+        }
+        if (this.labels[row] != null) {
+            this.labels[row].draw(batch);
+        }
+    }
+
+    /**
+     * Get the stat shown in a row of the HUD.
+     *
+     * @param row The row of the stat, from 1 to {@link #HUD_ROWS} - 1.
+     * @return A float of the boat's current value of the stat.
+     */
+    private float stat(int row) {
+        switch (row) {
+            case 1:
+                return this.boat.getHealth();
+            case 2:
+                return this.boat.getStamina();
+            case 3:
+                return this.boat.getShield();
+            default:
+                return this.boat.getBoost();
+        }
+    }
+
+    /**
+     * Draw the boat's shield, if it has one, faded by how strong it is.
+     *
+     * @param renderer The ShapeRenderer that renders the shield, which must have already begun with blending enabled.
+     * @param cameraY  The race distance at the bottom of the screen.
+     */
+    public void renderShield(ShapeRenderer renderer, float cameraY) {
+        if (this.boat.getShield() > 0) {
+            Vector2 position = this.boat.getRenderPosition();
+            renderer.setColor(0, 0, 1, this.boat.getShield() / 150);
+            renderer.circle(position.x + (EntityType.BOAT.getWidth() / 2), position.y - cameraY + (EntityType.BOAT.getHeight() / 2), EntityType.BOAT.getHeight() * 0.6f);
+        }
+    }
+
+    /**
+     * Give back the textures borrowed from the {@link TextureCache}.
+     */
+    public void dispose() {
+        if (this.texture != null) {
+            TextureCache.release(this.texture);
+            this.texture = null;
+        }
+        if (this.up != null) {
+            TextureCache.release(this.up);
+            TextureCache.release(this.down);
+            this.up = null;
+            this.down = null;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package main.com.dragonboatrace.game.renderers;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import main.com.dragonboatrace.game.entities.boats.Boat;
+import main.com.dragonboatrace.game.entities.boats.ComputerBoat;
+import main.com.dragonboatrace.game.tools.Hitbox;
+import main.com.dragonboatrace.game.tools.LaneItems;
+import main.com.dragonboatrace.game.tools.Race;
+
+import java.util.List;
+
+/**
+ * Outlines the bounds of every lane, the hit box of every boat, obstacle and power up, and the area each computer boat
+ * looks for obstacles in.
+ * <p>
+ * Hit boxes are plain geometry, so everything is drawn here in a single {@link ShapeRenderer} pass from the race's
+ * current positions. While the overlay is hidden drawing it does nothing at all.
+ */
+public class DebugOverlay {
+
+    /**
+     * The colour of the lane bounds.
+     */
+    private static final Color LANE_COLOR = Color.LIGHT_GRAY;
+
+    /**
+     * The colour of the boats' hit boxes.
+     */
+    private static final Color BOAT_COLOR = Color.GREEN;
+
+    /**
+     * The colour of the areas computer boats look for obstacles in.
+     */
+    private static final Color MOVE_AREA_COLOR = Color.YELLOW;
+
+    /**
+     * The colour of the obstacles' hit boxes.
+     */
+    private static final Color OBSTACLE_COLOR = Color.RED;
+
+    /**
+     * The colour of the power ups' hit boxes.
+     */
+    private static final Color POWER_UP_COLOR = Color.CYAN;
+
+    /**
+     * The race being outlined.
+     */
+    private final Race race;
+
+    /**
+     * If the overlay is being shown.
+     */
+    private boolean visible;
+
+    /**
+     * Creates a new hidden overlay for a race.
+     *
+     * @param race The race to outline.
+     */
+    public DebugOverlay(Race race) {
+        this.race = race;
+        this.visible = false;
+    }
+
+    /**
+     * Show the overlay if it is hidden or hide it if it is shown.
+     */
+    public void toggle() {
+        this.visible = !this.visible;
+    }
+
+    /**
+     * If the overlay is being shown.
+     *
+     * @return A boolean of if the overlay is visible.
+     */
+    public boolean isVisible() {
+        return this.visible;
+    }
+
+    /**
+     * Outline everything in the race if the overlay is visible.
+     *
+     * @param renderer The ShapeRenderer to draw with, which must not have begun.
+     */
+    public void render(ShapeRenderer renderer) {
+        if (!this.visible) {
+            return;
+        }
+        float cameraY = this.race.getCamera().getRenderY();
+        renderer.begin(ShapeType.Line);
+        renderBoat(renderer, this.race.getPlayer(), cameraY);
+        List<Boat> boats = this.race.getBoats();
+        for (int i = 0; i < boats.size(); i++) {
+            renderBoat(renderer, boats.get(i), cameraY);
+        }
+        renderer.end();
+    }
+
+    /**
+     * Outline a boat, its lane and everything in the lane.
+     *
+     * @param renderer The ShapeRenderer to draw with, which must have already begun.
+     * @param boat     The boat to outline.
+     * @param cameraY  The race distance at the bottom of the screen.
+     */
+    private static void renderBoat(ShapeRenderer renderer, Boat boat, float cameraY) {
+        renderBox(renderer, boat.getLane().getHitbox(), LANE_COLOR, cameraY);
+        renderItems(renderer, boat.getLane().getObstacles(), OBSTACLE_COLOR, cameraY);
+        renderItems(renderer, boat.getLane().getPowerUps(), POWER_UP_COLOR, cameraY);
+        if (boat instanceof ComputerBoat) {
+            renderBox(renderer, ((ComputerBoat) boat).getMoveArea(), MOVE_AREA_COLOR, cameraY);
+        }
+        renderBox(renderer, boat.getHitBox(), BOAT_COLOR, cameraY);
+    }
+
+    /**
+     * Outline every obstacle or power up in a lane.
+     *
+     * @param renderer The ShapeRenderer to draw with, which must have already begun.
+     * @param items    The obstacles or power ups to outline.
+     * @param color    The colour to outline them in.
+     * @param cameraY  The race distance at the bottom of the screen.
+     */
+    private static void renderItems(ShapeRenderer renderer, LaneItems<?> items, Color color, float cameraY) {
+        renderer.setColor(color);
+        for (int i = 0; i < items.size(); i++) {
+            int slot = items.slot(i);
+            renderer.rect(items.getX(slot), items.getY(slot) - cameraY, items.getWidth(), items.getHeight());
+        }
+    }
+
+    /**
+     * Outline a hit box.
+     *
+     * @param renderer The ShapeRenderer to draw with, which must have already begun.
+     * @param box      The hit box to outline.
+     * @param color    The colour to outline it in.
+     * @param cameraY  The race distance at the bottom of the screen.
+     */
+    private static void renderBox(ShapeRenderer renderer, Hitbox box, Color color, float cameraY) {
+        renderer.setColor(color);
+        renderer.rect(box.getX(), box.getY() - cameraY, box.getWidth(), box.getHeight());
+    }
+}
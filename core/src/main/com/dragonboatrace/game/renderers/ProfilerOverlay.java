@@ -0,0 +1,177 @@
+package main.com.dragonboatrace.game.renderers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import main.com.dragonboatrace.game.tools.FontCache;
+import main.com.dragonboatrace.game.tools.Profiler;
+import main.com.dragonboatrace.game.tools.ProfilerPhase;
+
+/**
+ * Draws the 50th, 95th and 99th percentile time of every {@link ProfilerPhase} in the corner of the screen.
+ * <p>
+ * Underneath are the draw calls, texture bindings and shader switches counted by a {@link GLProfiler}, and the number
+ * of times the game's {@link SpriteBatch} was flushed, in the last frame before the overlay drew itself. The overlay's
+ * own drawing is not counted.
+ * <p>
+ * The table is only rebuilt every {@link #REFRESH_INTERVAL} seconds, both so it can be read and so that drawing it
+ * adds as little as possible to the frames being measured.
+ */
+public class ProfilerOverlay {
+
+    /**
+     * The number of seconds between updates of the table.
+     */
+    private static final float REFRESH_INTERVAL = 0.5f;
+
+    /**
+     * The width of the column holding the name of each phase.
+     */
+    private static final int LABEL_WIDTH = 9 * FontCache.DEFAULT_SIZE;
+
+    /**
+     * The width of each column of times.
+     */
+    private static final int TIME_WIDTH = 4 * FontCache.DEFAULT_SIZE;
+
+    /**
+     * The font the table is drawn in.
+     */
+    private final BitmapFont font;
+
+    /**
+     * The columns of the table being shown, the phase names then each percentile, reused each time it is rebuilt.
+     */
+    private final StringBuilder[] columns;
+
+    /**
+     * Counts the OpenGL calls made while the overlay is shown.
+     */
+    private final GLProfiler glProfiler;
+
+    /**
+     * The number of times the batch had been flushed when the overlay finished drawing last frame, or -1 if the overlay
+     * has not been drawn since it was shown.
+     */
+    private int flushMark;
+
+    /**
+     * If the overlay is being shown.
+     */
+    private boolean visible;
+
+    /**
+     * The time since the table was last rebuilt.
+     */
+    private float sinceRefresh;
+
+    /**
+     * Creates a new hidden overlay.
+     */
+    public ProfilerOverlay() {
+        this.font = FontCache.get(FontCache.DEFAULT_SIZE, Color.WHITE, Color.BLACK, 1, FontCache.DEFAULT_CHARACTERS);
+        this.columns = new StringBuilder[]{new StringBuilder(), new StringBuilder(), new StringBuilder(), new StringBuilder()};
+        this.glProfiler = new GLProfiler(Gdx.graphics);
+        this.visible = false;
+    }
+
+    /**
+     * Show the overlay if it is hidden or hide it if it is shown.
+     * <p>
+     * Showing the overlay starts the {@link Profiler} if it was not already running, and starts counting OpenGL calls
+     * until it is hidden again.
+     */
+    public void toggle() {
+        this.visible = !this.visible;
+        if (this.visible) {
+            Profiler.setEnabled(true);
+            this.glProfiler.enable();
+            this.glProfiler.reset();
+            this.flushMark = -1;
+            this.sinceRefresh = REFRESH_INTERVAL;
+        } else {
+            this.glProfiler.disable();
+        }
+    }
+
+    /**
+     * If the overlay is being shown.
+     *
+     * @return A boolean of if the overlay is visible.
+     */
+    public boolean isVisible() {
+        return this.visible;
+    }
+
+    /**
+     * Draw the overlay in the top right of the screen if it is visible.
+     *
+     * @param batch     The SpriteBatch to be added to, which must not have begun.
+     * @param deltaTime The time since the last frame.
+     */
+    public void render(SpriteBatch batch, float deltaTime) {
+        if (!this.visible) {
+            return;
+        }
+        this.sinceRefresh += deltaTime;
+        if (this.sinceRefresh >= REFRESH_INTERVAL) {
+            this.sinceRefresh = 0;
+            rebuild(this.flushMark < 0 ? 0 : batch.totalRenderCalls - this.flushMark);
+        }
+        float x = Gdx.graphics.getWidth() - LABEL_WIDTH - 3 * TIME_WIDTH;
+        float y = Gdx.graphics.getHeight() - 5;
+        batch.begin();
+        this.font.draw(batch, this.columns[0], x, y);
+        for (int i = 1; i < this.columns.length; i++) {
+            this.font.draw(batch, this.columns[i], x + LABEL_WIDTH + (i - 1) * TIME_WIDTH, y);
+        }
+        batch.end();
+        this.glProfiler.reset();
+        this.flushMark = batch.totalRenderCalls;
+    }
+
+    /**
+     * Rebuild the table from the frames the {@link Profiler} has recorded and the OpenGL calls made this frame.
+     *
+     * @param flushes The number of times the batch was flushed this frame.
+     */
+    private void rebuild(int flushes) {
+        for (StringBuilder column : this.columns) {
+            column.setLength(0);
+        }
+        this.columns[0].append("Phase (ms)\n");
+        this.columns[1].append("p50\n");
+        this.columns[2].append("p95\n");
+        this.columns[3].append("p99\n");
+        for (ProfilerPhase phase : ProfilerPhase.values()) {
+            this.columns[0].append(phase.getLabel()).append('\n');
+            appendMillis(this.columns[1], Profiler.percentile(phase, 50));
+            appendMillis(this.columns[2], Profiler.percentile(phase, 95));
+            appendMillis(this.columns[3], Profiler.percentile(phase, 99));
+        }
+        this.columns[0].append(Profiler.getFrames()).append(" frames\n\n");
+        this.columns[1].append("\n\n");
+        this.columns[0].append("Draw calls\nTexture binds\nShader switches\nBatch flushes");
+        this.columns[1].append(this.glProfiler.getDrawCalls()).append('\n')
+            .append(this.glProfiler.getTextureBindings()).append('\n')
+            .append(this.glProfiler.getShaderSwitches()).append('\n')
+            .append(flushes);
+    }
+
+    /**
+     * Add a time to a column of the table to two decimal places.
+     *
+     * @param column The column to add to.
+     * @param millis The time in milliseconds.
+     */
+    private static void appendMillis(StringBuilder column, float millis) {
+        int hundredths = Math.round(millis * 100);
+        column.append(hundredths / 100).append('.');
+        if (hundredths % 100 < 10) {
+            column.append('0');
+        }
+        column.append(hundredths % 100).append('\n');
+    }
+}
@@ -0,0 +1,312 @@
+package main.com.dragonboatrace.game.renderers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.math.Vector2;
+import main.com.dragonboatrace.game.entities.EntityType;
+import main.com.dragonboatrace.game.entities.FinishLine;
+import main.com.dragonboatrace.game.entities.LaneItemType;
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.entities.PowerUpType;
+import main.com.dragonboatrace.game.entities.boats.Boat;
+import main.com.dragonboatrace.game.tools.LaneItems;
+import main.com.dragonboatrace.game.tools.Profiler;
+import main.com.dragonboatrace.game.tools.ProfilerPhase;
+import main.com.dragonboatrace.game.tools.Race;
+import main.com.dragonboatrace.game.tools.RaceCamera;
+import main.com.dragonboatrace.game.tools.ScrollingBackground;
+import main.com.dragonboatrace.game.tools.TextureCache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Draws a {@link Race}: the background, the lane separators, the finish line, and every lane with its boat.
+ * <p>
+ * Everything in the race is positioned in race distance, so it is drawn that far above the bottom of the race's
+ * {@link RaceCamera}.
+ * <p>
+ * Each frame is drawn in layers rather than lane by lane. The lane separators never move on the screen, so they are
+ * laid out once in a {@link SpriteCache} and drawn in a single call over the background. The finish line, lane items
+ * and boats share one {@link SpriteBatch} pass with everything using the same texture drawn together, so the batch
+ * only flushes when the texture changes. The shields are then drawn in one {@link ShapeRenderer} pass and the HUD in a
+ * last batch pass. Boats are looped over by index so drawing a frame creates no iterators.
+ * <p>
+ * The race itself knows nothing about textures, so all of them are borrowed from the {@link TextureCache} here and
+ * given back in {@link #dispose()}.
+ */
+public class RaceRenderer {
+
+    /**
+     * Every type of obstacle, in order of their ordinal.
+     */
+    private static final ObstacleType[] OBSTACLES = ObstacleType.values();
+
+    /**
+     * Every type of power up, in order of their ordinal.
+     */
+    private static final PowerUpType[] POWER_UPS = PowerUpType.values();
+
+    /**
+     * The race being drawn.
+     */
+    private final Race race;
+
+    /**
+     * The renderers of each boat, ordered so boats with the same texture are next to each other.
+     */
+    private final List<BoatRenderer> boats;
+
+    /**
+     * The textures of each type of obstacle by their ordinal, borrowed the first time one is drawn.
+     */
+    private final TextureRegion[] obstacles;
+
+    /**
+     * The textures of each type of power up by their ordinal, borrowed the first time one is drawn.
+     */
+    private final TextureRegion[] powerUps;
+
+    /**
+     * The water scrolling past behind the race.
+     */
+    private final ScrollingBackground background;
+
+    /**
+     * The separator between each lane.
+     */
+    private Texture barrier;
+
+    /**
+     * Holds the lane separators, which never move on the screen, so they are only laid out when the screen or the
+     * number of lanes changes.
+     */
+    private SpriteCache scenery;
+
+    /**
+     * The id of the lane separators in the scenery cache.
+     */
+    private int separators;
+
+    /**
+     * The width of the screen the scenery was laid out for.
+     */
+    private int sceneryWidth;
+
+    /**
+     * The height of the screen the scenery was laid out for.
+     */
+    private int sceneryHeight;
+
+    /**
+     * The number of lanes the scenery was laid out for.
+     */
+    private int sceneryLanes;
+
+    /**
+     * The texture of the finish line.
+     */
+    private TextureRegion finish;
+
+    /**
+     * Creates a new renderer for a race, borrowing the textures of the background, boats and finish line.
+     *
+     * @param race The race to draw.
+     */
+    public RaceRenderer(Race race) {
+        this.race = race;
+        this.background = new ScrollingBackground();
+        this.barrier = TextureCache.obtain("line.png");
+        this.finish = TextureCache.obtainRegion(race.getFinishLine().getTexture(), EntityType.FINISH);
+        this.obstacles = new TextureRegion[OBSTACLES.length];
+        this.powerUps = new TextureRegion[POWER_UPS.length];
+        this.boats = new ArrayList<BoatRenderer>();
+        this.boats.add(new BoatRenderer(race.getPlayer()));
+        for (Boat boat : race.getBoats()) {
+            this.boats.add(new BoatRenderer(boat));
+        }
+        Collections.sort(this.boats, new Comparator<BoatRenderer>() {
+            @Override
+            public int compare(BoatRenderer a, BoatRenderer b) {
+                return a.getBoat().getTexture().compareTo(b.getBoat().getTexture());
+            }
+        });
+    }
+
+    /**
+     * Render the race.
+     *
+     * @param batch    The SpriteBatch to be added to, which must not have begun.
+     * @param renderer The ShapeRenderer used to draw the shields, which must not have begun.
+     */
+    public void render(SpriteBatch batch, ShapeRenderer renderer) {
+        float cameraY = this.race.getCamera().getRenderY();
+        if (this.scenery == null || this.sceneryWidth != Gdx.graphics.getWidth()
+            || this.sceneryHeight != Gdx.graphics.getHeight() || this.sceneryLanes != this.race.getSettings().getPlayerCount()) {
+            buildScenery();
+        }
+
+        batch.begin();
+        Profiler.start(ProfilerPhase.BACKGROUND);
+        this.background.scrollTo(cameraY);
+        this.background.render(batch);
+        Profiler.stop(ProfilerPhase.BACKGROUND);
+        batch.end();
+
+        this.scenery.setProjectionMatrix(batch.getProjectionMatrix());
+        this.scenery.begin();
+        this.scenery.draw(this.separators);
+        this.scenery.end();
+
+        batch.begin();
+        FinishLine finishLine = this.race.getFinishLine();
+        Vector2 position = finishLine.getRenderPosition();
+        batch.draw(this.finish, position.x, position.y - cameraY, finishLine.getWidth(), this.finish.getRegionHeight());
+
+        for (ObstacleType type : OBSTACLES) {
+            for (int i = 0; i < this.boats.size(); i++) {
+                renderItems(batch, this.boats.get(i).getBoat().getLane().getObstacles(), type, this.obstacles, EntityType.OBSTACLE, cameraY);
+            }
+        }
+        for (PowerUpType type : POWER_UPS) {
+            for (int i = 0; i < this.boats.size(); i++) {
+                renderItems(batch, this.boats.get(i).getBoat().getLane().getPowerUps(), type, this.powerUps, EntityType.POWERUP, cameraY);
+            }
+        }
+
+        for (int i = 0; i < this.boats.size(); i++) {
+            this.boats.get(i).renderBoat(batch, cameraY);
+        }
+        for (int i = 0; i < this.boats.size(); i++) {
+            this.boats.get(i).renderArrow(batch, cameraY);
+        }
+        batch.end();
+
+        renderShields(renderer, cameraY);
+
+        Profiler.start(ProfilerPhase.HUD);
+        batch.begin();
+        for (int row = 0; row < BoatRenderer.HUD_ROWS; row++) {
+            for (int i = 0; i < this.boats.size(); i++) {
+                this.boats.get(i).renderHud(batch, row);
+            }
+        }
+        batch.end();
+        Profiler.stop(ProfilerPhase.HUD);
+    }
+
+    /**
+     * Lay out the lane separators for the current screen size and number of lanes, and scale the background to fit.
+     */
+    private void buildScenery() {
+        this.sceneryWidth = Gdx.graphics.getWidth();
+        this.sceneryHeight = Gdx.graphics.getHeight();
+        this.sceneryLanes = this.race.getSettings().getPlayerCount();
+        if (this.scenery != null) {
+            this.scenery.dispose();
+        }
+        this.scenery = new SpriteCache(this.sceneryLanes, false);
+        this.scenery.beginCache();
+        for (int lane = 0; lane < this.sceneryLanes; lane++) {
+            this.scenery.add(this.barrier, (float) this.sceneryWidth / this.sceneryLanes * lane, 0, 5, this.sceneryHeight,
+                0, 0, this.barrier.getWidth(), this.barrier.getHeight(), false, false);
+        }
+        this.separators = this.scenery.endCache();
+        this.background.resize(this.sceneryWidth);
+    }
+
+    /**
+     * Draw the shield of every boat that has one in a single pass, skipping the pass entirely if none do.
+     *
+     * @param renderer The ShapeRenderer to draw with, which must not have begun.
+     * @param cameraY  The race distance at the bottom of the screen.
+     */
+    private void renderShields(ShapeRenderer renderer, float cameraY) {
+        boolean shielded = false;
+        for (int i = 0; i < this.boats.size(); i++) {
+            shielded |= this.boats.get(i).getBoat().getShield() > 0;
+        }
+        if (!shielded) {
+            return;
+        }
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        renderer.begin(ShapeType.Filled);
+        for (int i = 0; i < this.boats.size(); i++) {
+            this.boats.get(i).renderShield(renderer, cameraY);
+        }
+        renderer.end();
+    }
+
+    /**
+     * Draw every obstacle or power up of one type in a lane at its render position, borrowing the type's texture the
+     * first time one is drawn.
+     *
+     * @param batch    The SpriteBatch to be added to, which must have already begun.
+     * @param items    The obstacles or power ups in the lane.
+     * @param type     The type of item to draw.
+     * @param textures The textures of each type of item by their ordinal.
+     * @param entity   The type of entity the items are.
+     * @param cameraY  The race distance at the bottom of the screen.
+     * @param <T>      The type of the items.
+     */
+    private <T extends Enum<T> & LaneItemType> void renderItems(SpriteBatch batch, LaneItems<T> items, T type, TextureRegion[] textures, EntityType entity, float cameraY) {
+        for (int i = 0; i < items.size(); i++) {
+            int slot = items.slot(i);
+            if (items.getType(slot) != type) {
+                continue;
+            }
+            TextureRegion texture = textures[type.ordinal()];
+            if (texture == null) {
+                texture = TextureCache.obtainRegion(type.getTexture(), entity);
+                textures[type.ordinal()] = texture;
+            }
+            batch.draw(texture, items.getX(slot), items.getRenderY(slot) - cameraY);
+        }
+    }
+
+    /**
+     * Give back every texture borrowed from the {@link TextureCache}.
+     */
+    public void dispose() {
+        for (BoatRenderer boat : this.boats) {
+            boat.dispose();
+        }
+        this.boats.clear();
+        releaseAll(this.obstacles);
+        releaseAll(this.powerUps);
+        this.background.dispose();
+        if (this.scenery != null) {
+            this.scenery.dispose();
+            this.scenery = null;
+        }
+        if (this.barrier != null) {
+            TextureCache.release(this.barrier);
+            TextureCache.release(this.finish);
+            this.barrier = null;
+            this.finish = null;
+        }
+    }
+
+    /**
+     * Give back every texture in an array to the {@link TextureCache}, leaving it empty.
+     *
+     * @param textures The borrowed textures, with null for any that were never borrowed.
+     */
+    private static void releaseAll(TextureRegion[] textures) {
+        for (int i = 0; i < textures.length; i++) {
+            if (textures[i] != null) {
+                TextureCache.release(textures[i]);
+                textures[i] = null;
+            }
+        }
+    }
+}
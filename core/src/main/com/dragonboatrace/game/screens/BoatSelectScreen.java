@@ -5,16 +5,17 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import main.com.dragonboatrace.game.DragonBoatRace;
 import main.com.dragonboatrace.game.entities.Button;
 import main.com.dragonboatrace.game.entities.EntityType;
 import main.com.dragonboatrace.game.entities.boats.BoatType;
 import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.FontCache;
+import main.com.dragonboatrace.game.tools.TextureCache;
 
 /**
  * Displays the screen that allows the player to choose a boat at the beginning of the game.
@@ -26,22 +27,22 @@ public class BoatSelectScreen implements Screen {
     /**
      * Texture of the fast boat preview.
      */
-    private final Texture fastImage;
+    private final TextureRegion fastImage;
 
     /**
      * Texture of the agile boat preview.
      */
-    private final Texture agileImage;
+    private final TextureRegion agileImage;
 
     /**
      * Texture of the strong boat preview.
      */
-    private final Texture strongImage;
+    private final TextureRegion strongImage;
 
     /**
      * Texture of the endurance boat preview.
      */
-    private final Texture enduranceImage;
+    private final TextureRegion enduranceImage;
 
     /**
      * Button to select the fast boat.
@@ -89,17 +90,13 @@ public class BoatSelectScreen implements Screen {
         this.strongButton = new Button(new Vector2(spacing + (buttonWidth + spacing) * 2, 100), "strong_button_active.png", "strong_button_inactive.png");
         this.enduranceButton = new Button(new Vector2(spacing + (buttonWidth + spacing) * 3, 100), "endurance_button_active.png", "endurance_button_inactive.png");
 
-        this.fastImage = new Texture("fast.png");
-        this.agileImage = new Texture("agile.png");
-        this.strongImage = new Texture("strong.png");
-        this.enduranceImage = new Texture("endurance.png");
+        this.fastImage = TextureCache.obtainRegion("fast.png");
+        this.agileImage = TextureCache.obtainRegion("agile.png");
+        this.strongImage = TextureCache.obtainRegion("strong.png");
+        this.enduranceImage = TextureCache.obtainRegion("endurance.png");
 
         /* Font related items */
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("osaka-re.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size *= 10.0 / Config.SCALAR;
-        parameter.color = Color.WHITE;
-        font = generator.generateFont(parameter);
+        font = FontCache.get((int) (FontCache.DEFAULT_SIZE * 10.0 / Config.SCALAR), Color.WHITE);
         layout = new GlyphLayout();
         layout.setText(font, "Choose your Boat:");
 
@@ -177,5 +174,9 @@ public class BoatSelectScreen implements Screen {
 
     @Override
     public void dispose() {
+        TextureCache.release(this.fastImage);
+        TextureCache.release(this.agileImage);
+        TextureCache.release(this.strongImage);
+        TextureCache.release(this.enduranceImage);
     }
 }
@@ -5,16 +5,17 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import main.com.dragonboatrace.game.DragonBoatRace;
 import main.com.dragonboatrace.game.entities.Button;
 import main.com.dragonboatrace.game.entities.EntityType;
 import main.com.dragonboatrace.game.entities.boats.BoatType;
 import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.FontCache;
+import main.com.dragonboatrace.game.tools.TextureCache;
 
 // >>>> Added in assessment 2 <<<<
 /**
@@ -27,17 +28,17 @@ public class DifficultySelectScreen implements Screen {
     /**
      * Image for the easy difficulty.
      */
-    private final Texture easyImage;
+    private final TextureRegion easyImage;
 
     /**
      * Image for the normal difficulty.
      */
-    private final Texture normalImage;
+    private final TextureRegion normalImage;
 
     /**
      * Image for the hard difficulty.
      */
-    private final Texture hardImage;
+    private final TextureRegion hardImage;
 
     /**
      * Button to select the easy difficulty.
@@ -86,16 +87,12 @@ public class DifficultySelectScreen implements Screen {
         this.normalButton = new Button(new Vector2(spacing + (buttonWidth + spacing), 100), "normal_button_active.png", "normal_button_inactive.png");
         this.hardButton = new Button(new Vector2(spacing + (buttonWidth + spacing) * 2, 100), "hard_button_active.png", "hard_button_inactive.png");
 
-        this.easyImage = new Texture("easy.png");
-        this.normalImage = new Texture("normal.png");
-        this.hardImage = new Texture("hard.png");
+        this.easyImage = TextureCache.obtainRegion("easy.png");
+        this.normalImage = TextureCache.obtainRegion("normal.png");
+        this.hardImage = TextureCache.obtainRegion("hard.png");
 
         /* Font related items */
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("osaka-re.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size *= 10.0 / Config.SCALAR;
-        parameter.color = Color.WHITE;
-        font = generator.generateFont(parameter);
+        font = FontCache.get((int) (FontCache.DEFAULT_SIZE * 10.0 / Config.SCALAR), Color.WHITE);
         layout = new GlyphLayout();
         layout.setText(font, "Choose difficulty:");
 
@@ -169,5 +166,8 @@ public class DifficultySelectScreen implements Screen {
 
     @Override
     public void dispose() {
+        TextureCache.release(this.easyImage);
+        TextureCache.release(this.normalImage);
+        TextureCache.release(this.hardImage);
     }
 }
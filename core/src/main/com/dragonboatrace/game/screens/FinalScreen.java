@@ -7,13 +7,13 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.math.Vector2;
 import main.com.dragonboatrace.game.DragonBoatRace;
 import main.com.dragonboatrace.game.entities.boats.Boat;
 import main.com.dragonboatrace.game.entities.boats.BoatType;
 import main.com.dragonboatrace.game.entities.boats.PlayerBoat;
 import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.FontCache;
 import main.com.dragonboatrace.game.tools.Lane;
 
 /**
@@ -44,14 +44,10 @@ public class FinalScreen implements Screen {
      */
     public FinalScreen(DragonBoatRace game, BoatType boatChosen) {
         this.game = game;
-        this.playerBoat = new PlayerBoat(boatChosen, new Lane(new Vector2(0, 0), Gdx.graphics.getWidth() /  Config.PLAYER_COUNT, this.game.getRound()), "Player");
+        this.playerBoat = new PlayerBoat(boatChosen, new Lane(new Vector2(0, 0), Gdx.graphics.getWidth() / Config.PLAYER_COUNT, Gdx.graphics.getHeight(), this.game.getRound()), "Player");
 
         /* Font related items */
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("osaka-re.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size *= 5 / Config.SCALAR;
-        parameter.color = Color.WHITE;
-        this.font = generator.generateFont(parameter);
+        this.font = FontCache.get(FontCache.DEFAULT_SIZE * (5 / Config.SCALAR), Color.WHITE);
 
         this.layout = new GlyphLayout();
     }
@@ -7,9 +7,9 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import main.com.dragonboatrace.game.DragonBoatRace;
 import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.FontCache;
 
 /**
  * Displays the screen that shows the end of the game. This can be one of 3 situations: <ul>
@@ -46,22 +46,16 @@ public class GameOverScreen implements Screen {
         this.game = game;
         this.reason = reason;
         /* Font related items */
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("osaka-re.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 75 / Config.SCALAR;
-        parameter.color = Color.WHITE;
-        this.font = generator.generateFont(parameter);
-        this.leaderBoardFont = generator.generateFont(parameter);
+        this.font = FontCache.get(75 / Config.SCALAR, Color.WHITE);
+        this.leaderBoardFont = this.font;
         this.layout = new GlyphLayout();
-        parameter.size = 75 / Config.SCALAR;
         layout.setText(leaderBoardFont, this.reason);
         if (layout.height > Gdx.graphics.getHeight()/2f) {
             int a = 75/Config.SCALAR;
             int c = Gdx.graphics.getHeight()/2;
             float b = layout.height / c;
 
-            parameter.size =  (int)(a/b) ;
-            leaderBoardFont = generator.generateFont(parameter);
+            leaderBoardFont = FontCache.get((int) (a / b), Color.WHITE);
             layout.setText(leaderBoardFont, this.reason);
         }
     }
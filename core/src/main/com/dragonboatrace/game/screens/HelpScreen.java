@@ -9,10 +9,12 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import main.com.dragonboatrace.game.entities.Button;
 import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.FontCache;
+import main.com.dragonboatrace.game.tools.TextureCache;
 
 /**
  * Displays the screen that shows how to play the game.
@@ -62,7 +64,7 @@ public class HelpScreen implements Screen {
     /**
      * Scroll down indicator.
      */
-    private final Texture downArrow;
+    private final TextureRegion downArrow;
 
     /**
      * GlyphLayout used for centering fonts
@@ -89,13 +91,9 @@ public class HelpScreen implements Screen {
         this.padding = 200 / Config.SCALAR;
         this.minHeight = padding;
 
-        this.downArrow = new Texture(Gdx.files.local("down_arrow.png"));
+        this.downArrow = TextureCache.obtainRegion("down_arrow.png");
 
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("osaka-re.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size *= 3.0 / Config.SCALAR;
-        parameter.color = Color.RED;
-        this.font = generator.generateFont(parameter);
+        this.font = FontCache.get((int) (FontCache.DEFAULT_SIZE * 3.0 / Config.SCALAR), Color.RED);
         this.layout = new GlyphLayout();
         layout.setText(font, "Scroll Down");
 
@@ -208,6 +206,6 @@ public class HelpScreen implements Screen {
 
     @Override
     public void dispose() {
-
+        TextureCache.release(this.downArrow);
     }
 }
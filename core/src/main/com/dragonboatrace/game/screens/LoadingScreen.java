@@ -0,0 +1,102 @@
+package main.com.dragonboatrace.game.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import main.com.dragonboatrace.game.DragonBoatRace;
+import main.com.dragonboatrace.game.tools.Assets;
+import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.GameConfig;
+
+/**
+ * Shown when the game first starts while {@link Assets} loads every image, then moves on to the main menu.
+ * <p>
+ * Each frame only spends {@link GameConfig#ASSET_LOAD_BUDGET} milliseconds loading, so the progress bar keeps moving.
+ */
+public class LoadingScreen implements Screen {
+
+    /**
+     * The colour of the part of the progress bar still to load.
+     */
+    private static final Color EMPTY_COLOR = new Color(0, 0, 0.5f, 1);
+
+    /**
+     * The colour of the part of the progress bar that has loaded.
+     */
+    private static final Color FILLED_COLOR = Color.WHITE;
+
+    /**
+     * The instance of the game.
+     */
+    private final DragonBoatRace game;
+
+    /**
+     * Creates a new screen that starts loading the game.
+     *
+     * @param game The instance of the game.
+     */
+    public LoadingScreen(DragonBoatRace game) {
+        this.game = game;
+        Assets.load();
+    }
+
+    @Override
+    public void show() {
+
+    }
+
+    /**
+     * Load for this frame's budget, then draw how far loading has got.
+     *
+     * @param delta The time passed since the last frame.
+     */
+    public void render(float delta) {
+        if (Assets.update(GameConfig.ASSET_LOAD_BUDGET)) {
+            this.game.setScreen(new MainMenuScreen(this.game));
+            return;
+        }
+
+        Gdx.gl.glClearColor(0, 0, 1, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float width = Gdx.graphics.getWidth() / 2f;
+        float height = 40f / Config.SCALAR;
+        float x = (Gdx.graphics.getWidth() - width) / 2;
+        float y = (Gdx.graphics.getHeight() - height) / 2;
+        ShapeRenderer renderer = this.game.getRenderer();
+        renderer.begin(ShapeType.Filled);
+        renderer.setColor(EMPTY_COLOR);
+        renderer.rect(x, y, width, height);
+        renderer.setColor(FILLED_COLOR);
+        renderer.rect(x, y, width * Assets.getProgress(), height);
+        renderer.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+
+    }
+
+    @Override
+    public void pause() {
+
+    }
+
+    @Override
+    public void resume() {
+
+    }
+
+    @Override
+    public void hide() {
+
+    }
+
+    @Override
+    public void dispose() {
+
+    }
+}
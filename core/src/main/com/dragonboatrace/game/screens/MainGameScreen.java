@@ -1,6 +1,11 @@
 package main.com.dragonboatrace.game.screens;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
@@ -10,7 +15,6 @@ import com.badlogic.gdx.graphics.FPSLogger;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.badlogic.gdx.utils.Timer;
 import com.badlogic.gdx.math.Vector2;
@@ -18,12 +22,22 @@ import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.files.FileHandle;
 import main.com.dragonboatrace.game.DragonBoatRace;
+import main.com.dragonboatrace.game.entities.boats.Boat;
 import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.entities.boats.PlayerBoat;
 import main.com.dragonboatrace.game.entities.Button;
 import main.com.dragonboatrace.game.entities.EntityType;
+import main.com.dragonboatrace.game.renderers.DebugOverlay;
+import main.com.dragonboatrace.game.renderers.ProfilerOverlay;
+import main.com.dragonboatrace.game.renderers.RaceRenderer;
 import main.com.dragonboatrace.game.tools.Race;
-import main.com.dragonboatrace.game.tools.ScrollingBackground;
+import main.com.dragonboatrace.game.tools.RaceRandom;
+import main.com.dragonboatrace.game.tools.RaceSettings;
 import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.GameConfig;
+import main.com.dragonboatrace.game.tools.FontCache;
+import main.com.dragonboatrace.game.tools.Profiler;
+import main.com.dragonboatrace.game.tools.ProfilerPhase;
 
 
 /**
@@ -33,6 +47,21 @@ import main.com.dragonboatrace.game.tools.Config;
  */
 public class MainGameScreen implements Screen {
 
+    /**
+     * The colour the race is shaded with while paused.
+     */
+    private static final Color PAUSE_SHADE = new Color(0, 0, 0, 0.5f);
+
+    /**
+     * The time scale the race runs at in slow motion, toggled with F5.
+     */
+    private static final float SLOW_MOTION = 0.25f;
+
+    /**
+     * The time scale the race runs at when fast forwarded to spectate, toggled with F6.
+     */
+    private static final float FAST_FORWARD = 8;
+
     /**
      * The game instance.
      */
@@ -46,13 +75,21 @@ public class MainGameScreen implements Screen {
      */
     private final Race race;
     /**
-     * The background of the window.
+     * Draws the race.
      */
-    private final ScrollingBackground background;
+    private final RaceRenderer raceRenderer;
     /**
      * Use to log the FPS for debugging.
      */
     private final FPSLogger logger;
+    /**
+     * Shows how long each part of a frame takes, toggled with F3.
+     */
+    private final ProfilerOverlay profilerOverlay;
+    /**
+     * Outlines the hit boxes in the race, toggled with F4.
+     */
+    private final DebugOverlay debugOverlay;
     /**
      * GlyphLayout used for centering fonts
      */
@@ -114,10 +151,12 @@ public class MainGameScreen implements Screen {
         this.game = game;
 
         this.logger = new FPSLogger();
+        this.profilerOverlay = new ProfilerOverlay();
 
-        this.race = new Race(20000 + (2000 * Config.GAME_DIFFICULTY), boatChosen, this.game.getRound());
-        this.background = new ScrollingBackground();
-        this.background.resize(Gdx.graphics.getWidth());
+        RaceSettings settings = RaceSettings.defaults();
+        this.race = new Race(20000 + (2000 * settings.getDifficulty()), boatChosen, this.game.getRound(), RaceRandom.unseeded().getSeed(), Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), settings);
+        this.raceRenderer = new RaceRenderer(this.race);
+        this.debugOverlay = new DebugOverlay(this.race);
 
         // >>>> Added in assessment 2 <<<<
         this.saveButton = new Button(new Vector2((Gdx.graphics.getWidth() - EntityType.BUTTON.getWidth()) / 2.0f, Gdx.graphics.getHeight() * 0.5f), "save_button_active.png", "save_button_inactive.png");
@@ -130,13 +169,8 @@ public class MainGameScreen implements Screen {
         this.slot3Button = new Button(new Vector2((Gdx.graphics.getWidth() - EntityType.BUTTON.getWidth()) / 2.0f, Gdx.graphics.getHeight() * 0.3f), "slot3_button_active.png", "slot3_button_inactive.png");
 
         /* Font related items */
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("osaka-re.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size *= 10.0 / Config.SCALAR;
-        parameter.color = Color.BLACK;
-        this.font = generator.generateFont(parameter);
-        parameter.color = Color.WHITE;
-        this.fontWhite = generator.generateFont(parameter); 
+        this.font = FontCache.get((int) (FontCache.DEFAULT_SIZE * 10.0 / Config.SCALAR), Color.BLACK);
+        this.fontWhite = FontCache.get((int) (FontCache.DEFAULT_SIZE * 10.0 / Config.SCALAR), Color.WHITE);
         this.layout = new GlyphLayout();
 
         /* Countdown initialisation */
@@ -178,10 +212,11 @@ public class MainGameScreen implements Screen {
         this.game = game;
 
         this.logger = new FPSLogger();
-        Config.setGameDifficulty(data.getInt("difficulty"));
-        this.race = new Race(data.get("race"));
-        this.background = new ScrollingBackground();
-        this.background.resize(Gdx.graphics.getWidth());
+        this.profilerOverlay = new ProfilerOverlay();
+        /* Saves from before the rules were saved with the race only hold the difficulty */
+        this.race = new Race(data.get("race"), RaceSettings.defaults().withDifficulty(data.getInt("difficulty", Config.GAME_DIFFICULTY)));
+        this.raceRenderer = new RaceRenderer(this.race);
+        this.debugOverlay = new DebugOverlay(this.race);
 
         this.saveButton = new Button(new Vector2((Gdx.graphics.getWidth() - EntityType.BUTTON.getWidth()) / 2.0f, Gdx.graphics.getHeight() * 0.5f), "save_button_active.png", "save_button_inactive.png");
         this.mainMenuButton = new Button(new Vector2((Gdx.graphics.getWidth() - EntityType.BUTTON.getWidth()) / 2.0f, Gdx.graphics.getHeight() * 0.4f), "main_menu_button_active.png", "main_menu_button_inactive.png");
@@ -192,13 +227,8 @@ public class MainGameScreen implements Screen {
         this.slot3Button = new Button(new Vector2((Gdx.graphics.getWidth() - EntityType.BUTTON.getWidth()) / 2.0f, Gdx.graphics.getHeight() * 0.3f), "slot3_button_active.png", "slot3_button_inactive.png");
 
         /* Font related items */
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("osaka-re.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size *= 10.0 / Config.SCALAR;
-        parameter.color = Color.BLACK;
-        this.font = generator.generateFont(parameter);
-        parameter.color = Color.WHITE;
-        this.fontWhite = generator.generateFont(parameter); 
+        this.font = FontCache.get((int) (FontCache.DEFAULT_SIZE * 10.0 / Config.SCALAR), Color.BLACK);
+        this.fontWhite = FontCache.get((int) (FontCache.DEFAULT_SIZE * 10.0 / Config.SCALAR), Color.WHITE);
         this.layout = new GlyphLayout();
 
         /* Countdown initialisation */
@@ -234,6 +264,17 @@ public class MainGameScreen implements Screen {
      */
     public void show() {
         timer.start();
+        /* The time since the last race frame was spent on other screens */
+        Profiler.discardFrame();
+    }
+
+    /**
+     * Switch the race to a time scale, or back to normal speed if it is already running at it.
+     *
+     * @param timeScale The number of seconds of the race to simulate each second.
+     */
+    private void toggleTimeScale(float timeScale) {
+        this.race.setTimeScale(this.race.getTimeScale() == timeScale ? 1 : timeScale);
     }
 
     // >>>> Modified in assessment 2 <<<<
@@ -243,6 +284,20 @@ public class MainGameScreen implements Screen {
      * @param deltaTime The time since the last frame.
      */
     public void render(float deltaTime) {
+        Profiler.endFrame();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            this.profilerOverlay.toggle();
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) {
+            this.debugOverlay.toggle();
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F5)) {
+            toggleTimeScale(SLOW_MOTION);
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F6)) {
+            toggleTimeScale(FAST_FORWARD);
+        }
+
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         
@@ -255,19 +310,132 @@ public class MainGameScreen implements Screen {
         }
         if (!paused) {
             this.logger.log();
-            this.background.update(deltaTime * this.race.getPlayer().getVelocity().y);
-            this.background.render(game.getBatch());
-            this.race.update(deltaTime, this.game);
-            this.race.render(game.getBatch(), game.getRenderer());
+            this.race.getPlayer().setControls(
+                Gdx.input.isKeyPressed(Input.Keys.LEFT) || Gdx.input.isKeyPressed(Input.Keys.A),
+                Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D),
+                Gdx.input.isKeyPressed(Input.Keys.UP) || Gdx.input.isKeyPressed(Input.Keys.W)
+            );
+            this.race.advance(deltaTime);
+            if (this.race.isFinished()) {
+                endRace();
+                return;
+            }
+            renderRace();
         } else if (this.countDownRemaining >= 0) {
-            this.background.render(game.getBatch());
-            this.race.render(game.getBatch(), game.getRenderer());
+            renderRace();
             displayCountDown();
         } else {
-            this.background.render(game.getBatch());
-            this.race.render(game.getBatch(), game.getRenderer());
+            renderRace();
             renderPaused();
         }
+        this.profilerOverlay.render(game.getBatch(), deltaTime);
+    }
+
+    /**
+     * Render the race, including the background scrolled to where the race is being viewed from, and the hit boxes
+     * over it if they are being shown.
+     */
+    private void renderRace() {
+        Profiler.start(ProfilerPhase.RENDER);
+        this.raceRenderer.render(game.getBatch(), game.getRenderer());
+        this.debugOverlay.render(game.getRenderer());
+        Profiler.stop(ProfilerPhase.RENDER);
+    }
+
+    /**
+     * Leave the race once it has finished, either because the player's boat broke or because they crossed the line.
+     */
+    private void endRace() {
+        this.raceRenderer.dispose();
+        if (this.race.getPlayer().isDead()) {
+            this.game.setScreen(new GameOverScreen(this.game, "Your boat is broken. Better luck next time!"));
+        } else {
+            showLeaderBoard();
+        }
+    }
+
+    /**
+     * Generate the leaderboard from the race that just occurred and then show the next round screen.
+     */
+    private void showLeaderBoard() {
+        PlayerBoat player = this.race.getPlayer();
+        List<Boat> boats = new ArrayList<Boat>(this.race.getBoats());
+        List<Float> times = new ArrayList<Float>();
+        String reason = "";
+
+        times.add(player.getTime());
+        for (Boat boatN : boats) {
+            times.add(boatN.getTime());
+        }
+
+        game.setPlayerTotalTime(times.get(0));
+        for (int i = 0; i < this.race.getSettings().getPlayerCount(); i++) {
+            game.setTimeAt(i, times.get(i));
+        }
+        boats.add(player);
+        Collections.sort(times);
+        List<Float> dup = new ArrayList<Float>(findDuplicates(times));
+        if (dup.size() != 0) {
+            times.set(times.indexOf(dup.get(0)), (float) (times.get(times.indexOf(dup.get(0))) + 0.02));
+        }
+
+        for (float time : times) {
+            for (Boat boatN : boats) {
+                if (boatN.getTime() == time) {
+                    switch (times.indexOf(time) + 1) {
+                        case 1:
+                            if (game.getRound() == 4) {
+                                reason += "Gold Medal:      " + boatN.getName() + "\n";
+                            } else {
+                                reason += "1st: " + boatN.getName() + "\n";
+                            }
+                            break;
+                        case 2:
+                            if (game.getRound() == 4) {
+                                reason += "Silver Medal:    " + boatN.getName() + "\n";
+                            } else {
+                                reason += "2nd: " + boatN.getName() + "\n";
+                            }
+                            break;
+                        case 3:
+                            if (game.getRound() == 4) {
+                                reason += "Bronze Medal:    " + boatN.getName() + "\n";
+                            } else {
+                                reason += "3rd: " + boatN.getName() + "\n";
+                            }
+                            break;
+                        default:
+                            if (game.getRound() != 4) {
+                                reason += times.indexOf(time) + 1 + "th: " + boatN.getName() + "\n";
+                            }
+                    }
+                }
+            }
+        }
+        game.upRound();
+        if (game.getRound() != 5) {
+            game.setScreen(new RoundsScreen(game, player, reason));
+        } else {
+            game.setScreen(new GameOverScreen(game, reason));
+        }
+    }
+
+    /**
+     * Find any duplicates in an arraylist of floats.
+     *
+     * @param list An {@link ArrayList} of floats to be combed through.
+     * @return An {@link Set} of type float containing unique values.
+     */
+    private Set<Float> findDuplicates(List<Float> list) {
+        final Set<Float> setToReturn = new HashSet<Float>();
+        final Set<Float> set1 = new HashSet<Float>();
+
+        for (Float yourFloat : list) {
+            if (!set1.add(yourFloat)) {
+                setToReturn.add(yourFloat);
+            }
+        }
+        return setToReturn;
     }
 
     /**
@@ -288,7 +456,7 @@ public class MainGameScreen implements Screen {
         Gdx.gl.glEnable(GL20.GL_BLEND);
         Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
         this.game.getRenderer().begin(ShapeType.Filled);
-		this.game.getRenderer().setColor(new Color(0, 0, 0, 0.5f));
+		this.game.getRenderer().setColor(PAUSE_SHADE);
 		this.game.getRenderer().rect(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         this.game.getRenderer().end();
 
@@ -303,6 +471,8 @@ public class MainGameScreen implements Screen {
             }
             this.mainMenuButton.render(this.game.getBatch());
             if (this.mainMenuButton.isHovering() && Gdx.input.isButtonJustPressed(0)) {
+                /* Give back the textures the race borrowed, as it is abandoned without ending */
+                this.raceRenderer.dispose();
                 this.game.setScreen(new MainMenuScreen(this.game));
             }
             this.exitButton.render(this.game.getBatch());
@@ -312,24 +482,24 @@ public class MainGameScreen implements Screen {
         } else {
             this.slot1Button.render(this.game.getBatch());
             if (this.slot1Button.isHovering() && Gdx.input.isButtonJustPressed(0)) {
-                if (Config.SAVE_FILE_LOCATION != null) {
-                    FileHandle saveFile = new FileHandle(new File(String.format("%s/dragonBoatSave-1.json", Config.SAVE_FILE_LOCATION)));
+                if (GameConfig.SAVE_FILE_LOCATION != null) {
+                    FileHandle saveFile = new FileHandle(new File(String.format("%s/dragonBoatSave-1.json", GameConfig.SAVE_FILE_LOCATION)));
                     saveFile.writeString(new JsonReader().parse(this.toJson()).toString(), false);
                     this.saving = false;
                 }
             }
             this.slot2Button.render(this.game.getBatch());
             if (this.slot2Button.isHovering() && Gdx.input.isButtonJustPressed(0)) {
-                if (Config.SAVE_FILE_LOCATION != null) {
-                    FileHandle saveFile = new FileHandle(new File(String.format("%s/dragonBoatSave-2.json", Config.SAVE_FILE_LOCATION)));
+                if (GameConfig.SAVE_FILE_LOCATION != null) {
+                    FileHandle saveFile = new FileHandle(new File(String.format("%s/dragonBoatSave-2.json", GameConfig.SAVE_FILE_LOCATION)));
                     saveFile.writeString(new JsonReader().parse(this.toJson()).toString(), false);
                     this.saving = false;
                 }
             }
             this.slot3Button.render(this.game.getBatch());
             if (this.slot3Button.isHovering() && Gdx.input.isButtonJustPressed(0)) {
-                if (Config.SAVE_FILE_LOCATION != null) {
-                    FileHandle saveFile = new FileHandle(new File(String.format("%s/dragonBoatSave-3.json", Config.SAVE_FILE_LOCATION)));
+                if (GameConfig.SAVE_FILE_LOCATION != null) {
+                    FileHandle saveFile = new FileHandle(new File(String.format("%s/dragonBoatSave-3.json", GameConfig.SAVE_FILE_LOCATION)));
                     saveFile.writeString(new JsonReader().parse(this.toJson()).toString(), false);
                     this.saving = false;
                 }
@@ -368,7 +538,7 @@ public class MainGameScreen implements Screen {
     // >>>> Added in assessment 2 <<<<
     public String toJson() {
         return String.format("{difficulty: %d, race:%s}",
-            Config.GAME_DIFFICULTY,
+            this.race.getSettings().getDifficulty(),
             this.race.toJson()
         );
     }
@@ -6,7 +6,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.JsonReader;
@@ -15,6 +15,8 @@ import main.com.dragonboatrace.game.DragonBoatRace;
 import main.com.dragonboatrace.game.entities.Button;
 import main.com.dragonboatrace.game.entities.EntityType;
 import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.GameConfig;
+import main.com.dragonboatrace.game.tools.TextureCache;
 
 /**
  * Represents the Main Menu where the game first starts.
@@ -75,7 +77,7 @@ public class MainMenuScreen implements Screen {
     /**
      * The texture of the main logo.
      */
-    private final Texture logo;
+    private final TextureRegion logo;
 
     // >>>> Modified in assessment 2 <<<<
     /**
@@ -90,7 +92,7 @@ public class MainMenuScreen implements Screen {
         this.saveGameSlot = new boolean[3];
         for (int i = 0; i < 3; i++) {
             this.saveGameSlot[i] = new File(
-                    String.format("%s/dragonBoatSave-%d.json", Config.SAVE_FILE_LOCATION, i + 1)).exists();
+                    String.format("%s/dragonBoatSave-%d.json", GameConfig.SAVE_FILE_LOCATION, i + 1)).exists();
             this.saveGame = this.saveGame || this.saveGameSlot[i];
         }
 
@@ -122,7 +124,7 @@ public class MainMenuScreen implements Screen {
                 this.saveGameSlot[2] ? "slot3_button_active.png" : "slot3_button_disabled.png",
                 this.saveGameSlot[2] ? "slot3_button_inactive.png" : "slot3_button_disabled.png");
 
-        this.logo = new Texture("dragon.png");
+        this.logo = TextureCache.obtainRegion("dragon.png");
         logoXOffset = 680f / Config.SCALAR;
         logoYOffset = 600f / Config.SCALAR;
     }
@@ -197,7 +199,7 @@ public class MainMenuScreen implements Screen {
      */
     private void loadGame(int save) {
         FileHandle saveFile = new FileHandle(
-                new File(String.format("%s/dragonBoatSave-%d.json", Config.SAVE_FILE_LOCATION, save)));
+                new File(String.format("%s/dragonBoatSave-%d.json", GameConfig.SAVE_FILE_LOCATION, save)));
         JsonValue jsonData = new JsonReader().parse(saveFile.readString());
         int round = jsonData.get("race").getInt("round");
         this.game.setRound(round);
@@ -223,7 +225,7 @@ public class MainMenuScreen implements Screen {
 
     @Override
     public void dispose() {
-
+        TextureCache.release(this.logo);
     }
 
 }
@@ -7,10 +7,10 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import main.com.dragonboatrace.game.DragonBoatRace;
 import main.com.dragonboatrace.game.entities.boats.Boat;
 import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.FontCache;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -61,13 +61,8 @@ public class RoundsScreen implements Screen {
         this.playerBoat = playerBoat;
         this.reason = reason;
 
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("osaka-re.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 75 / Config.SCALAR;
-        parameter.color = Color.WHITE;
-
-        this.font = generator.generateFont(parameter);
-        this.leaderBoardFont = generator.generateFont(parameter);
+        this.font = FontCache.get(75 / Config.SCALAR, Color.WHITE);
+        this.leaderBoardFont = this.font;
         this.layout = new GlyphLayout();
 
         layout.setText(leaderBoardFont, this.reason);
@@ -78,8 +73,7 @@ public class RoundsScreen implements Screen {
             int a = 75 / Config.SCALAR;
             int c = Gdx.graphics.getHeight() / 2;
             float b = layout.height / c;
-            parameter.size = (int) (a / b);
-            leaderBoardFont = generator.generateFont(parameter);
+            leaderBoardFont = FontCache.get((int) (a / b), Color.WHITE);
             layout.setText(leaderBoardFont, this.reason);
         }
     }
@@ -0,0 +1,264 @@
+package main.com.dragonboatrace.game.tools;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.TimeUtils;
+import main.com.dragonboatrace.game.entities.EntityType;
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.entities.PowerUpType;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Preloads the images used by the game before the main menu is shown.
+ * <p>
+ * Every image is queued with an {@link AssetManager} as a {@link Pixmap}, so the files are read and decoded on the
+ * manager's background thread. Once decoded, each texture the screens and races use is uploaded into the
+ * {@link TextureCache} one at a time, a few each frame, so the loading screen keeps drawing while the GPU is busy.
+ * The {@link TextureCache} then builds any texture it is missing from the decoded images rather than from the files.
+ * <p>
+ * If the images have been packed into atlases by the desktop {@code packTextures} task, the atlases are loaded instead
+ * of the images in them, and {@link TextureCache#obtainRegion(String, int, int)} hands out their regions.
+ * <p>
+ * The help screen image is left out, it is far larger than everything else put together and is only needed if the
+ * help screen is opened.
+ */
+public class Assets {
+
+    /**
+     * The names of the buttons that have an active and inactive image.
+     */
+    private static final String[] BUTTONS = {"play", "help", "load", "exit", "slot1", "slot2", "slot3", "back",
+        "main_menu", "save", "settings", "fast", "agile", "strong", "endurance", "easy", "normal", "hard"};
+
+    /**
+     * The names of the buttons that also have a disabled image.
+     */
+    private static final String[] DISABLED_BUTTONS = {"load", "slot1", "slot2", "slot3"};
+
+    /**
+     * The images drawn at their own size.
+     */
+    private static final String[] IMAGES = {"dragon.png", "fast.png", "agile.png", "strong.png", "endurance.png",
+        "easy.png", "normal.png", "hard.png", "up_arrow.png", "down_arrow.png", "background.png", "line.png"};
+
+    /**
+     * The atlases made by the desktop {@code packTextures} task, one for the menus and one for the race.
+     */
+    private static final String[] ATLASES = {"atlas/menus.atlas", "atlas/race.atlas"};
+
+    /**
+     * The names of the images packed into any of the atlases, without their extension.
+     */
+    private static final Set<String> packed = new HashSet<String>();
+
+    /**
+     * Loads and decodes the images in the background.
+     */
+    private static AssetManager manager;
+
+    /**
+     * The steps that upload each texture or generate each font, run once the images are decoded.
+     */
+    private static final List<Runnable> uploads = new ArrayList<Runnable>();
+
+    /**
+     * The number of uploads that have been run.
+     */
+    private static int uploaded = 0;
+
+    /**
+     * Start loading every image in the background and queue the uploads to run once they are decoded.
+     */
+    public static void load() {
+        if (manager != null) {
+            return;
+        }
+        manager = new AssetManager();
+        uploads.clear();
+        uploaded = 0;
+        packed.clear();
+        for (String atlas : ATLASES) {
+            FileHandle file = Gdx.files.internal(atlas);
+            if (file.exists()) {
+                manager.load(atlas, TextureAtlas.class);
+                /* Only the text of the atlas is read here, so the images in it are not loaded on their own as well */
+                for (TextureAtlas.TextureAtlasData.Region region : new TextureAtlas.TextureAtlasData(file, file.parent(), false).getRegions()) {
+                    packed.add(region.name);
+                }
+            }
+        }
+        for (String button : BUTTONS) {
+            queue(button + "_button_active.png", EntityType.BUTTON.getWidth(), EntityType.BUTTON.getHeight());
+            queue(button + "_button_inactive.png", EntityType.BUTTON.getWidth(), EntityType.BUTTON.getHeight());
+        }
+        for (String button : DISABLED_BUTTONS) {
+            queue(button + "_button_disabled.png", EntityType.BUTTON.getWidth(), EntityType.BUTTON.getHeight());
+        }
+        for (String image : IMAGES) {
+            queue(image, 0, 0);
+        }
+        queue("finish.png", EntityType.FINISH.getWidth(), EntityType.FINISH.getHeight());
+        for (BoatType type : BoatType.values()) {
+            queue(type.getImageSrc(), EntityType.BOAT.getWidth(), EntityType.BOAT.getHeight());
+        }
+        for (ObstacleType type : ObstacleType.values()) {
+            queue(type.getTexture(), EntityType.OBSTACLE.getWidth(), EntityType.OBSTACLE.getHeight());
+        }
+        for (PowerUpType type : PowerUpType.values()) {
+            queue(type.getTexture(), EntityType.POWERUP.getWidth(), EntityType.POWERUP.getHeight());
+        }
+        /* The title font of the rounds and game over screens */
+        uploads.add(new Runnable() {
+            @Override
+            public void run() {
+                FontCache.get(75 / Config.SCALAR, Color.WHITE);
+            }
+        });
+    }
+
+    /**
+     * Queue an image to be decoded and then uploaded at a given size.
+     *
+     * @param path   The path of the image.
+     * @param width  The width to upload it at, or 0 to keep the size of the image.
+     * @param height The height to upload it at, or 0 to keep the size of the image.
+     */
+    private static void queue(final String path, final int width, final int height) {
+        if (packed.contains(nameOf(path))) {
+            return;
+        }
+        if (!manager.isLoaded(path, Pixmap.class) && !manager.contains(path, Pixmap.class)) {
+            manager.load(path, Pixmap.class);
+        }
+        uploads.add(new Runnable() {
+            @Override
+            public void run() {
+                /* Nothing is holding it yet, the cache keeps it until it is borrowed */
+                TextureCache.release(TextureCache.obtain(path, width, height));
+            }
+        });
+    }
+
+    /**
+     * Carry on loading for up to a given amount of time.
+     * <p>
+     * While images are still being decoded, the manager waits up to the budget for them. After that, uploads are run
+     * until the budget is spent, at least one each frame so loading always moves on.
+     *
+     * @param millis The number of milliseconds that can be spent this frame.
+     * @return A boolean of if everything has been loaded.
+     */
+    public static boolean update(int millis) {
+        long end = TimeUtils.millis() + millis;
+        if (!manager.update(millis)) {
+            return false;
+        }
+        while (uploaded < uploads.size()) {
+            uploads.get(uploaded++).run();
+            if (TimeUtils.millis() >= end) {
+                break;
+            }
+        }
+        return isFinished();
+    }
+
+    /**
+     * If every image has been decoded and uploaded.
+     *
+     * @return A boolean of if loading has finished.
+     */
+    public static boolean isFinished() {
+        return manager != null && manager.isFinished() && uploaded == uploads.size();
+    }
+
+    /**
+     * Get how far through loading the game is, decoding and uploading counting for half each.
+     *
+     * @return A float from 0 to 1 of the fraction loaded.
+     */
+    public static float getProgress() {
+        if (manager == null) {
+            return 0;
+        }
+        float uploadProgress = uploads.isEmpty() ? 1 : (float) uploaded / uploads.size();
+        return (manager.getProgress() + uploadProgress) / 2;
+    }
+
+    /**
+     * Get the number of textures and fonts waiting to be uploaded.
+     *
+     * @return An int of how many uploads have not been run yet.
+     */
+    public static int getRemainingUploads() {
+        return uploads.size() - uploaded;
+    }
+
+    /**
+     * Get an image that has already been decoded.
+     *
+     * @param path The path of the image.
+     * @return The decoded image, which must not be disposed by the caller, or null if it has not been loaded.
+     */
+    public static Pixmap getPixmap(String path) {
+        if (manager == null || !manager.isLoaded(path, Pixmap.class)) {
+            return null;
+        }
+        return manager.get(path, Pixmap.class);
+    }
+
+    /**
+     * Get the region of an image from the atlas it was packed into.
+     *
+     * @param path The path of the image.
+     * @return The region of the image, or null if it is not in any loaded atlas.
+     */
+    public static TextureRegion findRegion(String path) {
+        if (manager == null || packed.isEmpty()) {
+            return null;
+        }
+        String name = nameOf(path);
+        for (String atlas : ATLASES) {
+            if (manager.isLoaded(atlas, TextureAtlas.class)) {
+                TextureRegion region = manager.get(atlas, TextureAtlas.class).findRegion(name);
+                if (region != null) {
+                    return region;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the name an image is packed under, which is its path without the extension.
+     *
+     * @param path The path of the image.
+     * @return The name of the image in an atlas.
+     */
+    private static String nameOf(String path) {
+        int extension = path.lastIndexOf('.');
+        return extension == -1 ? path : path.substring(0, extension);
+    }
+
+    /**
+     * Dispose of every decoded image and atlas, anything loaded afterwards is decoded when it is used.
+     */
+    public static void dispose() {
+        if (manager != null) {
+            manager.dispose();
+            manager = null;
+        }
+        uploads.clear();
+        uploaded = 0;
+        packed.clear();
+    }
+}
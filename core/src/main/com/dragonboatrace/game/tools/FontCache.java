@@ -0,0 +1,199 @@
+package main.com.dragonboatrace.game.tools;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A cache of the fonts used by the game, shared by every screen and boat.
+ * <p>
+ * By default all fonts are generated from one {@link FreeTypeFontGenerator}. Fonts are kept by their size, colours,
+ * border and the characters they contain, so a font is only rasterized the first time it is asked for. Everything is
+ * freed with {@link #dispose()} when the game closes.
+ */
+public class FontCache {
+
+    /**
+     * The font file every font is generated from.
+     */
+    public static final String FONT_FILE = "osaka-re.ttf";
+
+    /**
+     * The size of a font when no size is given, the same as {@link FreeTypeFontGenerator.FreeTypeFontParameter}.
+     */
+    public static final int DEFAULT_SIZE = 16;
+
+    /**
+     * The characters that are generated when no characters are given.
+     */
+    public static final String DEFAULT_CHARACTERS = FreeTypeFontGenerator.DEFAULT_CHARS;
+
+    /**
+     * The digits and signs needed to show a number.
+     */
+    public static final String NUMBER_CHARACTERS = "0123456789-.";
+
+    /**
+     * The characters needed to show a name made of letters and numbers.
+     */
+    public static final String NAME_CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 ";
+
+    /**
+     * The fonts that have already been generated.
+     */
+    private static final Map<String, BitmapFont> fonts = new HashMap<String, BitmapFont>();
+
+    /**
+     * Used to create fonts that are not in the cache yet.
+     */
+    private static Generator generator = new FreeTypeGenerator();
+
+    /**
+     * Get a font with no border containing the default characters.
+     *
+     * @param size  The size of the font.
+     * @param color The colour of the font.
+     * @return The shared font, which must not be disposed by the caller.
+     */
+    public static BitmapFont get(int size, Color color) {
+        return get(size, color, null, 0, DEFAULT_CHARACTERS);
+    }
+
+    /**
+     * Get a font, generating it if it has not been used before.
+     *
+     * @param size        The size of the font.
+     * @param color       The colour of the font.
+     * @param borderColor The colour of the border, or null for no border.
+     * @param borderWidth The width of the border.
+     * @param characters  The only characters the font needs to be able to draw.
+     * @return The shared font, which must not be disposed by the caller.
+     */
+    public static BitmapFont get(int size, Color color, Color borderColor, float borderWidth, String characters) {
+        String key = size + ":" + color.toIntBits() + ":" + (borderColor == null ? "none" : borderColor.toIntBits()) + ":" + borderWidth + ":" + characters;
+        BitmapFont font = fonts.get(key);
+        if (font == null) {
+            font = generator.generate(size, color, borderColor, borderWidth, characters);
+            fonts.put(key, font);
+        }
+        return font;
+    }
+
+    /**
+     * Get the characters that appear in any of the given strings, each only once.
+     *
+     * @param texts The strings that will be drawn.
+     * @return A string with every character needed to draw the texts.
+     */
+    public static String charactersOf(String... texts) {
+        StringBuilder characters = new StringBuilder();
+        for (String text : texts) {
+            for (int i = 0; i < text.length(); i++) {
+                if (characters.indexOf(String.valueOf(text.charAt(i))) == -1) {
+                    characters.append(text.charAt(i));
+                }
+            }
+        }
+        return characters.toString();
+    }
+
+    /**
+     * Get the number of fonts that have been generated.
+     *
+     * @return An int of how many fonts are cached.
+     */
+    public static int size() {
+        return fonts.size();
+    }
+
+    /**
+     * Dispose of every font and the generator, freeing their native memory.
+     */
+    public static void dispose() {
+        for (BitmapFont font : fonts.values()) {
+            font.dispose();
+        }
+        fonts.clear();
+        generator.dispose();
+    }
+
+    /**
+     * Change how fonts missing from the cache are created.
+     *
+     * @param fontGenerator The generator to use.
+     */
+    public static void setGenerator(Generator fontGenerator) {
+        generator = fontGenerator;
+    }
+
+    /**
+     * Get the generator used to create fonts missing from the cache.
+     *
+     * @return The current generator.
+     */
+    public static Generator getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Creates a font with a given size, colours and characters.
+     */
+    public interface Generator {
+        /**
+         * Create a font.
+         *
+         * @param size        The size of the font.
+         * @param color       The colour of the font.
+         * @param borderColor The colour of the border, or null for no border.
+         * @param borderWidth The width of the border.
+         * @param characters  The only characters the font needs to be able to draw.
+         * @return The new font.
+         */
+        BitmapFont generate(int size, Color color, Color borderColor, float borderWidth, String characters);
+
+        /**
+         * Free anything the generator holds on to between fonts.
+         */
+        void dispose();
+    }
+
+    /**
+     * The default generator, rasterizes {@link #FONT_FILE} with a {@link FreeTypeFontGenerator} that is created the
+     * first time a font is needed.
+     */
+    private static class FreeTypeGenerator implements Generator {
+
+        /**
+         * The FreeType generator shared by every font, or null if no font has been generated yet.
+         */
+        private FreeTypeFontGenerator freeType;
+
+        @Override
+        public BitmapFont generate(int size, Color color, Color borderColor, float borderWidth, String characters) {
+            if (this.freeType == null) {
+                this.freeType = new FreeTypeFontGenerator(Gdx.files.internal(FONT_FILE));
+            }
+            FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+            parameter.size = size;
+            parameter.color = color;
+            if (borderColor != null) {
+                parameter.borderColor = borderColor;
+                parameter.borderWidth = borderWidth;
+            }
+            parameter.characters = characters;
+            return this.freeType.generateFont(parameter);
+        }
+
+        @Override
+        public void dispose() {
+            if (this.freeType != null) {
+                this.freeType.dispose();
+                this.freeType = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package main.com.dragonboatrace.game.tools;
+
+import java.io.File;
+import java.net.URISyntaxException;
+
+/**
+ * Static class used to hold the Config of the game around the race, the window, textures and save files, which a
+ * headless race has no need of. The race itself is set up by {@link Config}.
+ */
+public class GameConfig {
+
+    /**
+     * If the game is fullscreen or not.
+     */
+    public static boolean FULLSCREEN = true;
+
+    /**
+     * The number of bytes of textures that {@link TextureCache} keeps around once nothing is using them.
+     */
+    public static long TEXTURE_CACHE_BUDGET = 64L * 1024 * 1024;
+
+    /**
+     * The number of milliseconds each frame of the loading screen can spend loading, so it keeps drawing while the
+     * game loads.
+     */
+    public static int ASSET_LOAD_BUDGET = 8;
+
+    // >>>> Added in assessment 2 <<<<
+    /**
+     * The location of the save files
+     */
+    public static String SAVE_FILE_LOCATION = getSaveLocation();
+
+    // >>>> Added in assessment 2 <<<<
+    /**
+     * 
+     * @return A string to the save file location.
+     */
+    private static String getSaveLocation(){
+        try {
+            return new File(GameConfig.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toPath().resolve("..").normalize().toString();
+        } catch (URISyntaxException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Set if the window should be fullscreen or not.
+     *
+     * @param FULLSCREEN A boolean if the window should be fullscreen.
+     */
+    public static void setFULLSCREEN(boolean FULLSCREEN) {
+        GameConfig.FULLSCREEN = FULLSCREEN;
+    }
+
+    /**
+     * Update the memory budget of the texture cache.
+     *
+     * @param budget The number of bytes of unused textures to keep cached.
+     */
+    public static void setTextureCacheBudget(long budget) {
+        TEXTURE_CACHE_BUDGET = budget;
+    }
+
+    /**
+     * Update the time each frame of the loading screen can spend loading.
+     *
+     * @param budget The number of milliseconds of loading per frame.
+     */
+    public static void setAssetLoadBudget(int budget) {
+        ASSET_LOAD_BUDGET = budget;
+    }
+}
@@ -3,75 +3,175 @@ package main.com.dragonboatrace.game.tools;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 
 /**
  * Represents the scrolling background.
+ * <p>
+ * The background is a single quad covering the screen. Its texture repeats, so scrolling only moves the texture
+ * coordinates, which are worked out from how far the camera is into the current repeat of the image rather than by
+ * moving the quad. The scroll therefore stays exact however long the race is.
+ * <p>
+ * A parallax layer can be added, which is the same image scaled up and scrolling more slowly, blended over the
+ * background by a small shader in the same draw call.
  *
  * @author Benji Garment, Joe Wrieden, Jacob Turner
  */
 public class ScrollingBackground {
 
+    /**
+     * The vertex shader of the parallax layer, the same as the {@link SpriteBatch} default.
+     */
+    private static final String PARALLAX_VERTEX = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "uniform mat4 u_projTrans;\n"
+        + "varying vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "void main() {\n"
+        + "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "    v_color.a = v_color.a * (255.0/254.0);\n"
+        + "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "}\n";
+
+    /**
+     * The fragment shader of the parallax layer, which samples the image a second time for the layer and blends it
+     * over the background.
+     */
+    private static final String PARALLAX_FRAGMENT = "#ifdef GL_ES\n"
+        + "precision mediump float;\n"
+        + "#endif\n"
+        + "varying vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "uniform sampler2D u_texture;\n"
+        + "uniform vec2 u_layerOffset;\n"
+        + "uniform float u_layerScale;\n"
+        + "uniform float u_layerOpacity;\n"
+        + "void main() {\n"
+        + "    vec4 base = texture2D(u_texture, v_texCoords);\n"
+        + "    vec4 layer = texture2D(u_texture, v_texCoords / u_layerScale + u_layerOffset);\n"
+        + "    gl_FragColor = v_color * mix(base, layer, layer.a * u_layerOpacity);\n"
+        + "}\n";
+
     /**
      * The texture to use as the background.
      */
-    private final Texture image;
+    private Texture image;
 
     /**
-     * The x position that both the images use to align vertically.
+     * The scale at which to draw the background.
      */
-    private final float xPosition;
+    private float imageScale;
+
     /**
-     * The y position of the first image.
+     * How far the camera is into the current repeat of the image, from 0 to 1.
      */
-    private float y1;
+    private float scroll;
+
     /**
-     * The y position the second image.
+     * How fast the parallax layer scrolls compared to the background.
      */
-    private float y2;
+    private float layerSpeed;
+
     /**
-     * The scale at which to draw the background.
+     * How much bigger the parallax layer is drawn than the background.
      */
-    private float imageScale;
+    private float layerScale;
+
+    /**
+     * How opaque the parallax layer is, 0 if there is no layer.
+     */
+    private float layerOpacity;
+
+    /**
+     * How far the camera is into the current repeat of the parallax layer, from 0 to 1.
+     */
+    private float layerScroll;
+
+    /**
+     * Draws the parallax layer, created when a layer is first added.
+     */
+    private ShaderProgram parallax;
 
     /**
-     * Creates a new scrolling background.
+     * Creates a new scrolling background, borrowing its texture from the {@link TextureCache}.
      */
     public ScrollingBackground() {
-        this.image = new Texture(Gdx.files.local("background.png"));
-        this.y1 = 0;
-        this.y2 = image.getHeight();
+        this.image = TextureCache.obtain("background.png");
+        this.image.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
         this.imageScale = 1;
-        this.xPosition = 0;
+        this.layerOpacity = 0;
     }
 
     /**
-     * Scroll the background according the distance travelled by the player.
+     * Add a parallax layer, or change the one that is already there.
      *
-     * @param deltaDistance The distance travelled in the last frame by the player.
-     */
-    public void update(float deltaDistance) {
-        y1 -= deltaDistance;
-        y2 -= deltaDistance;
-        // Push the second image to the top if at the bottom
-        //   and the first image to the top if at the bottom.
-        if (y1 + image.getHeight() * imageScale <= 0)
-            y1 = y2 + image.getHeight() * imageScale;
-
-        if (y2 + image.getHeight() * imageScale <= 0)
-            y2 = y1 + image.getHeight() * imageScale;
+     * @param speed   How fast the layer scrolls compared to the background, less than 1 to look further away.
+     * @param scale   How much bigger the layer is drawn than the background.
+     * @param opacity How opaque the layer is, 0 to remove the layer.
+     */
+    public void setParallax(float speed, float scale, float opacity) {
+        this.layerSpeed = speed;
+        this.layerScale = scale;
+        this.layerOpacity = opacity;
+        if (opacity > 0 && this.parallax == null) {
+            this.parallax = new ShaderProgram(PARALLAX_VERTEX, PARALLAX_FRAGMENT);
+            if (!this.parallax.isCompiled()) {
+                throw new IllegalStateException("Error compiling parallax shader: " + this.parallax.getLog());
+            }
+        }
     }
 
     /**
-     * Render the background at its current y1 and y2 positions.
+     * Scroll the background to the race distance at the bottom of the screen.
+     * <p>
+     * The image repeats every image height, so only how far the distance is into the current image matters.
      *
-     * @param batch The SpriteBatch to be added to.
+     * @param cameraY The race distance at the bottom of the screen.
+     */
+    public void scrollTo(float cameraY) {
+        this.scroll = repeatsOf(cameraY, image.getHeight() * imageScale);
+        this.layerScroll = repeatsOf(cameraY * this.layerSpeed, image.getHeight() * imageScale * this.layerScale);
+    }
+
+    /**
+     * Get how far a distance is into the current repeat of an image.
+     *
+     * @param distance The distance scrolled.
+     * @param height   The height of the image.
+     * @return A float from 0 up to 1 of the fraction of the image scrolled past.
+     */
+    private static float repeatsOf(float distance, float height) {
+        if (height <= 0) {
+            return 0;
+        }
+        double repeats = (double) distance / height;
+        return (float) (repeats - Math.floor(repeats));
+    }
+
+    /**
+     * Render the background covering the screen, scrolled to where it was last scrolled to.
+     *
+     * @param batch The SpriteBatch to be added to, which must have already begun.
      */
     public void render(SpriteBatch batch) {
-        /* render background at the position given by the vector */
-        batch.begin();
-        batch.draw(image, this.xPosition, y1, image.getWidth() * imageScale, image.getHeight() * imageScale);
-        batch.draw(image, this.xPosition, y2, image.getWidth() * imageScale, image.getHeight() * imageScale);
-        batch.end();
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        /* Texture coordinates go down the image, so the bottom of the screen is the furthest into it */
+        float bottom = 1 - this.scroll;
+        float top = bottom - height / (image.getHeight() * imageScale);
+        if (this.layerOpacity > 0) {
+            batch.setShader(this.parallax);
+            /* Line the layer up so the bottom of the screen is as far into the layer as it has scrolled */
+            this.parallax.setUniformf("u_layerOffset", 0, 1 - this.layerScroll - bottom / this.layerScale);
+            this.parallax.setUniformf("u_layerScale", this.layerScale);
+            this.parallax.setUniformf("u_layerOpacity", this.layerOpacity);
+            batch.draw(image, 0, 0, width, height, 0, bottom, width / (image.getWidth() * imageScale), top);
+            batch.setShader(null);
+        } else {
+            batch.draw(image, 0, 0, width, height, 0, bottom, width / (image.getWidth() * imageScale), top);
+        }
     }
 
     /**
@@ -81,7 +181,28 @@ public class ScrollingBackground {
      */
     public void resize(int width) {
         imageScale = (float) width / image.getWidth();
-        y1 = 0;
-        y2 = image.getHeight() * imageScale;
+    }
+
+    /**
+     * Get how far the camera is into the current repeat of the image.
+     *
+     * @return A float from 0 up to 1 of the fraction of the image scrolled past.
+     */
+    public float getScroll() {
+        return this.scroll;
+    }
+
+    /**
+     * Give back the texture borrowed from the {@link TextureCache} and free the parallax shader.
+     */
+    public void dispose() {
+        if (this.image != null) {
+            TextureCache.release(this.image);
+            this.image = null;
+        }
+        if (this.parallax != null) {
+            this.parallax.dispose();
+            this.parallax = null;
+        }
     }
 }
@@ -0,0 +1,325 @@
+package main.com.dragonboatrace.game.tools;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import main.com.dragonboatrace.game.entities.EntityType;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A shared cache of textures that entities borrow instead of decoding their own.
+ * <p>
+ * Textures are keyed by their path and the size they are resized to, so every entity of the same
+ * {@link EntityType} using the same image shares a single decoded and uploaded texture. Each borrow is reference
+ * counted; a texture nobody is using stays cached until the total size of the cache goes over
+ * {@link GameConfig#TEXTURE_CACHE_BUDGET}, at which point the least recently used unused textures are disposed.
+ * <p>
+ * Images packed into an atlas are borrowed as regions of the atlas instead, so everything drawn from the same atlas
+ * shares one texture. The atlases belong to {@link Assets} and are never evicted.
+ */
+public class TextureCache {
+
+    /**
+     * The number of bytes used by each pixel of a texture, textures are stored as RGBA8888.
+     */
+    private static final int BYTES_PER_PIXEL = 4;
+
+    /**
+     * The cached textures, kept in least recently used order.
+     */
+    private static final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+
+    /**
+     * The cached textures by the texture itself, used to find the entry when a texture is released.
+     */
+    private static final Map<Texture, Entry> owners = new IdentityHashMap<Texture, Entry>();
+
+    /**
+     * Used to decode textures that are not in the cache yet.
+     */
+    private static Loader loader = new PixmapLoader();
+
+    /**
+     * The estimated number of bytes used by all cached textures.
+     */
+    private static long memoryUsed = 0;
+
+    /**
+     * The number of textures that have been decoded since the cache was last cleared.
+     */
+    private static int decodeCount = 0;
+
+    /**
+     * Borrow a texture resized to the size of an entity type.
+     *
+     * @param path The path of the image to use.
+     * @param type The type of entity the texture is for, the texture will be its width and height.
+     * @return The shared texture, which must be given back with {@link #release(Texture)}.
+     */
+    public static Texture obtain(String path, EntityType type) {
+        return obtain(path, type.getWidth(), type.getHeight());
+    }
+
+    /**
+     * Borrow a texture at the size of the image itself.
+     *
+     * @param path The path of the image to use.
+     * @return The shared texture, which must be given back with {@link #release(Texture)}.
+     */
+    public static Texture obtain(String path) {
+        return obtain(path, 0, 0);
+    }
+
+    /**
+     * Borrow a texture resized to a specific width and height.
+     *
+     * @param path   The path of the image to use.
+     * @param width  The width to resize to, or 0 to keep the size of the image.
+     * @param height The height to resize to, or 0 to keep the size of the image.
+     * @return The shared texture, which must be given back with {@link #release(Texture)}.
+     */
+    public static Texture obtain(String path, int width, int height) {
+        String key = path + "@" + width + "x" + height;
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            Texture texture = loader.load(path, width, height);
+            decodeCount++;
+            int pixels = (width > 0 && height > 0) ? width * height : texture.getWidth() * texture.getHeight();
+            entry = new Entry(texture, (long) pixels * BYTES_PER_PIXEL);
+            entries.put(key, entry);
+            owners.put(texture, entry);
+            memoryUsed += entry.size;
+        }
+        entry.references++;
+        evict();
+        return entry.texture;
+    }
+
+    /**
+     * Borrow the region of an image resized to the size of an entity type.
+     *
+     * @param path The path of the image to use.
+     * @param type The type of entity the region is for, the region will be its width and height.
+     * @return The region, which must be given back with {@link #release(TextureRegion)}.
+     */
+    public static TextureRegion obtainRegion(String path, EntityType type) {
+        return obtainRegion(path, type.getWidth(), type.getHeight());
+    }
+
+    /**
+     * Borrow the region of an image at the size of the image itself.
+     *
+     * @param path The path of the image to use.
+     * @return The region, which must be given back with {@link #release(TextureRegion)}.
+     */
+    public static TextureRegion obtainRegion(String path) {
+        return obtainRegion(path, 0, 0);
+    }
+
+    /**
+     * Borrow the region of an image, from its atlas if it has been packed into one or otherwise covering the whole of
+     * its own cached texture.
+     *
+     * @param path   The path of the image to use.
+     * @param width  The width to resize to if it is not packed, or 0 to keep the size of the image.
+     * @param height The height to resize to if it is not packed, or 0 to keep the size of the image.
+     * @return The region, which must be given back with {@link #release(TextureRegion)}.
+     */
+    public static TextureRegion obtainRegion(String path, int width, int height) {
+        TextureRegion packed = Assets.findRegion(path);
+        if (packed != null) {
+            return packed;
+        }
+        return new TextureRegion(obtain(path, width, height));
+    }
+
+    /**
+     * Give back a borrowed region. Regions of an atlas are not counted, so only regions of cached textures do anything.
+     *
+     * @param region The region that was borrowed with {@link #obtainRegion(String, int, int)}.
+     */
+    public static void release(TextureRegion region) {
+        release(region.getTexture());
+    }
+
+    /**
+     * Give back a borrowed texture. The texture is only disposed once no one is using it and the cache needs the room.
+     *
+     * @param texture The texture that was borrowed with {@link #obtain(String, int, int)}.
+     */
+    public static void release(Texture texture) {
+        Entry entry = owners.get(texture);
+        if (entry == null || entry.references == 0) {
+            return;
+        }
+        entry.references--;
+        evict();
+    }
+
+    /**
+     * Dispose of every cached texture, whether it is still borrowed or not.
+     */
+    public static void clear() {
+        for (Entry entry : entries.values()) {
+            entry.texture.dispose();
+        }
+        entries.clear();
+        owners.clear();
+        memoryUsed = 0;
+        decodeCount = 0;
+    }
+
+    /**
+     * Dispose of the least recently used textures that are no longer borrowed until the cache fits in its budget.
+     */
+    private static void evict() {
+        Iterator<Entry> iter = entries.values().iterator();
+        while (memoryUsed > GameConfig.TEXTURE_CACHE_BUDGET && iter.hasNext()) {
+            Entry entry = iter.next();
+            if (entry.references == 0) {
+                iter.remove();
+                owners.remove(entry.texture);
+                memoryUsed -= entry.size;
+                entry.texture.dispose();
+            }
+        }
+    }
+
+    /**
+     * Change how textures missing from the cache are decoded.
+     *
+     * @param textureLoader The loader to use.
+     */
+    public static void setLoader(Loader textureLoader) {
+        loader = textureLoader;
+    }
+
+    /**
+     * Get the loader used to decode textures missing from the cache.
+     *
+     * @return The current loader.
+     */
+    public static Loader getLoader() {
+        return loader;
+    }
+
+    /**
+     * Get the number of textures decoded since the cache was last cleared.
+     *
+     * @return An int of how many textures have been decoded.
+     */
+    public static int getDecodeCount() {
+        return decodeCount;
+    }
+
+    /**
+     * Get the number of textures currently in the cache.
+     *
+     * @return An int of how many textures are cached.
+     */
+    public static int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get the estimated amount of memory used by all cached textures.
+     *
+     * @return A long of the number of bytes used.
+     */
+    public static long getMemoryUsed() {
+        return memoryUsed;
+    }
+
+    /**
+     * Get the number of times a cached texture is currently borrowed.
+     *
+     * @param texture The texture to check.
+     * @return An int of how many borrowers the texture has, 0 if it is not cached.
+     */
+    public static int getReferences(Texture texture) {
+        Entry entry = owners.get(texture);
+        return entry == null ? 0 : entry.references;
+    }
+
+    /**
+     * Decodes an image into a texture of a given size.
+     */
+    public interface Loader {
+        /**
+         * Decode an image into a texture.
+         *
+         * @param path   The path of the image.
+         * @param width  The width to resize to, or 0 to keep the size of the image.
+         * @param height The height to resize to, or 0 to keep the size of the image.
+         * @return The new texture.
+         */
+        Texture load(String path, int width, int height);
+    }
+
+    /**
+     * The default loader, resizes images on the CPU with a {@link Pixmap} before uploading them.
+     * <p>
+     * Images already decoded by {@link Assets} are used as they are, anything else is decoded from its file here.
+     */
+    private static class PixmapLoader implements Loader {
+        @Override
+        public Texture load(String path, int width, int height) {
+            Pixmap full = Assets.getPixmap(path);
+            boolean decoded = full == null;
+            if (decoded) {
+                full = new Pixmap(Gdx.files.internal(path));
+            }
+            Texture texture;
+            if (width <= 0 || height <= 0) {
+                texture = new Texture(full);
+            } else {
+                /* Resize the texture to the requested bounds */
+                Pixmap resize = new Pixmap(width, height, full.getFormat());
+                /* Redraw texture */
+                resize.drawPixmap(full, 0, 0, full.getWidth(), full.getHeight(), 0, 0, resize.getWidth(), resize.getHeight());
+                texture = new Texture(resize);
+                resize.dispose();
+            }
+            /* Images decoded by Assets are kept there in case the texture is evicted and needed again */
+            if (decoded) {
+                full.dispose();
+            }
+            return texture;
+        }
+    }
+
+    /**
+     * A cached texture and how many times it is borrowed.
+     */
+    private static class Entry {
+        /**
+         * The cached texture.
+         */
+        private final Texture texture;
+        /**
+         * The estimated number of bytes the texture uses.
+         */
+        private final long size;
+        /**
+         * The number of times the texture is currently borrowed.
+         */
+        private int references;
+
+        /**
+         * Creates a new entry for a texture that has just been decoded.
+         *
+         * @param texture The cached texture.
+         * @param size    The estimated number of bytes the texture uses.
+         */
+        private Entry(Texture texture, long size) {
+            this.texture = texture;
+            this.size = size;
+            this.references = 0;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+
+import main.com.dragonboatrace.game.tools.Assets;
+import main.com.dragonboatrace.game.tools.FontCache;
+import main.com.dragonboatrace.game.tools.TextureCache;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith (GdxTestRunner.class)
+public class AssetsTest {
+
+    /**
+     * How long each texture takes to upload.
+     */
+    private static final long UPLOAD_MILLIS = 5;
+
+    private TextureCache.Loader originalLoader;
+    private FontCache.Generator originalGenerator;
+
+    @Before
+    public void setUp() {
+        originalLoader = TextureCache.getLoader();
+        originalGenerator = FontCache.getGenerator();
+        TextureCache.clear();
+        TextureCache.setLoader(new TextureCache.Loader() {
+            @Override
+            public Texture load(String path, int width, int height) {
+                spin(UPLOAD_MILLIS);
+                return mock(Texture.class);
+            }
+        });
+        FontCache.dispose();
+        FontCache.setGenerator(new FontCache.Generator() {
+            @Override
+            public BitmapFont generate(int size, Color color, Color borderColor, float borderWidth, String characters) {
+                return mock(BitmapFont.class);
+            }
+
+            @Override
+            public void dispose() {
+            }
+        });
+        Assets.load();
+    }
+
+    @After
+    public void tearDown() {
+        Assets.dispose();
+        FontCache.dispose();
+        FontCache.setGenerator(originalGenerator);
+        TextureCache.clear();
+        TextureCache.setLoader(originalLoader);
+    }
+
+    /**
+     * Carry on loading until every image has been decoded, without uploading anything.
+     */
+    private static void decodeAll() {
+        int remaining = Assets.getRemainingUploads();
+        while (Assets.getRemainingUploads() == remaining) {
+            Assets.update(1);
+        }
+    }
+
+    @Test
+    public void ONE_SLOW_UPLOAD_A_FRAME() {
+        decodeAll();
+        int remaining = Assets.getRemainingUploads();
+        /* Every upload takes longer than the whole budget, but loading still moves on */
+        Assets.update(1);
+        assertEquals(remaining - 1, Assets.getRemainingUploads());
+    }
+
+    @Test
+    public void UPLOADS_STOP_AT_THE_BUDGET() {
+        decodeAll();
+        int remaining = Assets.getRemainingUploads();
+        Assets.update((int) (UPLOAD_MILLIS * 4));
+        int uploaded = remaining - Assets.getRemainingUploads();
+        assertTrue(uploaded > 1);
+        assertTrue(uploaded <= 5);
+    }
+
+    @Test
+    public void EVERYTHING_IS_DECODED_AND_UPLOADED() {
+        while (!Assets.update(100)) {
+            assertTrue(Assets.getProgress() < 1);
+        }
+        assertEquals(1, Assets.getProgress(), 0);
+        assertEquals(0, Assets.getRemainingUploads());
+        assertNotNull(Assets.getPixmap("dragon.png"));
+        assertNotNull(Assets.getPixmap("rock.png"));
+        assertEquals(1, FontCache.size());
+        /* Borrowing a preloaded texture does not decode it again */
+        int decoded = TextureCache.getDecodeCount();
+        TextureCache.release(TextureCache.obtain("dragon.png"));
+        assertEquals(decoded, TextureCache.getDecodeCount());
+    }
+
+    @Test
+    public void HELP_IMAGE_IS_NOT_PRELOADED() {
+        while (!Assets.update(100)) {
+            /* Keep loading */
+        }
+        assertNull(Assets.getPixmap("help_screen_info.png"));
+    }
+
+    /**
+     * Busy wait, as if the GPU were busy uploading.
+     *
+     * @param millis How long to wait for.
+     */
+    private static void spin(long millis) {
+        long end = System.nanoTime() + millis * 1000000L;
+        while (System.nanoTime() < end) {
+            Thread.yield();
+        }
+    }
+}
@@ -23,10 +23,19 @@ import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.IntBuffer;
 
 import com.badlogic.gdx.ApplicationListener;
 import com.badlogic.gdx.backends.headless.HeadlessApplication;
@@ -41,7 +50,28 @@ public class GdxTestRunner extends BlockJUnit4ClassRunner implements Application
 		HeadlessApplicationConfiguration conf = new HeadlessApplicationConfiguration();
 
 		new HeadlessApplication(this, conf);
-		Gdx.gl = mock(GL20.class);
+		Gdx.gl = Gdx.gl20 = mockGl();
+	}
+
+	/**
+	 * Mock OpenGL that reports every shader as compiled and linked, so batches and shaders can be created.
+	 *
+	 * @return The mocked GL.
+	 */
+	public static GL20 mockGl() {
+		GL20 gl = mock(GL20.class);
+		when(gl.glCreateShader(anyInt())).thenReturn(1);
+		when(gl.glCreateProgram()).thenReturn(1);
+		Answer<Void> succeed = new Answer<Void>() {
+			@Override
+			public Void answer(InvocationOnMock invocation) {
+				((IntBuffer) invocation.getArguments()[2]).put(0, 1);
+				return null;
+			}
+		};
+		doAnswer(succeed).when(gl).glGetShaderiv(anyInt(), eq(GL20.GL_COMPILE_STATUS), any(IntBuffer.class));
+		doAnswer(succeed).when(gl).glGetProgramiv(anyInt(), eq(GL20.GL_LINK_STATUS), any(IntBuffer.class));
+		return gl;
 	}
 
 	@Override
@@ -0,0 +1,245 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.entities.PowerUpType;
+import main.com.dragonboatrace.game.entities.boats.Boat;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.renderers.BoatRenderer;
+import main.com.dragonboatrace.game.renderers.DebugOverlay;
+import main.com.dragonboatrace.game.renderers.RaceRenderer;
+import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.FontCache;
+import main.com.dragonboatrace.game.tools.Hitbox;
+import main.com.dragonboatrace.game.tools.Race;
+import main.com.dragonboatrace.game.tools.TextureCache;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith (GdxTestRunner.class)
+public class RaceRendererTest {
+
+    private Graphics originalGraphics;
+    private GL20 originalGl;
+    private TextureCache.Loader originalLoader;
+    private FontCache.Generator originalGenerator;
+    private GLProfiler profiler;
+    private BitmapFont font;
+    private SpriteBatch batch;
+    private ShapeRenderer shapes;
+    private Race race;
+    private List<Boat> boats;
+    private RaceRenderer renderer;
+
+    /**
+     * Headless graphics that let the {@link GLProfiler} swap in its counting GL, like the desktop backend does.
+     */
+    private static class ProfiledGraphics extends MockGraphics {
+        @Override
+        public GL20 getGL20() {
+            return Gdx.gl20;
+        }
+
+        @Override
+        public void setGL20(GL20 gl20) {
+            Gdx.gl = gl20;
+            Gdx.gl20 = gl20;
+        }
+
+        @Override
+        public int getWidth() {
+            return Config.WIDTH;
+        }
+
+        @Override
+        public int getHeight() {
+            return Config.HEIGHT;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        originalGraphics = Gdx.graphics;
+        originalGl = Gdx.gl;
+        originalLoader = TextureCache.getLoader();
+        originalGenerator = FontCache.getGenerator();
+
+        Gdx.graphics = new ProfiledGraphics();
+        Gdx.gl = Gdx.gl20 = GdxTestRunner.mockGl();
+        TextureCache.clear();
+        TextureCache.setLoader(new TextureCache.Loader() {
+            @Override
+            public Texture load(String path, int width, int height) {
+                return new Texture(new Pixmap(Math.max(width, 16), Math.max(height, 16), Pixmap.Format.RGBA8888));
+            }
+        });
+        FontCache.dispose();
+        font = new BitmapFont();
+        FontCache.setGenerator(new FontCache.Generator() {
+            @Override
+            public BitmapFont generate(int size, Color color, Color borderColor, float borderWidth, String characters) {
+                return font;
+            }
+
+            @Override
+            public void dispose() {
+            }
+        });
+
+        batch = new SpriteBatch(8000);
+        shapes = new ShapeRenderer();
+        race = new Race(100000, BoatType.AGILE, 3, 42);
+        boats = new ArrayList<Boat>(race.getBoats());
+        boats.add(race.getPlayer());
+        /* Fill the screen in every lane with every type of obstacle and power up, one after the other */
+        for (Boat boat : boats) {
+            Hitbox lane = boat.getLane().getHitbox();
+            boat.getLane().getObstacles().clear();
+            boat.getLane().getPowerUps().clear();
+            for (int i = 0; i < 20; i++) {
+                boat.getLane().getObstacles().add(ObstacleType.values()[i % ObstacleType.values().length], lane.getX(), lane.getY() + i * 50);
+                boat.getLane().getPowerUps().add(PowerUpType.values()[i % PowerUpType.values().length], lane.getX(), lane.getY() + i * 50 + 25);
+            }
+        }
+        renderer = new RaceRenderer(race);
+        profiler = new GLProfiler(Gdx.graphics);
+        profiler.enable();
+    }
+
+    @After
+    public void tearDown() {
+        profiler.disable();
+        renderer.dispose();
+        batch.dispose();
+        shapes.dispose();
+        FontCache.dispose();
+        FontCache.setGenerator(originalGenerator);
+        font.dispose();
+        TextureCache.clear();
+        TextureCache.setLoader(originalLoader);
+        Gdx.graphics = originalGraphics;
+        Gdx.gl = Gdx.gl20 = originalGl;
+    }
+
+    /**
+     * Draw a frame of the race, counting only that frame.
+     *
+     * @return The number of times the batch flushed.
+     */
+    private int renderFrame() {
+        /* The first frame borrows the lane item textures */
+        renderer.render(batch, shapes);
+        profiler.reset();
+        int before = batch.totalRenderCalls;
+        renderer.render(batch, shapes);
+        return batch.totalRenderCalls - before;
+    }
+
+    /**
+     * Get the number of bytes this thread has allocated so far.
+     *
+     * @return A long of the bytes allocated.
+     */
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    @Test
+    public void EACH_TEXTURE_IS_BOUND_ONCE_A_FRAME() {
+        int flushes = renderFrame();
+        /* Drawing lane by lane would switch texture for almost every item */
+        assertTrue(profiler.getTextureBindings() <= TextureCache.size() + FontCache.size());
+        assertTrue(flushes <= TextureCache.size() + FontCache.size());
+    }
+
+    @Test
+    public void NO_SHAPES_WITHOUT_SHIELDS() {
+        int flushes = renderFrame();
+        /* Every draw call comes from the batch apart from the one drawing all the lane separators */
+        assertEquals(flushes + 1, profiler.getDrawCalls());
+    }
+
+    @Test
+    public void SHIELDS_DRAWN_TOGETHER() {
+        for (Boat boat : boats) {
+            boat.addShield(100);
+        }
+        int flushes = renderFrame();
+        assertEquals(flushes + 2, profiler.getDrawCalls());
+    }
+
+    @Test
+    public void DEBUG_OVERLAY_DRAWS_NOTHING_WHEN_HIDDEN() {
+        DebugOverlay overlay = new DebugOverlay(race);
+        profiler.reset();
+        overlay.render(shapes);
+        assertEquals(0, profiler.getCalls());
+    }
+
+    @Test
+    public void DEBUG_OVERLAY_DRAWS_EVERY_HITBOX_TOGETHER() {
+        DebugOverlay overlay = new DebugOverlay(race);
+        overlay.toggle();
+        profiler.reset();
+        overlay.render(shapes);
+        assertEquals(1, profiler.getDrawCalls());
+    }
+
+    @Test
+    public void HUD_DOES_NOT_ALLOCATE_UNLESS_STATS_CHANGE() {
+        List<BoatRenderer> huds = new ArrayList<BoatRenderer>();
+        for (Boat boat : boats) {
+            huds.add(new BoatRenderer(boat));
+        }
+        /* Every font is the same and a few frames fit in the batch, so it never flushes and nothing is sent to the
+         * mocked GL while measuring */
+        batch.begin();
+        renderHud(huds);
+        long overhead = allocatedBytes();
+        overhead = allocatedBytes() - overhead;
+        long before = allocatedBytes();
+        for (int frame = 0; frame < 5; frame++) {
+            renderHud(huds);
+        }
+        long allocated = allocatedBytes() - before - overhead;
+        batch.end();
+        for (BoatRenderer hud : huds) {
+            hud.dispose();
+        }
+        assertEquals(0, allocated);
+    }
+
+    /**
+     * Draw every row of the HUD of each boat.
+     *
+     * @param huds The renderers of each boat.
+     */
+    private void renderHud(List<BoatRenderer> huds) {
+        for (int row = 0; row < BoatRenderer.HUD_ROWS; row++) {
+            for (int i = 0; i < huds.size(); i++) {
+                huds.get(i).renderHud(batch, row);
+            }
+        }
+    }
+}
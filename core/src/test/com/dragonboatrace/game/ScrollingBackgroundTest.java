@@ -0,0 +1,87 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyFloat;
+import static org.mockito.Matchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+import main.com.dragonboatrace.game.tools.ScrollingBackground;
+import main.com.dragonboatrace.game.tools.TextureCache;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith (GdxTestRunner.class)
+public class ScrollingBackgroundTest {
+
+    private static final int IMAGE_SIZE = 16;
+
+    private TextureCache.Loader original;
+    private ScrollingBackground background;
+
+    @Before
+    public void setUp() {
+        original = TextureCache.getLoader();
+        TextureCache.clear();
+        TextureCache.setLoader(new TextureCache.Loader() {
+            @Override
+            public Texture load(String path, int width, int height) {
+                return new Texture(new Pixmap(IMAGE_SIZE, IMAGE_SIZE, Pixmap.Format.RGBA8888));
+            }
+        });
+        background = new ScrollingBackground();
+        background.resize(IMAGE_SIZE);
+    }
+
+    @After
+    public void tearDown() {
+        background.dispose();
+        TextureCache.clear();
+        TextureCache.setLoader(original);
+    }
+
+    @Test
+    public void SCROLL_REPEATS_EVERY_IMAGE_HEIGHT() {
+        background.scrollTo(IMAGE_SIZE / 2f);
+        assertEquals(0.5f, background.getScroll(), 0);
+        background.scrollTo(IMAGE_SIZE * 3 + IMAGE_SIZE / 2f);
+        assertEquals(0.5f, background.getScroll(), 0);
+    }
+
+    @Test
+    public void SCROLL_EXACT_ON_LONG_RACES() {
+        /* A hundred thousand repeats in, moving a pixel still moves the background by exactly a pixel */
+        background.scrollTo(IMAGE_SIZE * 100000f);
+        assertEquals(0, background.getScroll(), 0);
+        background.scrollTo(IMAGE_SIZE * 100000f + 1);
+        assertEquals(1f / IMAGE_SIZE, background.getScroll(), 0);
+    }
+
+    @Test
+    public void DRAWN_AS_ONE_QUAD() {
+        SpriteBatch batch = mock(SpriteBatch.class);
+        background.scrollTo(1000);
+        background.render(batch);
+        verify(batch, times(1)).draw(any(Texture.class), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+    }
+
+    @Test
+    public void PARALLAX_LAYER_SHARES_THE_QUAD() {
+        SpriteBatch batch = mock(SpriteBatch.class);
+        background.setParallax(0.5f, 2, 0.5f);
+        background.scrollTo(1000);
+        background.render(batch);
+        verify(batch, times(1)).draw(any(Texture.class), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+        verify(batch).setShader(isA(ShaderProgram.class));
+    }
+}
@@ -0,0 +1,199 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+import main.com.dragonboatrace.game.entities.EntityType;
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.entities.PowerUpType;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.renderers.RaceRenderer;
+import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.FontCache;
+import main.com.dragonboatrace.game.tools.GameConfig;
+import main.com.dragonboatrace.game.tools.Race;
+import main.com.dragonboatrace.game.tools.TextureCache;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith (GdxTestRunner.class)
+public class TextureCacheTest {
+
+    private TextureCache.Loader original;
+    private long originalBudget;
+    private Set<String> decoded;
+
+    @Before
+    public void setUp() {
+        original = TextureCache.getLoader();
+        originalBudget = GameConfig.TEXTURE_CACHE_BUDGET;
+        decoded = new HashSet<String>();
+        TextureCache.clear();
+        TextureCache.setLoader(new TextureCache.Loader() {
+            @Override
+            public Texture load(String path, int width, int height) {
+                decoded.add(path + "@" + width + "x" + height);
+                return mock(Texture.class);
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        TextureCache.clear();
+        TextureCache.setLoader(original);
+        GameConfig.setTextureCacheBudget(originalBudget);
+    }
+
+    @Test
+    public void RACE_DECODES_EACH_TEXTURE_ONCE() {
+        Graphics originalGraphics = Gdx.graphics;
+        FontCache.Generator originalGenerator = FontCache.getGenerator();
+        final BitmapFont font = new BitmapFont();
+        final List<String> decodes = new ArrayList<String>();
+        final List<Texture> textures = new ArrayList<Texture>();
+        Gdx.graphics = new MockGraphics() {
+            @Override
+            public int getWidth() {
+                return Config.WIDTH;
+            }
+
+            @Override
+            public int getHeight() {
+                return Config.HEIGHT;
+            }
+        };
+        /* Real textures of mocked GL, so the batch can draw them */
+        TextureCache.setLoader(new TextureCache.Loader() {
+            @Override
+            public Texture load(String path, int width, int height) {
+                decodes.add(path);
+                Texture texture = new Texture(new Pixmap(Math.max(width, 16), Math.max(height, 16), Pixmap.Format.RGBA8888));
+                textures.add(texture);
+                return texture;
+            }
+        });
+        FontCache.dispose();
+        FontCache.setGenerator(new FontCache.Generator() {
+            @Override
+            public BitmapFont generate(int size, Color color, Color borderColor, float borderWidth, String characters) {
+                return font;
+            }
+
+            @Override
+            public void dispose() {
+            }
+        });
+        SpriteBatch batch = new SpriteBatch();
+        ShapeRenderer shapes = new ShapeRenderer();
+        try {
+            /* Long enough that every lane spawns and loses many obstacles and power ups */
+            Race race = new Race(100000, BoatType.AGILE, 3, 42);
+            RaceRenderer renderer = new RaceRenderer(race);
+            for (int frame = 0; frame < 60 * 30; frame++) {
+                race.advance(1f / 30);
+                renderer.render(batch, shapes);
+            }
+            renderer.dispose();
+
+            /* Each image is only ever drawn at one size, so one decode each */
+            assertEquals(new HashSet<String>(decodes).size(), decodes.size());
+            assertTrue(decodes.contains("line.png"));
+            assertTrue(decodes.contains(race.getPlayer().getTexture()));
+            for (ObstacleType type : ObstacleType.values()) {
+                assertTrue(decodes.contains(type.getTexture()));
+            }
+            for (PowerUpType type : PowerUpType.values()) {
+                assertTrue(decodes.contains(type.getTexture()));
+            }
+            /* Everything borrowed has been given back */
+            for (Texture texture : textures) {
+                assertEquals(0, TextureCache.getReferences(texture));
+            }
+        } finally {
+            batch.dispose();
+            shapes.dispose();
+            FontCache.dispose();
+            FontCache.setGenerator(originalGenerator);
+            font.dispose();
+            Gdx.graphics = originalGraphics;
+        }
+    }
+
+    @Test
+    public void SHARED_TEXTURE_NOT_DISPOSED_WHILE_BORROWED() {
+        Texture first = TextureCache.obtain("rock.png", EntityType.OBSTACLE);
+        Texture second = TextureCache.obtain("rock.png", EntityType.OBSTACLE);
+        assertSame(first, second);
+        assertEquals(2, TextureCache.getReferences(first));
+
+        GameConfig.setTextureCacheBudget(0);
+        TextureCache.release(first);
+        verify(first, never()).dispose();
+        assertEquals(1, TextureCache.getReferences(second));
+        TextureCache.release(second);
+        verify(first).dispose();
+        assertEquals(0, TextureCache.size());
+    }
+
+    @Test
+    public void DIFFERENT_SIZES_CACHED_SEPARATELY() {
+        Texture obstacle = TextureCache.obtain("rock.png", EntityType.OBSTACLE);
+        Texture powerUp = TextureCache.obtain("rock.png", EntityType.POWERUP);
+        assertNotSame(obstacle, powerUp);
+        assertEquals(2, TextureCache.getDecodeCount());
+    }
+
+    @Test
+    public void UNUSED_TEXTURES_EVICTED_LEAST_RECENTLY_USED_FIRST() {
+        /* Room for two obstacle sized textures */
+        GameConfig.setTextureCacheBudget(2L * EntityType.OBSTACLE.getWidth() * EntityType.OBSTACLE.getHeight() * 4);
+        Texture rock = TextureCache.obtain("rock.png", EntityType.OBSTACLE);
+        Texture leaf = TextureCache.obtain("leaf.png", EntityType.OBSTACLE);
+        TextureCache.release(rock);
+        TextureCache.release(leaf);
+        /* Use the rock again so the leaf is the least recently used */
+        TextureCache.release(TextureCache.obtain("rock.png", EntityType.OBSTACLE));
+
+        Texture branch = TextureCache.obtain("branch.png", EntityType.OBSTACLE);
+        verify(leaf).dispose();
+        verify(rock, never()).dispose();
+        assertEquals(2, TextureCache.size());
+        assertEquals(1, TextureCache.getReferences(branch));
+        assertEquals(3, TextureCache.getDecodeCount());
+    }
+
+    @Test
+    public void UNPACKED_REGIONS_BORROW_THE_WHOLE_TEXTURE() {
+        /* Nothing has been packed, so the region covers a cached texture that is counted like any other */
+        TextureRegion first = TextureCache.obtainRegion("rock.png", EntityType.OBSTACLE);
+        TextureRegion second = TextureCache.obtainRegion("rock.png", EntityType.OBSTACLE);
+        assertSame(first.getTexture(), second.getTexture());
+        assertEquals(2, TextureCache.getReferences(first.getTexture()));
+        assertEquals(1, TextureCache.getDecodeCount());
+        TextureCache.release(first);
+        TextureCache.release(second);
+        assertEquals(0, TextureCache.getReferences(first.getTexture()));
+    }
+}
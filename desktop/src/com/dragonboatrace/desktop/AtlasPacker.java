@@ -0,0 +1,129 @@
+package com.dragonboatrace.desktop;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import main.com.dragonboatrace.game.entities.EntityType;
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.entities.PowerUpType;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Packs the images in the assets folder into one atlas for the menus and one for the race, run by the
+ * {@code packTextures} task.
+ * <p>
+ * Each image is resized to the size it is drawn at, the same size the game's texture cache would resize it to, so
+ * the atlases stay small and nothing is scaled when it is drawn. The background and lane separators are left out as
+ * they are drawn repeated and stretched, and the help screen image is far too big to share a page with anything.
+ */
+public class AtlasPacker {
+
+    /**
+     * The names of the buttons that have an active and inactive image.
+     */
+    private static final String[] BUTTONS = {"play", "help", "load", "exit", "slot1", "slot2", "slot3", "back",
+        "main_menu", "save", "settings", "fast", "agile", "strong", "endurance", "easy", "normal", "hard"};
+
+    /**
+     * The names of the buttons that also have a disabled image.
+     */
+    private static final String[] DISABLED_BUTTONS = {"load", "slot1", "slot2", "slot3"};
+
+    /**
+     * The menu images drawn at their own size.
+     */
+    private static final String[] MENU_IMAGES = {"dragon.png", "easy.png", "normal.png", "hard.png"};
+
+    /**
+     * The race images drawn at their own size.
+     */
+    private static final String[] RACE_IMAGES = {"up_arrow.png", "down_arrow.png"};
+
+    /**
+     * Pack the atlases.
+     *
+     * @param arg The assets folder to read the images from, and the folder to write the atlases to.
+     * @throws IOException If an image could not be read.
+     */
+    public static void main(String[] arg) throws IOException {
+        File assets = new File(arg[0]);
+        File output = new File(arg[1]);
+
+        TexturePacker menus = new TexturePacker(settings());
+        for (String button : BUTTONS) {
+            add(menus, assets, button + "_button_active.png", EntityType.BUTTON);
+            add(menus, assets, button + "_button_inactive.png", EntityType.BUTTON);
+        }
+        for (String button : DISABLED_BUTTONS) {
+            add(menus, assets, button + "_button_disabled.png", EntityType.BUTTON);
+        }
+        for (String image : MENU_IMAGES) {
+            add(menus, assets, image, null);
+        }
+        menus.pack(output, "menus");
+
+        TexturePacker race = new TexturePacker(settings());
+        for (BoatType type : BoatType.values()) {
+            add(race, assets, type.getImageSrc(), EntityType.BOAT);
+        }
+        for (ObstacleType type : ObstacleType.values()) {
+            add(race, assets, type.getTexture(), EntityType.OBSTACLE);
+        }
+        for (PowerUpType type : PowerUpType.values()) {
+            add(race, assets, type.getTexture(), EntityType.POWERUP);
+        }
+        for (String image : RACE_IMAGES) {
+            add(race, assets, image, null);
+        }
+        add(race, assets, "finish.png", EntityType.FINISH);
+        race.pack(output, "race");
+    }
+
+    /**
+     * The settings every atlas is packed with.
+     *
+     * @return The packer settings.
+     */
+    private static TexturePacker.Settings settings() {
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.maxWidth = 2048;
+        settings.maxHeight = 2048;
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        /* Stop neighbouring images bleeding in when a region is drawn at a fractional position */
+        settings.duplicatePadding = true;
+        settings.filterMin = Texture.TextureFilter.Linear;
+        settings.filterMag = Texture.TextureFilter.Linear;
+        /* Names like slot1_button_active are names, not indexed frames of an animation */
+        settings.useIndexes = false;
+        return settings;
+    }
+
+    /**
+     * Add an image to an atlas, named after its file without the extension.
+     *
+     * @param packer The packer of the atlas.
+     * @param assets The assets folder.
+     * @param path   The path of the image in the assets folder.
+     * @param type   The type of entity the image is drawn as, it is resized to its size, or null to keep its size.
+     * @throws IOException If the image could not be read.
+     */
+    private static void add(TexturePacker packer, File assets, String path, EntityType type) throws IOException {
+        BufferedImage image = ImageIO.read(new File(assets, path));
+        if (type != null && (image.getWidth() != type.getWidth() || image.getHeight() != type.getHeight())) {
+            BufferedImage resized = new BufferedImage(type.getWidth(), type.getHeight(), BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = resized.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, type.getWidth(), type.getHeight(), null);
+            graphics.dispose();
+            image = resized;
+        }
+        packer.addImage(image, path.substring(0, path.lastIndexOf('.')));
+    }
+}
@@ -4,17 +4,21 @@ import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
 import main.com.dragonboatrace.game.DragonBoatRace;
 import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.GameConfig;
 
 import java.awt.*;
+import java.util.Arrays;
 
 public class DesktopLauncher {
     public static void main(String[] arg) {
         LwjglApplicationConfiguration config = new LwjglApplicationConfiguration();
         Dimension size = Toolkit.getDefaultToolkit().getScreenSize();
         Config.setResolution(size.width, size.height);
+        Config.setProfiling(Arrays.asList(arg).contains("--profile"));
+        Config.setAiPolicy(Arrays.asList(arg).contains("--ai-policy"));
         config.width = Config.WIDTH;
         config.height = Config.HEIGHT;
-        config.fullscreen = Config.FULLSCREEN;
+        config.fullscreen = GameConfig.FULLSCREEN;
         config.resizable = true;
         config.vSyncEnabled = false;
         config.foregroundFPS = 60;
@@ -0,0 +1,50 @@
+package com.dragonboatrace.desktop;
+
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.tools.AiPolicy;
+import main.com.dragonboatrace.game.tools.PolicySolver;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Solves the {@link AiPolicy} table of every boat type at every difficulty and writes them to the assets folder, run
+ * by the {@code generatePolicies} task.
+ * <p>
+ * Nothing is drawn, so the tables can be generated without a display. A table that is not generated is solved when a
+ * race first needs it instead, which gives the same table but takes a moment at the start of the race.
+ */
+public class PolicyGenerator {
+
+    /**
+     * The number of difficulties a race can be played at.
+     */
+    private static final int DIFFICULTIES = 3;
+
+    /**
+     * Generate the tables.
+     *
+     * @param arg The folder to write the tables to.
+     * @throws IOException If a table could not be written.
+     */
+    public static void main(String[] arg) throws IOException {
+        File output = new File(arg[0]);
+        if (!output.isDirectory() && !output.mkdirs()) {
+            throw new IOException("Could not create " + output);
+        }
+        for (BoatType boat : BoatType.values()) {
+            for (int difficulty = 0; difficulty < DIFFICULTIES; difficulty++) {
+                AiPolicy policy = PolicySolver.solve(boat, difficulty);
+                OutputStream stream = new BufferedOutputStream(new FileOutputStream(new File(output, AiPolicy.fileName(boat, difficulty))));
+                try {
+                    policy.write(stream);
+                } finally {
+                    stream.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package main.com.dragonboatrace.game.entities;
+
+import com.badlogic.gdx.math.Vector2;
+import main.com.dragonboatrace.game.tools.Hitbox;
+
+/**
+ * Represents a generic Entity.
+ *
+ * @author Benji Garment, Joe Wrieden, Jacob Turner
+ */
+public abstract class Entity {
+    /**
+     * The position of the entity.
+     */
+    protected Vector2 position;
+    /**
+     * The position of the entity at the start of the last simulation step.
+     */
+    protected Vector2 previousPosition;
+    /**
+     * The position the entity is drawn at, between its previous and current position.
+     */
+    protected Vector2 renderPosition;
+    /**
+     * The velocity of the entity.
+     */
+    protected Vector2 velocity;
+    /**
+     * What kind of entity it is.
+     */
+    protected EntityType type;
+    /**
+     * The path of the image the entity is drawn with.
+     */
+    protected String texture;
+    /**
+     * The hit box of the entity.
+     */
+    protected Hitbox hitbox;
+
+    // >>>> Modified in assessment 2 <<<<
+    /**
+     * Creates a new Entity at a position with a starting velocity, a entity type and a texture.
+     *
+     * @param position The initial position of the entity.
+     * @param velocity The initial velocity of the entity.
+     * @param type     The type of entity.
+     * @param texture  The path of the image the entity is drawn with.
+     */
+    public Entity(Vector2 position, Vector2 velocity, EntityType type, String texture) {
+        this.position = position;
+        this.previousPosition = new Vector2(position);
+        this.renderPosition = new Vector2(position);
+        this.velocity = velocity;
+        this.type = type;
+        this.texture = texture;
+
+        /* Make a new hit box at the entities position with its width and height */
+        this.hitbox = new Hitbox((int) position.x, (int) position.y, type.getWidth(), type.getHeight());
+    }
+
+    /**
+     * Remember the current position as where the entity was at the start of the next simulation step.
+     */
+    public void savePosition() {
+        this.previousPosition.set(this.position);
+    }
+
+    /**
+     * Move the position the entity is drawn at to part way between its previous and current position.
+     *
+     * @param alpha How far through the next simulation step the frame is, between 0 and 1.
+     */
+    public void interpolate(float alpha) {
+        this.renderPosition.set(this.previousPosition).lerp(this.position, alpha);
+    }
+
+    /**
+     * The position the entity should be drawn at this frame.
+     *
+     * @return A Vector2 between the entities previous and current position.
+     */
+    public Vector2 getRenderPosition() {
+        return this.renderPosition;
+    }
+
+    /**
+     * The path of the image the entity is drawn with.
+     *
+     * @return A String of the image path.
+     */
+    public String getTexture() {
+        return this.texture;
+    }
+
+    /**
+     * What kind of entity it is.
+     *
+     * @return The {@link EntityType} of the entity, which gives the size it is drawn at.
+     */
+    public EntityType getEntityType() {
+        return this.type;
+    }
+
+    /**
+     * The hit box of the entity.
+     *
+     * @return A hit box of the entity.
+     */
+    public Hitbox getHitBox() {
+        return this.hitbox;
+    }
+}
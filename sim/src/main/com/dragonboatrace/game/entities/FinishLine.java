@@ -0,0 +1,39 @@
+package main.com.dragonboatrace.game.entities;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Represents the finish line of the race.
+ *
+ * @author Benji Garment, Joe Wrieden
+ */
+public class FinishLine extends Entity {
+
+    /**
+     * The width the finish line spans.
+     */
+    private final int width;
+
+    /**
+     * Creates a new Finish Line at a position and with a width which it will span.
+     * <p>
+     * The position is in race distance, so the finish line never moves and comes into view as the
+     * {@link main.com.dragonboatrace.game.tools.RaceCamera} gets close to it.
+     *
+     * @param pos   The position of the finish line.
+     * @param width The width of the finish line.
+     */
+    public FinishLine(Vector2 pos, int width) {
+        super(new Vector2(pos.x, pos.y), new Vector2(), EntityType.FINISH, "finish.png");
+        this.width = width;
+    }
+
+    /**
+     * Get the width the finish line spans.
+     *
+     * @return An int of the width of the finish line.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+}
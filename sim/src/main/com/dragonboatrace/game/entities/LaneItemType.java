@@ -0,0 +1,28 @@
+package main.com.dragonboatrace.game.entities;
+
+/**
+ * A kind of item that moves down a lane, either an {@link ObstacleType} or a {@link PowerUpType}.
+ */
+public interface LaneItemType {
+
+    /**
+     * Get the speed the item moves down the lane at, on top of the speed of the boat in the lane.
+     *
+     * @return A float of the item's speed.
+     */
+    float getSpeed();
+
+    /**
+     * Get the damage the item does to a boat that hits it.
+     *
+     * @return A float of the damage.
+     */
+    float getDamage();
+
+    /**
+     * Get the path of the image the item is drawn with.
+     *
+     * @return A String of the image path.
+     */
+    String getTexture();
+}
@@ -5,7 +5,7 @@ package main.com.dragonboatrace.game.entities;
  *
  * @author Benji Garment, Joe Wrieden
  */
-public enum ObstacleType {
+public enum ObstacleType implements LaneItemType {
     /* ENUM(texture, speed, damage)*/
     ROCK("rock.png", 50, 20),
     BRANCH("branch.png", 60, 10),
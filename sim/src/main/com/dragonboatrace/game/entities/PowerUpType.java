@@ -5,7 +5,7 @@ package main.com.dragonboatrace.game.entities;
  *
  * @author Babar Khan
  */
-public enum PowerUpType {
+public enum PowerUpType implements LaneItemType {
     /* ENUM(texture, speed, damage)*/
     SPEED("power_up_speed.png", 50, 0),
     REPAIR("power_up_repair.png", 50, 0),
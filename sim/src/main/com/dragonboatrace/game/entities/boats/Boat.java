@@ -1,26 +1,18 @@
 package main.com.dragonboatrace.game.entities.boats;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.JsonValue;
 import main.com.dragonboatrace.game.entities.Entity;
 import main.com.dragonboatrace.game.entities.EntityType;
-import main.com.dragonboatrace.game.entities.Obstacle;
-import main.com.dragonboatrace.game.entities.PowerUp;
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.entities.PowerUpType;
 import main.com.dragonboatrace.game.tools.Hitbox;
 import main.com.dragonboatrace.game.tools.Lane;
-import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.LaneItems;
+import main.com.dragonboatrace.game.tools.Profiler;
+import main.com.dragonboatrace.game.tools.ProfilerPhase;
+import main.com.dragonboatrace.game.tools.RaceRandom;
 
-import java.util.Iterator;
-import java.util.ListIterator;
 /**
  * Represents a generic Boat.
  *
@@ -28,6 +20,23 @@ import java.util.ListIterator;
  */
 public class Boat extends Entity {
 
+    /**
+     * How far above the bottom of its lane's view a boat is, which is also its y position at the start of a race.
+     */
+    public static final int START_Y = 100;
+
+    /**
+     * The number of frames a second the boats were first tuned at, when everything they did happened once a frame.
+     * <p>
+     * Those amounts per frame are now rates per second, so a boat behaves the same however often it is updated.
+     */
+    public static final int TUNED_RATE = 60;
+
+    /**
+     * The penalty time given for each second a boat spends outside of its lane.
+     */
+    public static final float OUT_OF_LANE_PENALTY = 0.1f * TUNED_RATE;
+
     /**
      * The rate at which the stamina is used or regenerated at.
      */
@@ -38,11 +47,6 @@ public class Boat extends Entity {
      */
     private final int minBoostSpeed = 5;
 
-    /**
-     * The formatter used to align the text on-screen.
-     */
-    protected GlyphLayout layout;
-
     /**
      * The health of the boat.
      */
@@ -90,6 +94,11 @@ public class Boat extends Entity {
      */
     protected Lane lane;
 
+    /**
+     * The random numbers used by the boat, split from its lane's.
+     */
+    protected RaceRandom random;
+
     /**
      * The lanes hit box, use to determine if the boat is still in the lane.
      */
@@ -110,6 +119,11 @@ public class Boat extends Entity {
      */
     protected boolean recentCollision = false;
 
+    /**
+     * If the boat was steered this step, its sideways velocity is then held for the whole step rather than dying away.
+     */
+    protected boolean steering = false;
+
     /**
      * Timer used to countdown for when the boat can move again after a collision.
      */
@@ -135,41 +149,6 @@ public class Boat extends Entity {
      */
     protected float penaltyTime;
 
-    /**
-     * Generator for FreeType Font.
-     */
-    protected FreeTypeFontGenerator generator;
-
-    /**
-     * Parameter for FreeType Font.
-     */
-    protected FreeTypeFontGenerator.FreeTypeFontParameter parameter;
-
-    /**
-     * Font for Health Bar.
-     */
-    protected BitmapFont healthFont;
-
-    /**
-     * Font for Stamina Bar.
-     */
-    protected BitmapFont staminaFont;
-
-    /**
-     * Font for Shield Bar.
-     */
-    protected BitmapFont shieldFont;
-
-    /**
-     * Font for Shield Bar.
-     */
-    protected BitmapFont boostFont;
-
-    /**
-     * Font for Name Tag.
-     */
-    protected BitmapFont nameFont;
-
     // >>>> Modified in assessment 2 <<<<
     /**
      * Creates a Boat with the specified BoatType for pre-defined values,
@@ -180,22 +159,8 @@ public class Boat extends Entity {
      * @param name The name of the boat.
      */
     public Boat(BoatType boat, Lane lane, String name) {
-        this(boat, lane, name, true);
-    }
-
-    // >>>> Added in assessment 2 <<<<
-    /**
-     * Creates a Boat with the specified BoatType for pre-defined values,
-     * a Lane to give the boat its position and a name for easy identification.
-     *
-     * @param boat The type of boat to use as a template.
-     * @param lane The lane the boat is in.
-     * @param name The name of the boat.
-     * @param loadTextures If the enity should load its textures.
-     */
-    public Boat(BoatType boat, Lane lane, String name, boolean loadTextures) {
         /* Get boat position from the position of the lane. */
-        super(new Vector2(lane.getHitbox().getX() + (lane.getHitbox().getWidth() - EntityType.BOAT.getWidth()) / 2.0f, 100), new Vector2(), EntityType.BOAT, boat.getImageSrc(), loadTextures);
+        super(new Vector2(lane.getHitbox().getX() + (lane.getHitbox().getWidth() - EntityType.BOAT.getWidth()) / 2.0f, START_Y), new Vector2(), EntityType.BOAT, boat.getImageSrc());
         this.shield = 0;
         this.boost = 0;
         this.maxHealth = boat.getHealth();
@@ -205,6 +170,7 @@ public class Boat extends Entity {
         this.speed = boat.getSpeed();
         this.maxStamina = boat.getStamina();
         this.lane = lane;
+        this.random = lane.boatRandom();
         this.name = name;
         this.boatType = boat;
         this.time = 0;
@@ -213,9 +179,7 @@ public class Boat extends Entity {
 
         /* Store the lanes hit box to save time on using Getters. */
         laneBox = lane.getHitbox();
-        if (loadTextures) {
-            generateFonts();
-        }
+        lane.follow(this.distanceTravelled);
     }
 
     // >>>> Added in assessment 2 <<<<
@@ -229,24 +193,9 @@ public class Boat extends Entity {
      * @param data The JsonValue that contains any other data the class requires to fully reconstruct it.
      */
     public Boat(Vector2 pos, Vector2 vel, BoatType boat, Lane lane, String name, JsonValue data) {
-        this(pos, vel, boat, lane, name, data, true);
-    }
-
-    // >>>> Added in assessment 2 <<<<
-    /**
-     * Creates a Boat with the specified BoatType for pre-defined values,
-     * a Lane to give the boat its position and a name for easy identification.
-     *
-     * @param boat The type of boat to use as a template.
-     * @param lane The lane the boat is in.
-     * @param name The name of the boat.
-     * @param data The JsonValue that contains any other data the class requires to fully reconstruct it.
-     * @param loadTextures If the enity should load its textures.
-     */
-    public Boat(Vector2 pos, Vector2 vel, BoatType boat, Lane lane, String name, JsonValue data, Boolean loadTextures) {
-        super(pos, vel, EntityType.BOAT, boat.getImageSrc(), loadTextures);
+        super(pos, vel, EntityType.BOAT, boat.getImageSrc());
         this.shield = data.getInt("shield");
-        this.boost = data.getInt("boost");
+        this.boost = data.getFloat("boost");
         this.maxHealth = boat.getHealth();
         this.health = data.getFloat("health");
         this.stamina = data.getFloat("stamina");
@@ -254,6 +203,7 @@ public class Boat extends Entity {
         this.speed = boat.getSpeed();
         this.maxStamina = boat.getStamina();
         this.lane = lane;
+        this.random = data.has("random") ? new RaceRandom(data.get("random")) : lane.boatRandom();
         this.name = name;
         this.boatType = boat;
         this.time = data.getFloat("time");
@@ -261,93 +211,24 @@ public class Boat extends Entity {
         this.penaltyTime = data.getFloat("penaltyTime");
         this.distanceTravelled = data.getFloat("distanceTravelled");
 
-        laneBox = lane.getHitbox();
-        if (loadTextures) {
-            generateFonts();
-        }
-    }
-
-    // >>>> Added in assessment 2 <<<<
-    /**
-     * Method to generate the fonts needed for displaying the text.
-     */
-    private void generateFonts() {
-        /* Setup fonts to use in the HUD */
-        this.generator = new FreeTypeFontGenerator(Gdx.files.internal("osaka-re.ttf"));
-        this.parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        this.layout = new GlyphLayout();
-
-        /*Font for displaying the name */
-        parameter.size = 50;
-        parameter.color = Color.WHITE;
-        parameter.borderColor = Color.BLACK;
-        parameter.borderWidth = 3;
-        this.nameFont = generator.generateFont(parameter);
-
-        layout.setText(nameFont, this.name);
-        if (this.layout.width > this.laneBox.getWidth()) {
-            parameter.size = (int) (50 / (this.layout.width / this.laneBox.getWidth()));
-            parameter.color = Color.BLACK;
-            nameFont = generator.generateFont(parameter);
-        }
-
-        /* Font for displaying the health */
-        parameter.size = 50;
-        parameter.color = Color.RED;
-        this.healthFont = generator.generateFont(parameter);
-
-        layout.setText(healthFont, "Health:  XXX");
-        if (this.layout.width > this.laneBox.getWidth()) {
-            parameter.size = (int) (50 / (this.layout.width / this.laneBox.getWidth()));
-            parameter.color = Color.RED;
-            healthFont = generator.generateFont(parameter);
-        }
-
-        /* Font for displaying the stamina */
-        parameter.size = 50;
-        parameter.color = Color.GREEN;
-        this.staminaFont = generator.generateFont(parameter);
-
-        layout.setText(staminaFont, "Stamina: XXX");
-        if (this.layout.width > this.laneBox.getWidth()) {
-            parameter.size = (int) (50 / (this.layout.width / this.laneBox.getWidth()));
-            parameter.color = Color.GREEN;
-            staminaFont = generator.generateFont(parameter);
-        }
-
-        /* Font for displaying the shield */
-        parameter.size = 50;
-        parameter.color = Color.BLUE;
-        this.shieldFont = generator.generateFont(parameter);
-
-        layout.setText(shieldFont, "Shield: XXX");
-        if (this.layout.width > this.laneBox.getWidth()) {
-            parameter.size = (int) (50 / (this.layout.width / this.laneBox.getWidth()));
-            parameter.color = Color.BLUE;
-            shieldFont = generator.generateFont(parameter);
-        }
-
-        /* Font for displaying the boost */
-        parameter.size = 50;
-        parameter.color = Color.YELLOW;
-        this.boostFont = generator.generateFont(parameter);
+        /* The y position always follows from the distance travelled, whatever was saved */
+        this.position.y = START_Y + this.distanceTravelled;
+        this.hitbox.move(this.position.x, this.position.y);
+        this.previousPosition.set(this.position);
+        this.renderPosition.set(this.position);
 
-        layout.setText(shieldFont, "Boost: XXX");
-        if (this.layout.width > this.laneBox.getWidth()) {
-            parameter.size = (int) (50 / (this.layout.width / this.laneBox.getWidth()));
-            parameter.color = Color.YELLOW;
-            boostFont = generator.generateFont(parameter);
-        }
+        laneBox = lane.getHitbox();
+        lane.follow(this.distanceTravelled);
     }
 
     /**
      * Return a scalar to multiply the velocity by when using stamina.
      *
-     * @return A float between 0.25 and 1 which is then scaled by {@link main.com.dragonboatrace.game.tools.Config#STAMINA_SPEED_DIVISION}.
+     * @return A float between 0.25 and 1 which is then scaled by {@link main.com.dragonboatrace.game.tools.RaceSettings#getStaminaSpeedDivision()}.
      */
     protected float velocityPercentage() {
         double result = 0.25 + Math.log(this.stamina + 1) / 3;
-        return (float) result / Config.STAMINA_SPEED_DIVISION;
+        return (float) result / this.lane.getSettings().getStaminaSpeedDivision();
     }
 
     /**
@@ -364,7 +245,8 @@ public class Boat extends Entity {
     }
 
     /**
-     * Get the amount of stamina that will be gained for the current amount of stamina.
+     * Get the amount of stamina that will be gained every 1 / {@link #TUNED_RATE} seconds for the current amount of
+     * stamina.
      *
      * @return A float of how much stamina will be gained.
      */
@@ -375,6 +257,8 @@ public class Boat extends Entity {
 
     /**
      * Update the position of the boat in relation to the amount of time passed.
+     * <p>
+     * The boat's y position is its distance travelled, kept {@link #START_Y} above the bottom of its lane's view.
      *
      * @param deltaTime The time passed since the last frame.
      */
@@ -382,28 +266,39 @@ public class Boat extends Entity {
 
         /* Check if boat is still in the lane */
         if (this.getHitBox().leaves(this.laneBox)) {
-            this.penaltyTime += 0.1;
+            this.penaltyTime += OUT_OF_LANE_PENALTY * deltaTime;
         }
-        this.penaltyTime = Math.round(this.penaltyTime * 100) / (float) 100;
 
         this.distanceTravelled += this.velocity.y * deltaTime;
+        this.position.y = START_Y + this.distanceTravelled;
 
         /* Update lane contents */
-        this.lane.update(deltaTime, this.velocity.y);
+        Profiler.start(ProfilerPhase.LANES);
+        this.lane.follow(this.distanceTravelled);
+        this.lane.update(deltaTime);
+        Profiler.stop(ProfilerPhase.LANES);
 
-        /* Slowly return the velocity to 0 */
-        float dampen = agility / 100;
+        /* Slowly return the velocity to 0, unless the boat is being steered */
         if (!(this.velocity.isZero((float) 0.001))) {
-            this.position.x += this.velocity.x * deltaTime;
-            this.velocity.scl(dampen);
+            if (this.steering) {
+                this.position.x += this.velocity.x * deltaTime;
+            } else {
+                glide(deltaTime);
+            }
         }
+        this.steering = false;
 
         // >>>> Added in assessment 2 <<<<
+        /* The boost counts down in frames at the tuned rate, the extra speed is lost as it passes 1 */
         if (this.boost > 0) {
-            this.boost--;
-            if (this.boost == 1) {
+            float before = this.boost;
+            this.boost -= deltaTime * TUNED_RATE;
+            if (before > 1 && this.boost <= 1) {
                 this.speed -= 100;
             }
+            if (this.boost < 0) {
+                this.boost = 0;
+            }
         }
 
         /* The hit box needs moving to keep at the same pos as the boat */
@@ -411,65 +306,70 @@ public class Boat extends Entity {
     }
 
     /**
-     * Render the boat and its lane contents. Renders the boat as well as its health and stamina.
+     * Move the boat sideways for a step while its velocity dies away.
+     * <p>
+     * Every 1 / {@link #TUNED_RATE} seconds the velocity keeps {@link #agility} percent of itself, so over a step it is
+     * scaled by that fraction to the power of the number of tuned frames in the step. The boat moves by the integral
+     * of the slowing velocity over the step, so it glides the same distance whatever the length of the steps.
      *
-     * @param batch The SpriteBatch that the renders will be added to.
-     * @param renderer The ShapeRender that renders the shield.
+     * @param deltaTime The length of the step.
      */
-    public void render(SpriteBatch batch, ShapeRenderer renderer) {
-        batch.begin();
-        this.lane.render(batch);
-
-        layout.setText(healthFont, "Health:  XXX");
-
-        healthFont.draw(batch, "Health:  " + (int) this.getHealth(), this.lane.getHitbox().getX() + 5, Gdx.graphics.getHeight() - 55);
-
-        layout.setText(staminaFont, "Stamina: XXX");
-
-        staminaFont.draw(batch, "Stamina: " + (int) this.getStamina(), this.lane.getHitbox().getX() + 5, Gdx.graphics.getHeight() - 105);
-
-        // >>>> Added in assessment 2 <<<<
-        layout.setText(shieldFont, "Shield: XXX");
-
-        shieldFont.draw(batch, "Shield: " + (int) this.getShield(), this.lane.getHitbox().getX() + 5, Gdx.graphics.getHeight() - 155);
+    private void glide(float deltaTime) {
+        float kept = this.agility / 100;
+        if (kept >= 1) {
+            this.position.x += this.velocity.x * deltaTime;
+            return;
+        }
+        /* The fraction of the velocity lost each second, as a continuous rate */
+        double decay = -Math.log(kept) * TUNED_RATE;
+        double scale = Math.exp(-decay * deltaTime);
+        this.position.x += this.velocity.x * (float) ((1 - scale) / decay);
+        this.velocity.scl((float) scale);
+    }
 
-        // >>>> Added in assessment 2 <<<<
-        layout.setText(boostFont, "Boost: XXX");
-        boostFont.draw(batch, "Boost: " + (int) this.getBoost(), this.lane.getHitbox().getX() + 5, Gdx.graphics.getHeight() - 205);
+    /**
+     * Set the sideways velocity of the boat, which it keeps until the end of the step.
+     *
+     * @param velocityX The sideways velocity to steer at.
+     */
+    protected void steer(float velocityX) {
+        this.velocity.x = velocityX;
+        this.steering = true;
+    }
 
-        // >>>> Added in assessment 2 <<<<
-        super.render(batch);
-        batch.end();	
-        if (this.shield > 0) {	
-            Gdx.gl.glEnable(GL20.GL_BLEND);	
-            Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);	
-            batch.begin();	
-            renderer.setColor(new Color(0, 0, 1, this.shield / 150));	
-            renderer.begin(ShapeType.Filled);	
-            renderer.circle(this.position.x + (EntityType.BOAT.getWidth() / 2), this.position.y + (EntityType.BOAT.getHeight() / 2), EntityType.BOAT.getHeight() * 0.6f);	
-            renderer.end();	
-            batch.end();	
-        }
+    /**
+     * Regain stamina for a step, up to the maximum stamina of the boat.
+     *
+     * @param deltaTime The length of the step.
+     */
+    protected void recoverStamina(float deltaTime) {
+        this.stamina = (this.stamina < this.maxStamina) ? this.regenerateStamina() * deltaTime * TUNED_RATE + this.stamina : this.maxStamina;
     }
 
     // >>>> Modified in assessment 2 <<<<
     /**
      * Check for collisions by getting the contents of the lane and checking their positions to the boat position.
+     * <p>
+     * Only the obstacles level with the boat are looked at.
      *
      * @return True if a collision occurred, False if no collision.
      */
     public boolean checkObstacleCollisions() {
+        Profiler.start(ProfilerPhase.COLLISIONS);
         boolean recentCollision = false;
 
         /* Check for collisions with obstacles */
-        Iterator<Obstacle> obstacleIterator = this.lane.getObstacles().iterator();
-        while (obstacleIterator.hasNext()) {
-            Obstacle obstacle = obstacleIterator.next();
-            if (obstacle.getHitBox().collidesWith(this.hitbox)) {
-                obstacle.dispose();
-                obstacleIterator.remove();
-
-                float obstacleDamage = obstacle.getDamage();
+        LaneItems<ObstacleType> obstacles = this.lane.getObstacles();
+        float top = this.hitbox.getY() + this.hitbox.getHeight();
+        int i = obstacles.firstOverlapping(this.hitbox.getY());
+        while (i < obstacles.size() && obstacles.getY(obstacles.slot(i)) < top) {
+            int obstacle = obstacles.slot(i);
+            if (!obstacles.collidesWith(obstacle, this.hitbox)) {
+                i++;
+            } else {
+                float obstacleDamage = obstacles.getType(obstacle).getDamage();
+                obstacles.removeAt(i);
+
                 /* Manage health loss when there is a shield */
                 if (this.shield == 0){
                     this.health -= obstacleDamage;
@@ -488,48 +388,50 @@ public class Boat extends Entity {
             }
         }
 
+        Profiler.stop(ProfilerPhase.COLLISIONS);
         return recentCollision;
     }
 
     // >>>> Added in assessment 2 <<<<
     /**
      * Check for collisions by getting the contents of the lane and checking their positions to the boat position.
+     * <p>
+     * Only the power ups level with the boat are looked at.
      *
      * @return True if a collision occurred, False if no collision.
      */
     public boolean checkPowerUpCollisions() {
+        Profiler.start(ProfilerPhase.COLLISIONS);
         boolean recentCollision = false;
 
         /* Check for collisions with power ups */
-        Iterator<PowerUp> powerUpIterator = this.lane.getPowerUps().iterator();
-        while (powerUpIterator.hasNext()) {
-            PowerUp powerUp = powerUpIterator.next();
-            if (powerUp.getHitBox().collidesWith(this.hitbox)) {
+        LaneItems<PowerUpType> powerUps = this.lane.getPowerUps();
+        float top = this.hitbox.getY() + this.hitbox.getHeight();
+        int i = powerUps.firstOverlapping(this.hitbox.getY());
+        while (i < powerUps.size() && powerUps.getY(powerUps.slot(i)) < top) {
+            int powerUp = powerUps.slot(i);
+            if (!powerUps.collidesWith(powerUp, this.hitbox)) {
+                i++;
+            } else {
                 recentCollision = true;
-                powerUp.dispose();
-                powerUpIterator.remove();
+                PowerUpType type = powerUps.getType(powerUp);
+                powerUps.removeAt(i);
                 
-                switch (powerUp.getType()) {
-                    case "CLEAR":
-                        ListIterator<Obstacle> iter = this.lane.getObstacles().listIterator();
-                        while (iter.hasNext()) {
-                            Obstacle obstacle = iter.next();
-                            iter.remove();
-                            obstacle.dispose();
-                            this.lane.removeObstacle(obstacle);
-                        }
+                switch (type) {
+                    case CLEAR:
+                        this.lane.clearObstacles();
                         break;
-                    case "SPEED":
+                    case SPEED:
                         this.boost += 100;
                         this.speed += 100;
                         break;
-                    case "REPAIR":
+                    case REPAIR:
                         this.health = this.maxHealth;
                         break;
-                    case "SHIELD":
+                    case SHIELD:
                         this.shield = 50;
                         break;
-                    case "STAMINA":
+                    case STAMINA:
                         this.stamina = this.maxStamina;
                         break;
                     default:
@@ -537,21 +439,10 @@ public class Boat extends Entity {
                 }
             }
         }
+        Profiler.stop(ProfilerPhase.COLLISIONS);
         return recentCollision;
     }
 
-    /**
-     * Update the vertical position of the boat onscreen.
-     * <p>
-     * This is not implemented in the generic Boat class and must be implemented in the specific Boat kind.
-     *
-     * @param lineHeight   The height of the finish line Entity.
-     * @param raceDistance The length of the race.
-     */
-    public void updateYPosition(int lineHeight, int raceDistance) {
-
-    }
-
     /* Adders */
 
     /**
@@ -733,8 +624,13 @@ public class Boat extends Entity {
         this.totalTime += nowTime;
     }
 
+    /**
+     * Get the penalty time the boat has been given, to the nearest hundredth of a second.
+     *
+     * @return A float of the penalty time.
+     */
     public float getPenaltyTime() {
-        return this.penaltyTime;
+        return Math.round(this.penaltyTime * 100) / (float) 100;
     }
 
     /**
@@ -746,15 +642,6 @@ public class Boat extends Entity {
         return this.distanceTravelled;
     }
 
-    /**
-     * Dispose of the fonts used in the HUD and then perform {@link Entity}'s dispose.
-     */
-    public void dispose() {
-
-        this.lane.dispose();
-        super.dispose();
-    }
-
     // >>>> Added in assessment 2 <<<<
     /**
      * Creates a JSON string needed to fully reconstruct the class.
@@ -762,7 +649,7 @@ public class Boat extends Entity {
      * @return JSON String contain all values needed to reconstruct the class.
      */
     public String toJson() {
-        return String.format("{pos:{x:%f, y:%f}, vel:{x:%f, y:%f}, type:%s, lane:%s, name:%s, data:{shield:%f, boost:%f, health:%f, stamina:%f, time:%f, totalTime:%f, penaltyTime:%f, distanceTravelled:%f}}", 
+        return String.format("{pos:{x:%f, y:%f}, vel:{x:%f, y:%f}, type:%s, lane:%s, name:%s, data:{shield:%f, boost:%f, health:%f, stamina:%f, time:%f, totalTime:%f, penaltyTime:%f, distanceTravelled:%f, random:%s}}", 
             this.position.x,
             this.position.y,
             this.velocity.x,
@@ -777,7 +664,8 @@ public class Boat extends Entity {
             this.time,
             this.totalTime,
             this.penaltyTime,
-            this.distanceTravelled
+            this.distanceTravelled,
+            this.random.toJson()
         );
     }
 }
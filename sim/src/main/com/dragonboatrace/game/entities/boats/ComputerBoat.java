@@ -0,0 +1,432 @@
+package main.com.dragonboatrace.game.entities.boats;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.JsonValue;
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.entities.PowerUpType;
+import main.com.dragonboatrace.game.tools.AiPolicy;
+import main.com.dragonboatrace.game.tools.Hitbox;
+import main.com.dragonboatrace.game.tools.Lane;
+import main.com.dragonboatrace.game.tools.LaneItems;
+import main.com.dragonboatrace.game.tools.PathPlanner;
+import main.com.dragonboatrace.game.tools.RaceRandom;
+
+
+/**
+ * Represents a specific Computer controlled Boat.
+ *
+ * @author Benji Garment, Joe Wrieden, Jacob Turner
+ */
+public class ComputerBoat extends Boat {
+
+    /**
+     * The difficulty from which computer boats plan a path through everything ahead of them, rather than only
+     * reacting to the closest obstacle.
+     */
+    public static final int PLANNING_DIFFICULTY = 2;
+
+    /**
+     * The area in which the computer boat will look for obstacles to avoid.
+     */
+    private final Hitbox moveArea;
+
+    /**
+     * The x-offset of the moveArea as the area is equal on both sides of the boat.
+     */
+    private final int xOffset;
+
+    /**
+     * The random amount of stamina to have before using stamina again.
+     */
+    private float randomWait;
+
+    /**
+     * If the ComputerBoat is currently regenerating stamina.
+     */
+    private boolean waiting;
+
+    /**
+     * If the boat last decided to steer away from an obstacle or towards a power up, rather than race straight on.
+     */
+    private boolean turning;
+
+    /**
+     * The way the boat last decided to steer: -1 for left, 1 for right and 0 for neither.
+     */
+    private int direction;
+
+    /**
+     * Plans the path of the boat on hard difficulty, null if the boat only reacts to the closest obstacle.
+     */
+    private final PathPlanner planner;
+
+    /**
+     * The time the boat has been racing for, which its path is planned against.
+     */
+    private double clock;
+
+    /**
+     * The table the boat decides from when the race uses one, otherwise null.
+     */
+    private final AiPolicy policy;
+
+    /**
+     * If the boat last decided from its table to use stamina to go faster.
+     */
+    private boolean sprinting;
+
+    /**
+     * Creates a computer boat with values from boat, in Lane lane, an identifying name and with a random speed.
+     *
+     * @param boat           The BoatType to get values from.
+     * @param lane           The lane the boat is racing in.
+     * @param name           The name of the boat.
+     * @param pickSpeedValue The speed of the boat is chosen based on this value.
+     */
+    public ComputerBoat(BoatType boat, Lane lane, String name, int pickSpeedValue) {
+        super(boat, lane, name);
+        this.speed = this.pickSpeed(pickSpeedValue, this.random);
+        this.xOffset = this.getHitBox().getWidth() / pickSpeedValue;
+        int yOffset = this.getHitBox().getHeight() / pickSpeedValue;
+        this.moveArea = new Hitbox(this.position.x - xOffset, this.position.y, this.getHitBox().getWidth() + 2 * xOffset, this.getHitBox().getHeight() + 2 * yOffset);
+        this.randomWait = 0;
+        this.waiting = false;
+        this.planner = createPlanner();
+        this.policy = createPolicy();
+    }
+
+    // >>>> Added in assessment 2 <<<<
+    /**
+     * Creates a computer boat from a save, with the same speed it started the race with.
+     *
+     * @param pos            The position of the boat.
+     * @param vel            The velocity of the boat.
+     * @param boat           The BoatType to get values from.
+     * @param lane           The lane the boat is racing in.
+     * @param name           The name of the boat.
+     * @param data           The JsonValue that contains any other data the class requires to fully reconstruct it.
+     * @param pickSpeedValue The speed of the boat is chosen based on this value.
+     */
+    public ComputerBoat(Vector2 pos, Vector2 vel, BoatType boat, Lane lane, String name, JsonValue data, int pickSpeedValue) {
+        super(pos, vel, boat, lane, name, data);
+        /* Pick from a fresh copy of the boat's random numbers so it gets the speed it started the race with */
+        this.speed = this.pickSpeed(pickSpeedValue, this.lane.boatRandom());
+        this.xOffset = this.getHitBox().getWidth() / pickSpeedValue;
+        int yOffset = this.getHitBox().getHeight() / pickSpeedValue;
+        this.moveArea = new Hitbox(this.position.x - xOffset, this.position.y, this.getHitBox().getWidth() + 2 * xOffset, this.getHitBox().getHeight() + 2 * yOffset);
+        this.randomWait = 0;
+        this.waiting = false;
+        this.planner = createPlanner();
+        this.policy = createPolicy();
+    }
+
+    // >>>> Modified in assessment 2 <<<<
+	/**
+     * Update the position of the boat in respect to the time passed since the last frame, steering the way it last
+     * {@link #decide() decided} to.
+     *
+     * @param deltaTime The time passed since the last frame.
+     */
+    public void update(float deltaTime) {
+        if (!recentCollision) {
+            if (this.policy != null) {
+                this.steer(this.speed * this.direction);
+                this.pace(deltaTime);
+            } else if (this.planner != null) {
+                this.followPath(deltaTime);
+                this.cruise(deltaTime);
+            } else if (this.turning) {
+                this.steer(this.speed * this.direction);
+                this.velocity.y = this.speed;
+                this.recoverStamina(deltaTime);
+            } else {
+                if (!this.waiting) {
+                    this.velocity.set(0, this.velocity.y);
+                }
+                this.cruise(deltaTime);
+            }
+            checkPowerUpCollisions();
+            if (this.checkObstacleCollisions()) {
+                recentCollision = true;
+            }
+        } else {
+            this.velocity.set(0, this.lane.getSettings().getObstacleCollisionPenalty());
+            collisionTime += deltaTime;
+            if (collisionTime > this.lane.getSettings().getObstacleCollisionTime()) {
+                collisionTime = 0;
+                recentCollision = false;
+            }
+        }
+
+        if (this.stamina > this.randomWait) {
+            this.waiting = false;
+        }
+
+        this.moveArea.move(position.x - this.xOffset, position.y);
+        super.update(deltaTime);
+        this.clock += deltaTime;
+    }
+
+    /**
+     * Set the forward speed of the boat for a step, using stamina to go faster until it runs low and then waiting for
+     * a random amount of it to come back.
+     *
+     * @param deltaTime The length of the step.
+     */
+    private void cruise(float deltaTime) {
+        /* Logic for if the Computer should use stamina */
+        if (!this.waiting) {
+            float diff = this.useStamina() * deltaTime;
+            if (this.stamina - diff > 0) {
+                this.stamina -= diff;
+                this.velocity.set(this.velocity.x, (this.speed + this.speed * this.velocityPercentage()));
+            } else {
+                this.randomWait = waitForRandomStamina();
+                this.waiting = true;
+            }
+        } else {
+            this.velocity.set(this.velocity.x, this.speed);
+            this.recoverStamina(deltaTime);
+        }
+    }
+
+    /**
+     * Set the forward speed of the boat for a step, using stamina to go faster if the boat last decided to and has
+     * enough of it left, otherwise regaining it.
+     *
+     * @param deltaTime The length of the step.
+     */
+    private void pace(float deltaTime) {
+        float diff = this.useStamina() * deltaTime;
+        if (this.sprinting && this.stamina - diff > 0) {
+            this.stamina -= diff;
+            this.velocity.y = this.speed + this.speed * this.velocityPercentage();
+        } else {
+            this.velocity.y = this.speed;
+            this.recoverStamina(deltaTime);
+        }
+    }
+
+    /**
+     * Steer towards where the planned path puts the boat at the end of a step, as fast as the boat can.
+     *
+     * @param deltaTime The length of the step.
+     */
+    private void followPath(float deltaTime) {
+        if (!this.planner.hasPlan()) {
+            this.velocity.x = 0;
+            return;
+        }
+        float offset = this.planner.getX(this.clock + deltaTime) - this.position.x;
+        this.steer(Math.max(-this.speed, Math.min(this.speed, offset / deltaTime)));
+    }
+
+    /**
+     * Create the planner for the boat, if the race is hard enough for it to plan its path and it does not decide from
+     * a table.
+     *
+     * @return The {@link PathPlanner} of the boat, or null if the boat does not plan its path.
+     */
+    private PathPlanner createPlanner() {
+        if (this.lane.getSettings().getDifficulty() < PLANNING_DIFFICULTY || this.lane.getSettings().isAiPolicy()) {
+            return null;
+        }
+        return new PathPlanner(this.lane, this.getHitBox().getWidth(), this.getHitBox().getHeight());
+    }
+
+    /**
+     * Get the table for the boat to decide from, if the race uses them.
+     *
+     * @return The {@link AiPolicy} of the boat's type at the race's difficulty, or null if the boat decides for itself.
+     */
+    private AiPolicy createPolicy() {
+        if (!this.lane.getSettings().isAiPolicy()) {
+            return null;
+        }
+        return AiPolicy.forBoat(this.boatType, this.lane.getSettings().getDifficulty());
+    }
+
+    /**
+     * Decide where to steer, away from the closest obstacle ahead or else towards a power up, or straight on if there
+     * is neither. On hard difficulty the boat instead plans its path through everything ahead of it. If the race uses
+     * {@link AiPolicy} tables the boat looks up where to steer, and if to use stamina, in the table for its type.
+     * <p>
+     * The boat keeps steering this way, or following its path, until it next decides, which is up to the
+     * {@link main.com.dragonboatrace.game.tools.AiScheduler} of its race.
+     */
+    public void decide() {
+        if (this.policy != null) {
+            int state = AiPolicy.observe(this.lane, this.hitbox, this.stamina / this.maxStamina, this.health / this.maxHealth, this.boost > 1);
+            int action = this.policy.action(state);
+            this.direction = AiPolicy.direction(action);
+            this.sprinting = AiPolicy.sprints(action);
+            return;
+        }
+        if (this.planner != null) {
+            this.planner.plan(this.clock, this.position.x, this.position.y, this.velocity.y, this.speed);
+            return;
+        }
+        /* Check obstacles will return -1 if no obstacles nearby */
+        int closestObstacle = checkObstacles();
+        if (closestObstacle != -1) {
+            this.turning = true;
+            this.direction = moveFromObject(this.lane.getObstacles().getX(closestObstacle));
+            return;
+        }
+        // >>>> Added in assessment 2 <<<<
+        int closestPowerUp = checkPowerUps();
+        if (closestPowerUp != -1) {
+            this.turning = true;
+            this.direction = moveToPowerUp(this.lane.getPowerUps().getX(closestPowerUp));
+            return;
+        }
+        this.turning = false;
+        this.direction = 0;
+    }
+
+    /**
+     * Wait for a random stamina value before using stamina again.
+     *
+     * @return A float of the value to wait for before using stamina.
+     */
+    private float waitForRandomStamina() {
+        return (float) this.random.nextDouble((double) this.maxStamina / 2, this.maxStamina);
+    }
+
+    /**
+     * Check for obstacles in the area, specified by moveArea, to move away from.
+     * <p>
+     * The lane's obstacles are in order of their y position, so the first one found in the area is the closest.
+     *
+     * @return The slot of the closest obstacle in the area or -1 if no obstacles are in the area.
+     */
+    private int checkObstacles() {
+        LaneItems<ObstacleType> obstacles = this.lane.getObstacles();
+        float top = this.moveArea.getY() + this.moveArea.getHeight();
+        for (int i = obstacles.firstOverlapping(this.moveArea.getY()); i < obstacles.size(); i++) {
+            int obstacle = obstacles.slot(i);
+            if (obstacles.getY(obstacle) >= top) {
+                break;
+            }
+            if (obstacles.collidesWith(obstacle, this.moveArea) && obstacles.getY(obstacle) < this.laneBox.getY() + this.laneBox.getHeight()) {
+                return obstacle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Move in the direction away from an object.
+     *
+     * @param obstacleLeft The x position of the left of the obstacle to move away from.
+     * @return The direction to move in: <ul>
+     * <li>-1 if the boat should move to the left.</li>
+     * <li>1 if the boat should move to the right.</li>
+     * <li>0 if the boat should move neither way.</li>
+     * </ul>
+     */
+    private int moveFromObject(float obstacleLeft) {
+        float boatLeft = this.position.x;
+
+        /* Staying away from the edges */
+        if (boatLeft - 10.0f < laneBox.getX()) {
+            return 1;
+        } else if (boatLeft + this.getHitBox().getWidth() + 10.0f > laneBox.getX() + laneBox.getWidth()) {
+            return -1;
+        }
+
+        /* If the boat and obstacle are aligned vertically */
+        if (Float.compare(obstacleLeft, boatLeft) == 0) {
+            return 0;
+        }
+        /* If the obstacle is more to the left of the boat */
+        else if (obstacleLeft < boatLeft) {
+            return 1;
+        }
+        /* If the obstacle is more the right of the boat */
+        else {
+            return -1;
+        }
+    }
+
+    // >>>> Added in assessment 2 <<<<
+    /**
+     * Check for powerups in the area, specified by moveArea, to move away from.
+     *
+     * @return The slot of the closest powerup in the area or -1 if no powerups are in the area.
+     */
+    private int checkPowerUps() {
+        LaneItems<PowerUpType> powerUps = this.lane.getPowerUps();
+        int closest = powerUps.nearestAhead(this.laneBox.getY());
+        if (closest != -1 && powerUps.getY(closest) < this.position.y + (this.laneBox.getHeight() * 0.2f)) {
+            return closest;
+        }
+        return -1;
+    }
+
+    // >>>> Added in assessment 2 <<<<
+    /**
+     * Move in the direction towards a power up.
+     *
+     * @param powerUpLeft The x position of the left of the power up to move towards.
+     * @return The direction to move in: <ul>
+     * <li>-1 if the boat should move to the left.</li>
+     * <li>1 if the boat should move to the right.</li>
+     * <li>0 if the boat should move neither way.</li>
+     * </ul>
+     */
+    private int moveToPowerUp(float powerUpLeft) {
+        float boatLeft = this.position.x;
+
+        /* Staying away from the edges */
+        if (boatLeft - 10.0f < laneBox.getX()) {
+            return 1;
+        } else if (boatLeft + this.getHitBox().getWidth() + 10.0f > laneBox.getX() + laneBox.getWidth()) {
+            return -1;
+        }
+        /* If the boat and powerup are aligned vertically */
+        if (Float.compare(powerUpLeft, boatLeft) == 0) {
+            return 0;
+        }
+        /* If the powerup is more to the left of the boat */
+        else if (powerUpLeft < boatLeft) {
+            return -1;
+        }
+        /* If the powerup is more the right of the boat */
+        else {
+            return 1;
+        }
+    }
+
+    /**
+     * The area in which the boat looks for obstacles to avoid.
+     *
+     * @return The {@link Hitbox} of the area.
+     */
+    public Hitbox getMoveArea() {
+        return this.moveArea;
+    }
+
+    /**
+     * Pick a random speed so that the computer boat is likely to finish in the position specified.
+     *
+     * @param pos The position the boat should finish in.
+     * @param random The random numbers to pick the speed with.
+     * @return A float of the boats speed that it will travel at.
+     */
+    private float pickSpeed(int pos, RaceRandom random) {
+        double multi;
+        switch (pos) {
+            case 2:
+                multi = random.nextDouble(0.95, 0.98);
+                break;
+            case 3:
+                multi = random.nextDouble(0.9, 0.97);
+                break;
+            default:
+                multi = random.nextDouble(0.85, 0.9);
+        }
+        return this.speed * (float) multi;
+    }
+
+}
@@ -1,13 +1,8 @@
 package main.com.dragonboatrace.game.entities.boats;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.JsonValue;
 import main.com.dragonboatrace.game.tools.Lane;
-import main.com.dragonboatrace.game.tools.Config;
 
 /**
  * Represents a specific Player controlled Boat.
@@ -16,6 +11,26 @@ import main.com.dragonboatrace.game.tools.Config;
  */
 public class PlayerBoat extends Boat {
 
+    /**
+     * If the player is steering left.
+     */
+    private boolean left;
+
+    /**
+     * If the player is steering right.
+     */
+    private boolean right;
+
+    /**
+     * If the player is using stamina to go faster.
+     */
+    private boolean boosting;
+
+    /**
+     * How far above the bottom of the screen the boat is shown.
+     */
+    private float viewY = START_Y;
+
     /**
      * Creates a player boat with values from boat, in Lane lane, and an identifying name.
      *
@@ -40,15 +55,20 @@ public class PlayerBoat extends Boat {
         super(pos, vel, boat, lane, name, data);
     }
 
-    public PlayerBoat(BoatType boat, Lane lane, String name, boolean loadTextures) {
-        super(boat, lane, name, loadTextures);
-	}
-
-	public PlayerBoat(Vector2 pos, Vector2 vel, BoatType boat, Lane lane, String name, JsonValue data, boolean loadTextures) {
-        super(pos, vel, boat, lane, name, data, loadTextures);
-	}
+    /**
+     * Set what the player is pressing, used for every update until it is set again.
+     *
+     * @param left     If the player is steering left.
+     * @param right    If the player is steering right.
+     * @param boosting If the player is using stamina to go faster.
+     */
+    public void setControls(boolean left, boolean right, boolean boosting) {
+        this.left = left;
+        this.right = right;
+        this.boosting = boosting;
+    }
 
-	/**
+    /**
      * Update the boats position in respects to the time passed since the last frame.
      *
      * @param deltaTime The time passed since the last frame.
@@ -56,15 +76,15 @@ public class PlayerBoat extends Boat {
     public void update(float deltaTime) {
         /* Allow the player to move if there wasn't a recent collision */
         if (!recentCollision) {
-            if ((Gdx.input.isKeyPressed(Input.Keys.LEFT) || Gdx.input.isKeyPressed(Input.Keys.A)) && this.position.x > this.lane.getHitbox().getX()) {
-                this.velocity.set(-this.speed, this.velocity.y);
+            if (this.left && this.position.x > this.lane.getHitbox().getX()) {
+                this.steer(-this.speed);
             }
 
-            if ((Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D)) && (this.position.x + this.type.getWidth()) < this.lane.getHitbox().getWidth() + this.lane.getHitbox().getX()) {
-                this.velocity.set(this.speed, this.velocity.y);
+            if (this.right && (this.position.x + this.type.getWidth()) < this.lane.getHitbox().getWidth() + this.lane.getHitbox().getX()) {
+                this.steer(this.speed);
             }
 
-            if (Gdx.input.isKeyPressed(Input.Keys.UP) || Gdx.input.isKeyPressed(Input.Keys.W)) {
+            if (this.boosting) {
                 float diff = this.useStamina() * deltaTime;
                 if (this.stamina - diff > 0) {
                     this.stamina -= diff;
@@ -73,10 +93,10 @@ public class PlayerBoat extends Boat {
                     this.velocity.set(this.velocity.x, this.speed);
                 }
             } else {
-                this.stamina = (this.stamina < this.maxStamina) ? this.regenerateStamina() + this.stamina : this.maxStamina;
+                this.recoverStamina(deltaTime);
                 this.velocity.set(this.velocity.x, this.speed);
             }
-            if (this.position.y < Gdx.graphics.getHeight() * 0.75f) {
+            if (this.viewY < this.laneBox.getHeight() * 0.75f) {
                 // >>>> Added in assessment 2 <<<<
                 checkPowerUpCollisions();
                 if (checkObstacleCollisions()) {
@@ -84,9 +104,9 @@ public class PlayerBoat extends Boat {
                 }
             }
         } else {
-            this.velocity.set(0, Config.OBSTACLE_COLLISION_PENALTY);
+            this.velocity.set(0, this.lane.getSettings().getObstacleCollisionPenalty());
             collisionTime += deltaTime;
-            if (collisionTime > Config.OBSTACLE_COLLISION_TIME) {
+            if (collisionTime > this.lane.getSettings().getObstacleCollisionTime()) {
                 collisionTime = 0;
                 recentCollision = false;
             }
@@ -94,35 +114,32 @@ public class PlayerBoat extends Boat {
         super.update(deltaTime);
     }
 
-    // >>>> Modified in assessment 2 <<<<
-    /**
-     * Renders the players boat with the word "Player" at the top of the lane to indicate which lane is the players.
-     *
-     * @param batch The SpriteBatch that the renders will be added to.
-     * @param renderer The ShapeRender that renders the shield.
-     */
-    public void render(SpriteBatch batch, ShapeRenderer renderer) {
-        batch.begin();
-        layout.setText(nameFont, this.name);
-        nameFont.draw(batch, this.name, this.lane.getHitbox().getX() + 5, Gdx.graphics.getHeight() - 5);
-        batch.end();
-        super.render(batch, renderer);
-    }
-
     /**
-     * Update the vertical position of the boat on-screen. Is related to the distance travelled in the race.
+     * Update how far above the bottom of the screen the boat is shown. Is related to the distance travelled in the race.
+     * <p>
+     * For the last fifth of the race the boat moves up the screen towards the finish line, which the
+     * {@link main.com.dragonboatrace.game.tools.RaceCamera} does by following the boat less closely.
      *
      * @param lineHeight   The height of the finish line Entity.
      * @param raceDistance The length of the race.
      */
     public void updateYPosition(int lineHeight, int raceDistance) {
         if (this.distanceTravelled / (raceDistance) < 0.8f) {
-            this.position.y = 100;
+            this.viewY = START_Y;
         } else {
-            this.position.y = (this.distanceTravelled - raceDistance * 0.8f) / (raceDistance - lineHeight - raceDistance * 0.8f) * (Gdx.graphics.getHeight() - 100) + 100;
+            this.viewY = (this.distanceTravelled - raceDistance * 0.8f) / (raceDistance - lineHeight - raceDistance * 0.8f) * (this.laneBox.getHeight() - START_Y) + START_Y;
         }
     }
 
+    /**
+     * Get how far above the bottom of the screen the boat is shown.
+     *
+     * @return A float of the height on the screen.
+     */
+    public float getViewY() {
+        return this.viewY;
+    }
+
     /**
      * If the player boat has no health left.
      *
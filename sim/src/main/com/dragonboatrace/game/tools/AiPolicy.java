@@ -0,0 +1,444 @@
+package main.com.dragonboatrace.game.tools;
+
+import main.com.dragonboatrace.game.entities.EntityType;
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.entities.PowerUpType;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A table of what a computer boat should do in every situation it can be in, worked out ahead of time by
+ * {@link PolicySolver} so deciding during a race is only a few array reads.
+ * <p>
+ * A situation is quantized into a state from the closest obstacle ahead of the boat, where the boat is across its
+ * lane, which side the closest power up is on, and buckets of the boat's stamina and health and if it has a boost. The
+ * table holds one action for each state, which way to steer and if the boat should use its stamina to go faster.
+ * <p>
+ * Tables are generated for each {@link BoatType} and difficulty by the {@code generatePolicies} task, which the desktop
+ * {@code dist} task runs, and loaded from the {@code policies} folder of the assets. A table that is missing is solved the first time it is needed, and each
+ * table is only loaded or solved once however many boats use it.
+ */
+public final class AiPolicy {
+
+    /**
+     * The number of columns the position of an obstacle across the lane from the boat is split into.
+     */
+    public static final int OBSTACLE_COLUMNS = 7;
+
+    /**
+     * The number of rows the distance of an obstacle ahead of the boat is split into.
+     */
+    public static final int OBSTACLE_ROWS = 6;
+
+    /**
+     * The width of each obstacle column, centred on the middle of the boat.
+     */
+    public static final float COLUMN_WIDTH = 30;
+
+    /**
+     * The height of each obstacle row, starting where an obstacle first touches the bottom of the boat.
+     */
+    public static final float ROW_HEIGHT = 60;
+
+    /**
+     * The obstacle state for no obstacle near enough to matter, after every column and row.
+     */
+    public static final int NO_OBSTACLE = OBSTACLE_COLUMNS * OBSTACLE_ROWS;
+
+    /**
+     * The number of buckets the position of the boat across its lane is split into.
+     */
+    public static final int LANE_BUCKETS = 5;
+
+    /**
+     * The power up states: none ahead, ahead to the left, straight ahead and ahead to the right.
+     */
+    public static final int NO_POWER_UP = 0, POWER_UP_LEFT = 1, POWER_UP_AHEAD = 2, POWER_UP_RIGHT = 3, POWER_UPS = 4;
+
+    /**
+     * The number of buckets stamina is split into.
+     */
+    public static final int STAMINA_BUCKETS = 4;
+
+    /**
+     * The number of buckets health is split into.
+     */
+    public static final int HEALTH_BUCKETS = 3;
+
+    /**
+     * The number of boost states, without and with a boost.
+     */
+    public static final int BOOST_STATES = 2;
+
+    /**
+     * The number of states in a table.
+     */
+    public static final int STATES = (NO_OBSTACLE + 1) * LANE_BUCKETS * POWER_UPS * STAMINA_BUCKETS * HEALTH_BUCKETS * BOOST_STATES;
+
+    /**
+     * The number of actions, each of steering left, straight on or right either with or without using stamina.
+     */
+    public static final int ACTIONS = 6;
+
+    /**
+     * The first four bytes of a table file.
+     */
+    private static final int MAGIC = 0x44425250;
+
+    /**
+     * The version of the table file format, changed whenever states are quantized differently.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The tables that have been asked for, loaded or solved or not yet, by the name of their file.
+     */
+    private static final ConcurrentMap<String, Entry> TABLES = new ConcurrentHashMap<String, Entry>();
+
+    /**
+     * The boat type the table is for.
+     */
+    private final BoatType boat;
+
+    /**
+     * The difficulty the table is for.
+     */
+    private final int difficulty;
+
+    /**
+     * The action for each state, two to a byte with the even state in the low four bits.
+     */
+    private final byte[] actions;
+
+    /**
+     * Creates a table from its packed actions.
+     *
+     * @param boat       The boat type the table is for.
+     * @param difficulty The difficulty the table is for.
+     * @param actions    The action for each state, packed two to a byte.
+     */
+    private AiPolicy(BoatType boat, int difficulty, byte[] actions) {
+        this.boat = boat;
+        this.difficulty = difficulty;
+        this.actions = actions;
+    }
+
+    /**
+     * Creates a table from the action for each state.
+     *
+     * @param boat       The boat type the table is for.
+     * @param difficulty The difficulty the table is for.
+     * @param actions    The action for each of the {@link #STATES} states.
+     * @return The new {@link AiPolicy}.
+     */
+    public static AiPolicy of(BoatType boat, int difficulty, int[] actions) {
+        byte[] packed = new byte[(STATES + 1) / 2];
+        for (int state = 0; state < STATES; state++) {
+            packed[state / 2] |= actions[state] << (state % 2 * 4);
+        }
+        return new AiPolicy(boat, difficulty, packed);
+    }
+
+    /**
+     * Get the table for a boat type at a difficulty, loading or solving it the first time it is needed.
+     * <p>
+     * Only races that need a table still being loaded or solved wait for it, anything after a different or finished
+     * table carries on.
+     *
+     * @param boat       The boat type.
+     * @param difficulty The difficulty of the race.
+     * @return The {@link AiPolicy} for the boat type.
+     */
+    public static AiPolicy forBoat(BoatType boat, int difficulty) {
+        String name = fileName(boat, difficulty);
+        Entry entry = TABLES.get(name);
+        if (entry == null) {
+            Entry created = new Entry(name, boat, difficulty);
+            entry = TABLES.putIfAbsent(name, created);
+            if (entry == null) {
+                entry = created;
+            }
+        }
+        return entry.get();
+    }
+
+    /**
+     * Load a table from the assets, or solve it if it is missing or out of date.
+     *
+     * @param name       The name of the table's file.
+     * @param boat       The boat type.
+     * @param difficulty The difficulty of the race.
+     * @return The {@link AiPolicy} for the boat type.
+     */
+    private static AiPolicy load(String name, BoatType boat, int difficulty) {
+        InputStream stream = AiPolicy.class.getClassLoader().getResourceAsStream("policies/" + name);
+        if (stream != null) {
+            try {
+                try {
+                    AiPolicy table = read(stream);
+                    if (table.boat == boat && table.difficulty == difficulty) {
+                        return table;
+                    }
+                } finally {
+                    stream.close();
+                }
+            } catch (IOException ignored) {
+                /* Solved below, the same as if it had never been generated */
+            }
+        }
+        return PolicySolver.solve(boat, difficulty);
+    }
+
+    /**
+     * Get the name of the file of the table for a boat type at a difficulty.
+     *
+     * @param boat       The boat type.
+     * @param difficulty The difficulty of the race.
+     * @return A String of the file name.
+     */
+    public static String fileName(BoatType boat, int difficulty) {
+        return boat.name().toLowerCase() + "_" + difficulty + ".policy";
+    }
+
+    /**
+     * Read a table written by {@link #write(OutputStream)}.
+     *
+     * @param stream The stream to read from.
+     * @return The {@link AiPolicy} that was read.
+     * @throws IOException If the stream could not be read or is not a table of the current version.
+     */
+    public static AiPolicy read(InputStream stream) throws IOException {
+        DataInputStream data = new DataInputStream(stream);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a policy table");
+        }
+        int version = data.readInt();
+        int states = data.readInt();
+        if (version != VERSION || states != STATES) {
+            throw new IOException("Policy table is out of date, regenerate it with the generatePolicies task");
+        }
+        int boat = data.readUnsignedByte();
+        if (boat >= BoatType.values().length) {
+            throw new IOException("Policy table is for an unknown boat type " + boat);
+        }
+        int difficulty = data.readInt();
+        byte[] actions = new byte[(STATES + 1) / 2];
+        data.readFully(actions);
+        return new AiPolicy(BoatType.values()[boat], difficulty, actions);
+    }
+
+    /**
+     * Write the table in a compact binary form.
+     *
+     * @param stream The stream to write to.
+     * @throws IOException If the stream could not be written to.
+     */
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream data = new DataOutputStream(stream);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(STATES);
+        data.writeByte(this.boat.ordinal());
+        data.writeInt(this.difficulty);
+        data.write(this.actions);
+        data.flush();
+    }
+
+    /**
+     * Get the action to take in a state.
+     *
+     * @param state The state, from {@link #state}.
+     * @return An int of the action, from 0 to {@link #ACTIONS}.
+     */
+    public int action(int state) {
+        return (this.actions[state / 2] >> (state % 2 * 4)) & 0xF;
+    }
+
+    /**
+     * Get the way an action steers.
+     *
+     * @param action The action.
+     * @return An int of -1 for left, 1 for right and 0 for neither.
+     */
+    public static int direction(int action) {
+        return action / 2 - 1;
+    }
+
+    /**
+     * Get if an action uses stamina to go faster.
+     *
+     * @param action The action.
+     * @return True if the boat should use its stamina.
+     */
+    public static boolean sprints(int action) {
+        return action % 2 == 1;
+    }
+
+    /**
+     * Get the action that steers a way and does or does not use stamina.
+     *
+     * @param direction The way to steer, -1 for left, 1 for right and 0 for neither.
+     * @param sprint    If the boat should use its stamina.
+     * @return An int of the action.
+     */
+    public static int action(int direction, boolean sprint) {
+        return (direction + 1) * 2 + (sprint ? 1 : 0);
+    }
+
+    /**
+     * Get the state from each of its parts.
+     *
+     * @param obstacle The obstacle column and row as {@code row * OBSTACLE_COLUMNS + column}, or {@link #NO_OBSTACLE}.
+     * @param lane     The bucket of the boat's position across its lane.
+     * @param powerUp  Where the closest power up is.
+     * @param stamina  The bucket of the boat's stamina.
+     * @param health   The bucket of the boat's health.
+     * @param boost    1 if the boat has a boost, otherwise 0.
+     * @return An int of the state.
+     */
+    public static int state(int obstacle, int lane, int powerUp, int stamina, int health, int boost) {
+        return ((((obstacle * LANE_BUCKETS + lane) * POWER_UPS + powerUp) * STAMINA_BUCKETS + stamina) * HEALTH_BUCKETS + health) * BOOST_STATES + boost;
+    }
+
+    /**
+     * Quantize what a boat can see in its lane into a state.
+     *
+     * @param lane     The lane the boat is racing in.
+     * @param boat     The hit box of the boat.
+     * @param stamina  The fraction of its stamina the boat has left, from 0 to 1.
+     * @param health   The fraction of its health the boat has left, from 0 to 1.
+     * @param boosting If the boat has a boost.
+     * @return An int of the state.
+     */
+    public static int observe(Lane lane, Hitbox boat, float stamina, float health, boolean boosting) {
+        float centre = boat.getX() + boat.getWidth() / 2f;
+        float bottom = boat.getY();
+
+        int obstacle = NO_OBSTACLE;
+        LaneItems<ObstacleType> obstacles = lane.getObstacles();
+        float reach = bottom - EntityType.OBSTACLE.getHeight() + OBSTACLE_ROWS * ROW_HEIGHT;
+        float side = OBSTACLE_COLUMNS * COLUMN_WIDTH / 2;
+        for (int i = obstacles.firstOverlapping(bottom); i < obstacles.size(); i++) {
+            int item = obstacles.slot(i);
+            float itemY = obstacles.getY(item);
+            if (itemY >= reach) {
+                break;
+            }
+            float offset = obstacles.getX(item) + obstacles.getWidth() / 2f - centre;
+            if (offset >= -side && offset < side) {
+                int column = (int) ((offset + side) / COLUMN_WIDTH);
+                int row = (int) ((itemY - bottom + obstacles.getHeight()) / ROW_HEIGHT);
+                obstacle = row * OBSTACLE_COLUMNS + column;
+                break;
+            }
+        }
+
+        int powerUp = NO_POWER_UP;
+        LaneItems<PowerUpType> powerUps = lane.getPowerUps();
+        int closest = powerUps.nearestAhead(bottom);
+        if (closest != -1 && powerUps.getY(closest) < bottom + OBSTACLE_ROWS * ROW_HEIGHT) {
+            float offset = powerUps.getX(closest) + powerUps.getWidth() / 2f - centre;
+            float touching = (boat.getWidth() + powerUps.getWidth()) / 2f;
+            powerUp = offset <= -touching ? POWER_UP_LEFT : offset >= touching ? POWER_UP_RIGHT : POWER_UP_AHEAD;
+        }
+
+        Hitbox area = lane.getHitbox();
+        float travel = area.getWidth() - boat.getWidth();
+        int across = travel > 0 ? bucket((boat.getX() - area.getX()) / travel, LANE_BUCKETS) : LANE_BUCKETS / 2;
+
+        return state(obstacle, across, powerUp, bucket(stamina, STAMINA_BUCKETS), bucket(health, HEALTH_BUCKETS), boosting ? 1 : 0);
+    }
+
+    /**
+     * Get the bucket a fraction falls in.
+     *
+     * @param fraction The fraction, from 0 to 1.
+     * @param buckets  The number of buckets.
+     * @return An int of the bucket, from 0 to one less than the number of buckets.
+     */
+    private static int bucket(float fraction, int buckets) {
+        return Math.max(0, Math.min(buckets - 1, (int) (fraction * buckets)));
+    }
+
+    /**
+     * Get the boat type the table is for.
+     *
+     * @return The {@link BoatType}.
+     */
+    public BoatType getBoat() {
+        return this.boat;
+    }
+
+    /**
+     * Get the difficulty the table is for.
+     *
+     * @return An int of the difficulty.
+     */
+    public int getDifficulty() {
+        return this.difficulty;
+    }
+
+    /**
+     * A table that has been asked for, loaded or solved by whichever race first needs it.
+     */
+    private static final class Entry {
+        /**
+         * The name of the table's file.
+         */
+        private final String name;
+
+        /**
+         * The boat type the table is for.
+         */
+        private final BoatType boat;
+
+        /**
+         * The difficulty the table is for.
+         */
+        private final int difficulty;
+
+        /**
+         * The table, null until it has been loaded or solved.
+         */
+        private volatile AiPolicy table;
+
+        /**
+         * Creates an entry for a table that has not been loaded yet.
+         *
+         * @param name       The name of the table's file.
+         * @param boat       The boat type.
+         * @param difficulty The difficulty of the race.
+         */
+        private Entry(String name, BoatType boat, int difficulty) {
+            this.name = name;
+            this.boat = boat;
+            this.difficulty = difficulty;
+        }
+
+        /**
+         * Get the table, loading or solving it if this is the first time.
+         *
+         * @return The {@link AiPolicy}.
+         */
+        private AiPolicy get() {
+            AiPolicy loaded = this.table;
+            if (loaded == null) {
+                synchronized (this) {
+                    loaded = this.table;
+                    if (loaded == null) {
+                        loaded = load(this.name, this.boat, this.difficulty);
+                        this.table = loaded;
+                    }
+                }
+            }
+            return loaded;
+        }
+    }
+}
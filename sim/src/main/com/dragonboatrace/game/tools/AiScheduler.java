@@ -0,0 +1,145 @@
+package main.com.dragonboatrace.game.tools;
+
+import main.com.dragonboatrace.game.entities.boats.ComputerBoat;
+
+import java.util.List;
+
+/**
+ * Decides where the computer boats of a race steer, a few boats each simulation step rather than every boat every step.
+ * <p>
+ * Each boat decides {@link RaceSettings#getAiDecisionRate()} times a second and keeps steering the way it last decided
+ * in between. The boats take turns spread evenly over the steps between two decisions, so about the same number of
+ * boats decide every step however many there are. Every boat decides on the first step, so a new or loaded race starts
+ * with every boat knowing where to go.
+ * <p>
+ * If {@link RaceSettings#getAiBudgetMicros()} is set, a step stops making decisions once it has spent that long on them, and
+ * the boats left waiting decide first on the next step. At least one boat decides every step so none waits forever.
+ * <p>
+ * Decisions are made one after the other on the thread that steps the race, before the boats move, so they happen in
+ * the same order however the boats are then updated.
+ */
+public class AiScheduler {
+
+    /**
+     * The boats that decide where to steer.
+     */
+    private final List<ComputerBoat> boats;
+
+    /**
+     * The number of steps between two decisions of the same boat.
+     */
+    private final int interval;
+
+    /**
+     * The most nanoseconds a step can spend on decisions, 0 for no limit.
+     */
+    private final long budget;
+
+    /**
+     * The boats waiting to decide, as a ring of their indexes.
+     */
+    private final int[] waiting;
+
+    /**
+     * If each boat is already waiting to decide.
+     */
+    private final boolean[] queued;
+
+    /**
+     * The position in the ring of the boat that decides next.
+     */
+    private int head;
+
+    /**
+     * The number of boats waiting to decide.
+     */
+    private int count;
+
+    /**
+     * The number of steps that have been run.
+     */
+    private long step;
+
+    /**
+     * Creates a scheduler for the computer boats of a race.
+     *
+     * @param boats    The boats that decide where to steer.
+     * @param settings The rules of the race, giving how often the race is simulated, how often boats decide and how
+     *                 long they can take.
+     */
+    public AiScheduler(List<ComputerBoat> boats, RaceSettings settings) {
+        this.boats = boats;
+        this.interval = Math.max(1, Math.round(settings.getSimulationRate() / (float) settings.getAiDecisionRate()));
+        this.budget = settings.getAiBudgetMicros() * 1000L;
+        this.waiting = new int[boats.size()];
+        this.queued = new boolean[boats.size()];
+        for (int i = 0; i < boats.size(); i++) {
+            enqueue(i);
+        }
+    }
+
+    /**
+     * Let the boats whose turn it is this step decide where to steer.
+     *
+     * @return An int of how many boats decided.
+     */
+    public int run() {
+        int turn = (int) (this.step % this.interval);
+        for (int i = firstOfTurn(turn); i < firstOfTurn(turn + 1); i++) {
+            enqueue(i);
+        }
+        this.step++;
+
+        long start = this.budget > 0 ? System.nanoTime() : 0;
+        int decided = 0;
+        while (this.count > 0) {
+            int boat = this.waiting[this.head];
+            this.head = (this.head + 1) % this.waiting.length;
+            this.count--;
+            this.queued[boat] = false;
+            this.boats.get(boat).decide();
+            decided++;
+            if (this.budget > 0 && System.nanoTime() - start >= this.budget) {
+                break;
+            }
+        }
+        return decided;
+    }
+
+    /**
+     * Get the first boat whose turn to decide is on a given step between two decisions.
+     * <p>
+     * Boat {@code i} decides on the steps where the step modulo the interval is {@code i * interval / boats}, so the
+     * boats of each turn are next to each other.
+     *
+     * @param turn The step between two decisions, from 0 up to and including the interval.
+     * @return An int of the index of the first boat, or the number of boats if the turn is the interval.
+     */
+    private int firstOfTurn(int turn) {
+        /* The smallest i with i * interval >= turn * boats */
+        return (int) ((turn * (long) this.boats.size() + this.interval - 1) / this.interval);
+    }
+
+    /**
+     * Add a boat to the end of the boats waiting to decide, unless it is already waiting.
+     *
+     * @param boat The index of the boat.
+     */
+    private void enqueue(int boat) {
+        if (this.queued[boat]) {
+            return;
+        }
+        this.queued[boat] = true;
+        this.waiting[(this.head + this.count) % this.waiting.length] = boat;
+        this.count++;
+    }
+
+    /**
+     * Get the number of boats waiting to decide, because a step ran out of time before their turn came.
+     *
+     * @return An int of how many boats are waiting.
+     */
+    public int getWaiting() {
+        return this.count;
+    }
+}
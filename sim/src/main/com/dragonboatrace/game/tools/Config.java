@@ -0,0 +1,219 @@
+package main.com.dragonboatrace.game.tools;
+
+/**
+ * Static class used to hold Config
+ *
+ * @author Benji Garment, Joe Wrieden, Jacob Turner
+ */
+public class Config {
+
+    /**
+     * The width of the window.
+     */
+    public static int WIDTH = 1920;
+    /**
+     * The height of the window.
+     */
+    public static int HEIGHT = 1080;
+    /**
+     * The global scalar at which to scale entities.
+     */
+    public static int SCALAR = 1;
+    /**
+     * The number of boats in the game, including the player itself.
+     */
+    public static int PLAYER_COUNT = 8;
+    /**
+     * Reduces the scalar that stamina gives when accelerating, see {@link main.com.dragonboatrace.game.entities.boats.Boat#velocityPercentage()}
+     */
+    public static int STAMINA_SPEED_DIVISION = 2;
+    /**
+     * The velocity penalty given when a collision occurs
+     */
+    public static int OBSTACLE_COLLISION_PENALTY = -20;
+    /**
+     * The the boat must wait before moving again after a collision.
+     */
+    public static float OBSTACLE_COLLISION_TIME = 0.5f;
+
+    /** 
+     * The difficulty of the game, changes the number of obstacles
+    */
+    public static int GAME_DIFFICULTY = 1;
+
+    /**
+     * The number of times a second the race is simulated, regardless of how often it is rendered.
+     */
+    public static int SIMULATION_RATE = 120;
+
+    /**
+     * The most simulation steps that can be run in one frame before the race gives up on catching up.
+     */
+    public static int MAX_SIMULATION_STEPS = 8;
+
+    /**
+     * The number of threads the computer boats of a race are updated on, 1 to update them all on the calling thread.
+     */
+    public static int SIMULATION_THREADS = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The fewest computer boats a race needs before they are updated in parallel, below this splitting the work costs
+     * more than it saves.
+     */
+    public static int PARALLEL_BOATS = 16;
+
+    /**
+     * The number of times a second each computer boat decides where to steer, it keeps steering the same way in
+     * between.
+     */
+    public static int AI_DECISION_RATE = 15;
+
+    /**
+     * The most microseconds each simulation step can spend on computer boats deciding where to steer, 0 for no limit.
+     * <p>
+     * A limit depends on how fast the machine is, so races with one can no longer be repeated exactly from their seed.
+     */
+    public static int AI_BUDGET_MICROS = 0;
+
+    /**
+     * If computer boats decide where to steer and when to use stamina from a table worked out ahead of time, rather
+     * than by reacting to what is in front of them.
+     */
+    public static boolean AI_POLICY = false;
+
+    /**
+     * If the {@link Profiler} times every frame from the start of the game, rather than from when its overlay is
+     * first shown.
+     */
+    public static boolean PROFILING = false;
+
+    /**
+     * Set the resolution of the screen.
+     *
+     * @param width  The width of the screen.
+     * @param height The height of the screen.
+     */
+    public static void setResolution(int width, int height) {
+        WIDTH = width;
+        HEIGHT = height;
+        SCALAR = 1920 / WIDTH + ((1920 % WIDTH == 0) ? 0 : 1);
+    }
+
+    /**
+     * Set the number of players in the game.
+     *
+     * @param playerCount The number of players to change to.
+     */
+    public static void setPlayerCount(int playerCount) {
+        PLAYER_COUNT = playerCount;
+    }
+
+    /**
+     * Update the Stamina Speed Scalar.
+     *
+     * @param staminaSpeedDivision The new scalar to use.
+     */
+    public static void setStaminaSpeedDivision(int staminaSpeedDivision) {
+        STAMINA_SPEED_DIVISION = staminaSpeedDivision;
+    }
+
+    /**
+     * Update the obstacle collision velocity penalty.
+     *
+     * @param obstacleCollisionPenalty The new penalty to use.
+     */
+    public static void setObstacleCollisionPenalty(int obstacleCollisionPenalty) {
+        OBSTACLE_COLLISION_PENALTY = obstacleCollisionPenalty;
+    }
+
+    /**
+     * Update the obstacle collision time penalty.
+     *
+     * @param obstacleCollisionTime The new penalty to use.
+     */
+    public static void setObstacleCollisionTime(float obstacleCollisionTime) {
+        OBSTACLE_COLLISION_TIME = obstacleCollisionTime;
+    }
+
+    // >>>> Added in assessment 2 <<<<
+    /**
+     * Update the game difficulty.
+     * 
+     * @param difficulty the new difficulty.
+     */
+    public static void setGameDifficulty(int difficulty) {
+        GAME_DIFFICULTY = difficulty;
+    }
+
+    /**
+     * Update the rate the race is simulated at.
+     *
+     * @param rate The number of simulation steps per second.
+     */
+    public static void setSimulationRate(int rate) {
+        SIMULATION_RATE = rate;
+    }
+
+    /**
+     * Update the number of simulation steps that can be run in one frame.
+     *
+     * @param steps The maximum number of steps per frame.
+     */
+    public static void setMaxSimulationSteps(int steps) {
+        MAX_SIMULATION_STEPS = steps;
+    }
+
+    /**
+     * Update the number of threads computer boats are updated on.
+     *
+     * @param threads The number of threads, 1 to update every boat on the calling thread.
+     */
+    public static void setSimulationThreads(int threads) {
+        SIMULATION_THREADS = threads;
+    }
+
+    /**
+     * Update the fewest computer boats that are updated in parallel.
+     *
+     * @param boats The number of computer boats a race needs to be updated in parallel.
+     */
+    public static void setParallelBoats(int boats) {
+        PARALLEL_BOATS = boats;
+    }
+
+    /**
+     * Update the number of times a second computer boats decide where to steer.
+     *
+     * @param rate The number of decisions each computer boat makes per second.
+     */
+    public static void setAiDecisionRate(int rate) {
+        AI_DECISION_RATE = rate;
+    }
+
+    /**
+     * Update the time each simulation step can spend on computer boats deciding where to steer.
+     *
+     * @param micros The number of microseconds per step, 0 for no limit.
+     */
+    public static void setAiBudgetMicros(int micros) {
+        AI_BUDGET_MICROS = micros;
+    }
+
+    /**
+     * Set if computer boats decide from a table worked out ahead of time.
+     *
+     * @param policy A boolean of if computer boats use their {@link AiPolicy}.
+     */
+    public static void setAiPolicy(boolean policy) {
+        AI_POLICY = policy;
+    }
+
+    /**
+     * Set if the profiler runs from the start of the game.
+     *
+     * @param profiling A boolean of if every frame should be profiled.
+     */
+    public static void setProfiling(boolean profiling) {
+        PROFILING = profiling;
+    }
+}
\ No newline at end of file
@@ -1,8 +1,5 @@
 package main.com.dragonboatrace.game.tools;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-
 /**
  * Represents an Entities Hitbox.
  *
@@ -18,10 +15,6 @@ public class Hitbox {
      * The height of the hit box.
      */
     private final int height;
-    /**
-     * Used to render the hit boxes when debugging.
-     */
-    private ShapeRenderer renderer;
     /**
      * The x position of the bottom left corner.
      */
@@ -31,7 +24,6 @@ public class Hitbox {
      */
     private float y;
 
-    // >>>> Added in assessment 2 <<<<
     /**
      * Create a new hit box at a specified position with a width and height.
      *
@@ -39,21 +31,12 @@ public class Hitbox {
      * @param y      The y position of the bottom left corner.
      * @param width  The width of the hit box.
      * @param height The height of the hit box
-     * @param showRendered If the renderer should be shown;
      */
-    public Hitbox(float x, float y, int width, int height, boolean showRenderer) {
+    public Hitbox(float x, float y, int width, int height) {
         this.x = x;
         this.y = y;
         this.width = width;
         this.height = height;
-        if (showRenderer) {
-            this.renderer = new ShapeRenderer();
-        }
-    }
-
-    // >>>> Modified in assessment 2 <<<<
-    public Hitbox(float x, float y, int width, int height) {
-        this(x, y, width, height, true);
     }
 
     /**
@@ -68,16 +51,6 @@ public class Hitbox {
         this.y = y;
     }
 
-    /**
-     * Render the hit boxes for debugging.
-     */
-    public void render() {
-        renderer.begin(ShapeRenderer.ShapeType.Line);
-        renderer.setColor(Color.RED);
-        renderer.rect(this.x, this.y, this.width, this.height);
-        renderer.end();
-    }
-
     /**
      * Check if the hit box is colliding with another hit box.
      *
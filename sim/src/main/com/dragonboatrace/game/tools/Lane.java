@@ -0,0 +1,360 @@
+package main.com.dragonboatrace.game.tools;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonValue.JsonIterator;
+import main.com.dragonboatrace.game.entities.EntityType;
+import main.com.dragonboatrace.game.entities.LaneItemType;
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.entities.PowerUpType;
+
+/**
+ * Represents a Lane in a {@link Race}.
+ *
+ * @author Babar Khan, Benji Garment, Joe Wrieden, Jacob Turner
+ */
+public class Lane {
+
+    /**
+     * The hit box of the lane, used to check if a boat is in the lane.
+     * <p>
+     * It covers the part of the lane that is in view of the boat racing in it, so it moves up the race as the boat
+     * does.
+     */
+    private final Hitbox area;
+    /**
+     * The obstacles currently in the lane, in order of their y position.
+     */
+    private final LaneItems<ObstacleType> obstacles;
+    /**
+     * The power ups currently in the lane, in order of their y position.
+     */
+    private final LaneItems<PowerUpType> powerUps;
+    /**
+     * When to add new obstacles or power ups to the lane.
+     */
+    private final SpawnWheel spawns;
+
+    /**
+     * The random numbers used for everything that happens in the lane.
+     */
+    private final RaceRandom random;
+
+    /**
+     * The rules of the race the lane is in.
+     */
+    private final RaceSettings settings;
+
+    private final Vector2 position;
+    private final int width;
+    private final int height;
+    private final int round;
+
+    // >>>> Added in assessment 2 <<<<
+    /**
+     * Creates a new lane at a position and with a width and uses the round number to change the number of obstacles.
+     * @param pos The position of the lane in the world.
+     * @param width The width of the lane.
+     * @param height The height of the view the lane is shown in, obstacles and power ups appear at the top of it.
+     * @param round The current round, used to increase difficulty.
+     */
+    public Lane(Vector2 pos, int width, int height, int round) {
+        this(pos, width, height, round, RaceRandom.unseeded());
+    }
+
+    /**
+     * Creates a new lane at a position and with a width and uses the round number to change the number of obstacles.
+     * @param pos The position of the lane in the world.
+     * @param width The width of the lane.
+     * @param height The height of the view the lane is shown in, obstacles and power ups appear at the top of it.
+     * @param round The current round, used to increase difficulty.
+     * @param random The random numbers used to place obstacles and power ups in the lane.
+     */
+    public Lane(Vector2 pos, int width, int height, int round, RaceRandom random) {
+        this(pos, width, height, round, random, RaceSettings.defaults());
+    }
+
+    /**
+     * Creates a new lane at a position and with a width and uses the round number to change the number of obstacles.
+     * @param pos The position of the lane in the world.
+     * @param width The width of the lane.
+     * @param height The height of the view the lane is shown in, obstacles and power ups appear at the top of it.
+     * @param round The current round, used to increase difficulty.
+     * @param random The random numbers used to place obstacles and power ups in the lane.
+     * @param settings The rules of the race the lane is in.
+     */
+    public Lane(Vector2 pos, int width, int height, int round, RaceRandom random, RaceSettings settings) {
+        this.random = random;
+        this.settings = settings;
+        this.area = new Hitbox(pos.x, pos.y, width, height);
+        this.position = pos;
+        this.width = width;
+        this.height = height;
+        this.round = round;
+
+        this.obstacles = new LaneItems<ObstacleType>(ObstacleType.values(), EntityType.OBSTACLE);
+        this.powerUps = new LaneItems<PowerUpType>(PowerUpType.values(), EntityType.POWERUP);
+        this.spawns = new SpawnWheel();
+
+        populateList(round);
+    }
+
+    // >>>> Added in assessment 2 <<<<
+    /**
+     * Creates a new lane at a position and with a width and uses the round number to change the number of obstacles.
+     * @param data The JsonValue that contains any other data the class requires to fully reconstruct it.
+     */
+    public Lane(JsonValue data) {
+        this(data, RaceSettings.defaults());
+    }
+
+    /**
+     * Creates a lane from a save in a race with some settings.
+     * @param data The JsonValue that contains any other data the class requires to fully reconstruct it.
+     * @param settings The rules of the race the lane is in.
+     */
+    public Lane(JsonValue data, RaceSettings settings) {
+        this.settings = settings;
+        this.position = new Vector2(data.get("pos").getFloat("x"), data.get("pos").getFloat("y"));
+        this.width = data.getInt("width");
+        this.height = data.getInt("height", Config.HEIGHT);
+        this.round = data.getInt("round");
+        this.random = data.has("random") ? new RaceRandom(data.get("random")) : RaceRandom.unseeded();
+        this.area = new Hitbox(this.position.x, this.position.y, this.width, this.height);
+
+        this.obstacles = new LaneItems<ObstacleType>(ObstacleType.values(), EntityType.OBSTACLE);
+        this.powerUps = new LaneItems<PowerUpType>(PowerUpType.values(), EntityType.POWERUP);
+        this.spawns = new SpawnWheel();
+
+        JsonIterator obstacleIter = data.get("obstacles").iterator();
+        while (obstacleIter.hasNext()) {
+            JsonValue obstacleJson = obstacleIter.next();
+            ObstacleType t = new Json().fromJson(ObstacleType.class, obstacleJson.getString("type"));
+            this.obstacles.add(t, obstacleJson.get("pos").getFloat("x"), obstacleJson.get("pos").getFloat("y"));
+        }
+
+        JsonIterator powerUpIter = data.get("powerUps").iterator();
+        while (powerUpIter.hasNext()) {
+            JsonValue powerUpJson = powerUpIter.next();
+            PowerUpType type = new Json().fromJson(PowerUpType.class, powerUpJson.getString("type"));
+            this.powerUps.add(type, powerUpJson.get("pos").getFloat("x"), powerUpJson.get("pos").getFloat("y"));
+        }
+
+        JsonIterator waitTimeIter = data.get("randomWaitTimes").iterator();
+        while (waitTimeIter.hasNext()) {
+            JsonValue randomWaitJson = waitTimeIter.next();
+            this.spawns.schedule(randomWaitJson.asFloat());
+        }
+    }
+
+    /**
+     * Move the part of the lane in view so that it starts at the distance the boat in it has travelled.
+     *
+     * @param distance The distance travelled by the boat in the lane.
+     */
+    public void follow(float distance) {
+        this.area.move(this.position.x, this.position.y + distance);
+    }
+
+    // >>>> Modified in assessment 2 <<<<
+    /**
+     * Update the obstacles in the lane, remove any that are no longer in view and replace them at a random time.
+     * <p>
+     * Only the lowest items in the lane can be below the bottom of the view, so once everything has moved and been
+     * put back in order only the items below the lane's edge are checked. Likewise only the spawns that have become
+     * due are looked at, however many are waiting in the {@link SpawnWheel}.
+     *
+     * @param deltaTime The time since the last frame.
+     */
+    public void update(float deltaTime) {
+        /* Move obstacles and power ups and remove those that have gone out of view */
+        obstacles.update(deltaTime);
+        removeLeaving(obstacles);
+        powerUps.update(deltaTime);
+        removeLeaving(powerUps);
+
+        /* Randomly replace obstacles and power ups */
+        int due = spawns.advance(deltaTime);
+        /* Created after time has moved on, as items created outside the lane wait again */
+        for (int i = 0; i < due; i++) {
+            /* 80% chance to create an obstacle and a 20% chance to create a power up */
+            if (this.random.nextDouble() < 0.8){
+                addRandom(obstacles, ObstacleType.values());
+            }
+            else{
+                addRandom(powerUps, PowerUpType.values());
+            }
+        }
+    }
+
+    /**
+     * Remove the items that have gone past the bottom of the view and randomly replace them.
+     *
+     * @param items The obstacles or power ups in the lane.
+     */
+    private void removeLeaving(LaneItems<?> items) {
+        while (!items.isEmpty() && items.getY(items.slot(0)) < this.area.getY()) {
+            items.removeAt(0);
+            replaceObstacle();
+        }
+    }
+
+    /**
+     * Remember where every obstacle and power up is at the start of the next simulation step.
+     */
+    public void savePositions() {
+        obstacles.savePositions();
+        powerUps.savePositions();
+    }
+
+    /**
+     * Move every obstacle and power up to part way between its previous and current position for rendering.
+     *
+     * @param alpha How far through the next simulation step the frame is, between 0 and 1.
+     */
+    public void interpolate(float alpha) {
+        obstacles.interpolate(alpha);
+        powerUps.interpolate(alpha);
+    }
+
+    /**
+     * Get the obstacles in the lane, in order of their y position.
+     *
+     * @return The {@link LaneItems} holding the obstacles.
+     */
+    public LaneItems<ObstacleType> getObstacles() {
+        return this.obstacles;
+    }
+
+    /**
+     * Get the power ups in the lane, in order of their y position.
+     *
+     * @return The {@link LaneItems} holding the power ups.
+     */
+    public LaneItems<PowerUpType> getPowerUps() {
+        return this.powerUps;
+    }
+
+    /**
+     * Get the lanes hit box
+     *
+     * @return A {@link Hitbox} representing the lanes area.
+     */
+    public Hitbox getHitbox() {
+        return this.area;
+    }
+
+    /**
+     * Get the rules of the race the lane is in.
+     *
+     * @return The {@link RaceSettings} of the race.
+     */
+    public RaceSettings getSettings() {
+        return this.settings;
+    }
+
+    /**
+     * Get the random numbers used for everything that happens in the lane.
+     *
+     * @return The lane's {@link RaceRandom}.
+     */
+    public RaceRandom getRandom() {
+        return this.random;
+    }
+
+    /**
+     * Split off the random numbers for the boat racing in the lane.
+     * <p>
+     * The stream only depends on the lane's seed, so a boat always starts with the same numbers in the same lane.
+     *
+     * @return A new {@link RaceRandom} for the boat.
+     */
+    public RaceRandom boatRandom() {
+        return this.random.split(0);
+    }
+
+    /**
+     * Remove every obstacle from the lane at once, and randomly replace them.
+     */
+    public void clearObstacles() {
+        int cleared = obstacles.size();
+        obstacles.clear();
+        for (int i = 0; i < cleared; i++) {
+            replaceObstacle();
+        }
+    }
+
+    /**
+     * Create a random time at which to add an obstacle or power up to the lane.
+     */
+    public void replaceObstacle() {
+        spawns.schedule(1.0f + 2 * this.random.nextFloat());
+    }
+
+    /**
+     * Add an obstacle or power up of a random type at a random x position at the top of the view of the lane.
+     * <p>
+     * If it would be outside of the lane's sides it is not added, and another is created at a random time.
+     *
+     * @param items The obstacles or power ups in the lane.
+     * @param types Every type the item can be.
+     * @param <T>   The kind of item.
+     */
+    private <T extends Enum<T> & LaneItemType> void addRandom(LaneItems<T> items, T[] types) {
+        T type = types[this.random.nextInt(types.length)];
+        /* Start at a random x position within the bounds of the lane */
+        int half = ((int) this.area.getX() + this.area.getWidth()) / 2;
+        float x = ((int) this.area.getX() + this.area.getWidth()) / 2.0f - half + items.getWidth() / 2 + this.random.nextInt(2 * half);
+        float y = this.area.getY() + this.area.getHeight();
+        if (items.leaves(x, y, this.area)) {
+            replaceObstacle();
+        } else {
+            items.add(type, x, y);
+        }
+    }
+
+    /**
+     * Fill the list with obstacles and power ups that will start at random times.
+     * @param round The current round increases the number of obstacles.
+     */
+    private void populateList(int round) {
+        int obstacleCount = createObstacleCount(round, this.settings.getDifficulty(), this.settings.getPlayerCount());
+        // for (int i = 0; i < Math.min((5 - Config.PLAYER_COUNT + round) + (5 * Config.GAME_DIFFICULTY), 5); i++) {
+        for (int i=0; i<obstacleCount; i++){
+            replaceObstacle();
+        }
+    }
+
+    public int createObstacleCount(int round, int difficulty, int playerCount){
+        return (15 * (1 + round + difficulty)) / playerCount;
+    }
+
+    // >>>> Added in assessment 2 <<<<
+    /**
+     * Creates a JSON string needed to fully reconstruct the class.
+     * 
+     * @return JSON String contain all values needed to reconstruct the class.
+     */
+    public String toJson(){
+        FloatArray randomWaitTimes = new FloatArray(this.spawns.size());
+        this.spawns.waits(randomWaitTimes);
+        String[] randomWaitJson = new String[randomWaitTimes.size];
+        for (int i=0;i<randomWaitTimes.size;i++){
+            randomWaitJson[i] = Float.toString(randomWaitTimes.get(i));
+        }
+
+        return String.format("{pos:{x:%f, y:%f}, width:%s, height:%s, round:%s, obstacles:%s, powerUps:%s, randomWaitTimes:[%s], random:%s}", 
+            this.position.x,
+            this.position.y,
+            this.width,
+            this.height,
+            this.round,
+            this.obstacles.toJson(),
+            this.powerUps.toJson(),
+            String.join(",", randomWaitJson),
+            this.random.toJson()
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,454 @@
+package main.com.dragonboatrace.game.tools;
+
+import main.com.dragonboatrace.game.entities.EntityType;
+import main.com.dragonboatrace.game.entities.LaneItemType;
+
+/**
+ * The obstacles or power ups in a lane, stored in parallel arrays rather than as objects.
+ * <p>
+ * Each item lives in a slot, which holds its x and y position, its type and whether it is alive. Slots of removed
+ * items are kept on a free list and reused, so once the arrays are big enough for the busiest moment of a race no more
+ * memory is allocated. Removing every item is done by forgetting the slots in use, without touching them.
+ * <p>
+ * Positions are in race distance rather than on the screen, so an item only moves by its own drift speed and the
+ * renderer works out where it is on the screen from the {@link RaceCamera}.
+ * <p>
+ * The live items are also kept in order of their y position. Everything in a lane drifts down at nearly the same
+ * speed, so the order hardly changes between steps. This lets collision checks and the computer boats look at only the
+ * items near a y position, found by binary search, rather than every item in the lane. Items are looked up by their
+ * rank in this order, 0 being the lowest, and {@link #slot(int)} gives the slot to read the item from.
+ *
+ * @param <T> The kind of item stored, either {@link main.com.dragonboatrace.game.entities.ObstacleType} or
+ *            {@link main.com.dragonboatrace.game.entities.PowerUpType}.
+ */
+public class LaneItems<T extends Enum<T> & LaneItemType> {
+
+    /**
+     * The number of slots to start with.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Every type an item can be, in order of their ordinal.
+     */
+    private final T[] types;
+
+    /**
+     * The width of every item.
+     */
+    private final int width;
+
+    /**
+     * The height of every item.
+     */
+    private final int height;
+
+    /**
+     * The x position of the bottom left corner of the item in each slot.
+     */
+    private float[] x;
+
+    /**
+     * The y position of the bottom left corner of the item in each slot.
+     */
+    private float[] y;
+
+    /**
+     * The y position of the item in each slot at the start of the last simulation step.
+     */
+    private float[] previousY;
+
+    /**
+     * The y position the item in each slot is drawn at, between its previous and current position.
+     */
+    private float[] renderY;
+
+    /**
+     * The ordinal of the type of the item in each slot.
+     */
+    private int[] type;
+
+    /**
+     * If each slot has an item in it.
+     */
+    private boolean[] alive;
+
+    /**
+     * The slots below {@link #used} that are free to be reused.
+     */
+    private int[] free;
+
+    /**
+     * The number of slots on the free list.
+     */
+    private int freeCount;
+
+    /**
+     * The number of slots that have ever been used since the store was created or cleared.
+     */
+    private int used;
+
+    /**
+     * The slots of the live items, from the lowest item to the highest.
+     */
+    private int[] order;
+
+    /**
+     * The number of live items.
+     */
+    private int count;
+
+    /**
+     * Creates a new empty store.
+     *
+     * @param types  Every type an item can be, from the type's values().
+     * @param entity The entity type giving the size of every item.
+     */
+    public LaneItems(T[] types, EntityType entity) {
+        this.types = types;
+        this.width = entity.getWidth();
+        this.height = entity.getHeight();
+        this.x = new float[INITIAL_CAPACITY];
+        this.y = new float[INITIAL_CAPACITY];
+        this.previousY = new float[INITIAL_CAPACITY];
+        this.renderY = new float[INITIAL_CAPACITY];
+        this.type = new int[INITIAL_CAPACITY];
+        this.alive = new boolean[INITIAL_CAPACITY];
+        this.free = new int[INITIAL_CAPACITY];
+        this.order = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Add an item in its place in the order, reusing a free slot if there is one.
+     *
+     * @param itemType The type of the item.
+     * @param itemX    The x position of the bottom left corner of the item.
+     * @param itemY    The y position of the bottom left corner of the item.
+     * @return An int of the slot the item was put in.
+     */
+    public int add(T itemType, float itemX, float itemY) {
+        int slot;
+        if (this.freeCount > 0) {
+            slot = this.free[--this.freeCount];
+        } else {
+            if (this.used == this.x.length) {
+                grow();
+            }
+            slot = this.used++;
+        }
+        this.x[slot] = itemX;
+        this.y[slot] = itemY;
+        this.previousY[slot] = itemY;
+        this.renderY[slot] = itemY;
+        this.type[slot] = itemType.ordinal();
+        this.alive[slot] = true;
+
+        int rank = firstAbove(itemY);
+        System.arraycopy(this.order, rank, this.order, rank + 1, this.count - rank);
+        this.order[rank] = slot;
+        this.count++;
+        return slot;
+    }
+
+    /**
+     * Double the size of every array.
+     */
+    private void grow() {
+        int capacity = this.x.length * 2;
+        this.x = copyOf(this.x, capacity);
+        this.y = copyOf(this.y, capacity);
+        this.previousY = copyOf(this.previousY, capacity);
+        this.renderY = copyOf(this.renderY, capacity);
+        int[] newType = new int[capacity];
+        System.arraycopy(this.type, 0, newType, 0, this.used);
+        this.type = newType;
+        boolean[] newAlive = new boolean[capacity];
+        System.arraycopy(this.alive, 0, newAlive, 0, this.used);
+        this.alive = newAlive;
+        int[] newFree = new int[capacity];
+        System.arraycopy(this.free, 0, newFree, 0, this.freeCount);
+        this.free = newFree;
+        int[] newOrder = new int[capacity];
+        System.arraycopy(this.order, 0, newOrder, 0, this.count);
+        this.order = newOrder;
+    }
+
+    /**
+     * Copy the used part of an array into a bigger one.
+     *
+     * @param values   The array to copy.
+     * @param capacity The size of the new array.
+     * @return The new array.
+     */
+    private float[] copyOf(float[] values, int capacity) {
+        float[] copy = new float[capacity];
+        System.arraycopy(values, 0, copy, 0, this.used);
+        return copy;
+    }
+
+    /**
+     * Remove the item at a rank, putting its slot on the free list.
+     *
+     * @param rank The rank of the item, 0 being the lowest.
+     */
+    public void removeAt(int rank) {
+        int slot = this.order[rank];
+        this.alive[slot] = false;
+        this.free[this.freeCount++] = slot;
+        System.arraycopy(this.order, rank + 1, this.order, rank, this.count - rank - 1);
+        this.count--;
+    }
+
+    /**
+     * Remove every item at once.
+     * <p>
+     * This does not depend on how many items there are, the slots are just forgotten and handed out again from the
+     * start.
+     */
+    public void clear() {
+        this.count = 0;
+        this.used = 0;
+        this.freeCount = 0;
+    }
+
+    /**
+     * Drift every item down the lane at the speed of its type and put them back in order.
+     * <p>
+     * Positions are in race distance, so only the item's own speed moves it, however fast the boat in the lane is
+     * going. Items of different types move at different speeds, so the order is restored with an insertion sort,
+     * which only does work for the few items that have overtaken another since the last step.
+     *
+     * @param deltaTime The time since the last step.
+     */
+    public void update(float deltaTime) {
+        for (int i = 0; i < this.count; i++) {
+            int slot = this.order[i];
+            this.y[slot] -= this.types[this.type[slot]].getSpeed() * deltaTime;
+        }
+        for (int i = 1; i < this.count; i++) {
+            int slot = this.order[i];
+            float itemY = this.y[slot];
+            int j = i - 1;
+            while (j >= 0 && this.y[this.order[j]] > itemY) {
+                this.order[j + 1] = this.order[j];
+                j--;
+            }
+            this.order[j + 1] = slot;
+        }
+    }
+
+    /**
+     * Remember where every item is at the start of the next simulation step.
+     */
+    public void savePositions() {
+        for (int i = 0; i < this.count; i++) {
+            int slot = this.order[i];
+            this.previousY[slot] = this.y[slot];
+        }
+    }
+
+    /**
+     * Move the position every item is drawn at to part way between its previous and current position.
+     *
+     * @param alpha How far through the next simulation step the frame is, between 0 and 1.
+     */
+    public void interpolate(float alpha) {
+        for (int i = 0; i < this.count; i++) {
+            int slot = this.order[i];
+            this.renderY[slot] = this.previousY[slot] + (this.y[slot] - this.previousY[slot]) * alpha;
+        }
+    }
+
+    /**
+     * Get the rank of the lowest item that reaches above a y position.
+     * <p>
+     * Every item that overlaps the range [bottom, top] is at or after this rank, and the first item at or after it
+     * whose bottom is above top ends the range.
+     *
+     * @param bottom The bottom of the range.
+     * @return An int of the first rank to check, which is {@link #size()} if no item reaches above bottom.
+     */
+    public int firstOverlapping(float bottom) {
+        return firstAbove(bottom - this.height);
+    }
+
+    /**
+     * Get the nearest item that is not completely below a y position.
+     *
+     * @param itemY The y position to look ahead of.
+     * @return The slot of the lowest item whose top is above y, or -1 if there is none.
+     */
+    public int nearestAhead(float itemY) {
+        int rank = firstOverlapping(itemY);
+        return rank < this.count ? this.order[rank] : -1;
+    }
+
+    /**
+     * Binary search for the first item whose bottom is strictly above a y position.
+     *
+     * @param itemY The y position.
+     * @return An int of the rank of the first item above y, or {@link #size()} if there is none.
+     */
+    private int firstAbove(float itemY) {
+        int low = 0;
+        int high = this.count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.y[this.order[mid]] <= itemY) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Check if an item is colliding with a hit box, in the same way as {@link Hitbox#collidesWith(Hitbox)}.
+     *
+     * @param slot The slot of the item.
+     * @param box  The hit box to check against.
+     * @return A boolean of if the item and the hit box are intersecting.
+     */
+    public boolean collidesWith(int slot, Hitbox box) {
+        return this.x[slot] + this.width > box.getX() && this.x[slot] < box.getX() + box.getWidth()
+            && this.y[slot] < box.getY() + box.getHeight() && this.y[slot] + this.height > box.getY();
+    }
+
+    /**
+     * Check if an item is partially outside of an area, in the same way as {@link Hitbox#leaves(Hitbox)}.
+     *
+     * @param slot The slot of the item.
+     * @param box  The area to check against.
+     * @return A boolean of if the item is partially outside the area.
+     */
+    public boolean leaves(int slot, Hitbox box) {
+        return leaves(this.x[slot], this.y[slot], box);
+    }
+
+    /**
+     * Check if an item would be partially outside of an area if it was at a position.
+     *
+     * @param itemX The x position of the bottom left corner of the item.
+     * @param itemY The y position of the bottom left corner of the item.
+     * @param box   The area to check against.
+     * @return A boolean of if the item would be partially outside the area.
+     */
+    public boolean leaves(float itemX, float itemY, Hitbox box) {
+        return itemX + this.width > box.getX() + box.getWidth() || itemX < box.getX()
+            || itemY < box.getY() && itemY + this.height > box.getY();
+    }
+
+    /**
+     * Get the slot of the item at a rank.
+     *
+     * @param rank The rank of the item, 0 being the lowest.
+     * @return An int of the item's slot.
+     */
+    public int slot(int rank) {
+        return this.order[rank];
+    }
+
+    /**
+     * If a slot has an item in it.
+     *
+     * @param slot The slot.
+     * @return True if the slot holds a live item.
+     */
+    public boolean isAlive(int slot) {
+        return slot < this.used && this.alive[slot];
+    }
+
+    /**
+     * Get the x position of an item.
+     *
+     * @param slot The slot of the item.
+     * @return A float of the x position of the bottom left corner.
+     */
+    public float getX(int slot) {
+        return this.x[slot];
+    }
+
+    /**
+     * Get the y position of an item.
+     *
+     * @param slot The slot of the item.
+     * @return A float of the y position of the bottom left corner.
+     */
+    public float getY(int slot) {
+        return this.y[slot];
+    }
+
+    /**
+     * Get the y position an item should be drawn at this frame.
+     *
+     * @param slot The slot of the item.
+     * @return A float between the item's previous and current y position.
+     */
+    public float getRenderY(int slot) {
+        return this.renderY[slot];
+    }
+
+    /**
+     * Get the type of an item.
+     *
+     * @param slot The slot of the item.
+     * @return The type of the item.
+     */
+    public T getType(int slot) {
+        return this.types[this.type[slot]];
+    }
+
+    /**
+     * Get the width every item is.
+     *
+     * @return An int of the width.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Get the height every item is.
+     *
+     * @return An int of the height.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Get the number of live items.
+     *
+     * @return An int of how many items there are.
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * If there are no live items.
+     *
+     * @return True if there are no items.
+     */
+    public boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    /**
+     * Creates a JSON string of every item, from lowest to highest, needed to put them back in the store.
+     *
+     * @return JSON String of an array of the items' types and positions.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < this.count; i++) {
+            int slot = this.order[i];
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(String.format("{type:%s, pos:{x:%f, y:%f}}", getType(slot), this.x[slot], this.y[slot]));
+        }
+        return json.append(']').toString();
+    }
+}
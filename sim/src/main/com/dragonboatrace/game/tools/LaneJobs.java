@@ -0,0 +1,138 @@
+package main.com.dragonboatrace.game.tools;
+
+import main.com.dragonboatrace.game.entities.boats.Boat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Updates the computer boats of a race in parallel, each boat and its lane as one job.
+ * <p>
+ * A boat only ever touches itself, its own lane and its own random numbers while it updates, so the boats can be
+ * updated in any order, on any thread, and end up exactly where they would have been updated one after the other.
+ * Anything that compares boats, like who has finished, is left to the race once every job is done.
+ * <p>
+ * Jobs run on a {@link ForkJoinPool} shared by every race with the same number of threads, found once when the jobs
+ * are created so a step never takes a lock. The pools are never shut down, as any race may still be using them, and
+ * their threads stop on their own once idle. The jobs are created once per race and reused every step, so a step
+ * allocates nothing.
+ */
+public class LaneJobs {
+
+    /**
+     * The threads shared by every race, by the number of threads.
+     */
+    private static final Map<Integer, ForkJoinPool> pools = new HashMap<Integer, ForkJoinPool>();
+
+    /**
+     * The threads the jobs run on, null if the boats are updated on the calling thread.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The job of each boat.
+     */
+    private final List<BoatJob> jobs;
+
+    /**
+     * Runs every boat's job and waits for them all to finish.
+     */
+    private final RecursiveAction all;
+
+    /**
+     * Creates the jobs for some boats.
+     *
+     * @param boats   The boats to update, each with its own lane.
+     * @param threads The number of threads to update them on, 1 to update them all on the calling thread.
+     */
+    public LaneJobs(List<Boat> boats, int threads) {
+        this.pool = threads > 1 ? pool(threads) : null;
+        this.jobs = new ArrayList<BoatJob>(boats.size());
+        for (Boat boat : boats) {
+            this.jobs.add(new BoatJob(boat));
+        }
+        this.all = new RecursiveAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute() {
+                invokeAll(jobs);
+            }
+        };
+    }
+
+    /**
+     * Get if the jobs have threads to run on, otherwise the boats should be updated on the calling thread.
+     *
+     * @return A boolean of if {@link #update(float)} can be used.
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+
+    /**
+     * Update every boat by a single simulation step, returning once all of them have been updated. Only used if the
+     * jobs {@link #isParallel()}.
+     *
+     * @param deltaTime The length of the step.
+     */
+    public void update(float deltaTime) {
+        for (int i = 0; i < this.jobs.size(); i++) {
+            BoatJob job = this.jobs.get(i);
+            job.reinitialize();
+            job.deltaTime = deltaTime;
+        }
+        this.all.reinitialize();
+        this.pool.invoke(this.all);
+    }
+
+    /**
+     * Get the shared threads for a number of threads, starting them the first time they are needed.
+     *
+     * @param threads The number of threads.
+     * @return The {@link ForkJoinPool} to run jobs on.
+     */
+    private static synchronized ForkJoinPool pool(int threads) {
+        ForkJoinPool pool = pools.get(threads);
+        if (pool == null) {
+            pool = new ForkJoinPool(threads);
+            pools.put(threads, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Updates a single boat and its lane.
+     */
+    private static class BoatJob extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The boat to update.
+         */
+        private final Boat boat;
+
+        /**
+         * The length of the step being run.
+         */
+        private float deltaTime;
+
+        /**
+         * Creates a job for a boat.
+         *
+         * @param boat The boat to update.
+         */
+        private BoatJob(Boat boat) {
+            this.boat = boat;
+        }
+
+        @Override
+        protected void compute() {
+            this.boat.update(this.deltaTime);
+        }
+    }
+}
@@ -0,0 +1,523 @@
+package main.com.dragonboatrace.game.tools;
+
+import main.com.dragonboatrace.game.entities.LaneItemType;
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.entities.PowerUpType;
+
+import java.util.Arrays;
+
+/**
+ * Plans a path for a boat through the obstacles and power ups ahead of it in its lane.
+ * <p>
+ * The lane is split into columns the boat can be at, spaced so that steering at full speed moves the boat one column
+ * in one row of time. Rows are counted from the start of the race, so a row means the same moment from one plan to the
+ * next. Where each obstacle and power up will be is predicted from the speed it drifts at and the speed the boat is
+ * going, and a cell costs more for each obstacle the boat would hit in it and less for each power up it would pick up.
+ * The path is then found by dynamic programming from the row the boat is in, moving at most one column each row, to
+ * the cheapest cell {@link #LOOKAHEAD} seconds ahead.
+ * <p>
+ * As time passes the rows scroll: the path is kept, and only the rows that have come into the lookahead, or whose
+ * cells have changed because items were added or removed, are planned again. The whole path is only planned again if
+ * the boat has left it, its speed has changed or the rows no longer fit in the planner's memory. Every plan does at
+ * most {@link #MAX_ROWS} rows of {@link #MAX_COLUMNS} columns, so each boat costs the same however busy its lane is.
+ */
+public class PathPlanner {
+
+    /**
+     * The number of seconds ahead a path is planned for.
+     */
+    public static final float LOOKAHEAD = 1f;
+
+    /**
+     * The most columns a lane is split into.
+     */
+    public static final int MAX_COLUMNS = 16;
+
+    /**
+     * The most rows that are remembered at once, planning is always from the current row to at most half of this.
+     */
+    public static final int MAX_ROWS = 64;
+
+    /**
+     * The smallest gap between two columns.
+     */
+    private static final float MIN_COLUMN_WIDTH = 8;
+
+    /**
+     * The fewest rows a path is planned for, so wide lanes with long rows still look far enough ahead.
+     */
+    private static final int MIN_ROWS = 8;
+
+    /**
+     * The cost of each obstacle hit, far more than any path could save, so a path only hits one if it has to.
+     */
+    private static final float COLLISION_COST = 1000;
+
+    /**
+     * The cost of moving across a column, so the boat only steers when it gains something by it.
+     */
+    private static final float MOVE_COST = 1;
+
+    /**
+     * The amount each row spent on a power up takes off the cost of a path.
+     */
+    private static final float POWER_UP_REWARD = 10;
+
+    /**
+     * How much the forward speed of the boat can change, as a fraction of the speed planned for, before the path is
+     * planned again.
+     */
+    private static final float SPEED_TOLERANCE = 0.05f;
+
+    /**
+     * How far the boat can be from where it was predicted to be before the path is planned again.
+     */
+    private static final float DRIFT_TOLERANCE = 8;
+
+    /**
+     * The lane the path is planned through.
+     */
+    private final Lane lane;
+
+    /**
+     * The width of the boat.
+     */
+    private final int boatWidth;
+
+    /**
+     * The height of the boat.
+     */
+    private final int boatHeight;
+
+    /**
+     * The number of columns the lane is split into.
+     */
+    private final int columns;
+
+    /**
+     * The gap between two columns, 0 if there is only one.
+     */
+    private final float columnWidth;
+
+    /**
+     * The x position of the boat in the first column, from the left of the lane.
+     */
+    private final float firstColumn;
+
+    /**
+     * The fastest any obstacle or power up drifts, so items too far ahead to matter can be skipped.
+     */
+    private final float fastestItem;
+
+    /**
+     * The cost of each cell of the remembered rows, a ring of {@link #MAX_ROWS} rows of {@link #columns} cells.
+     */
+    private final float[] cells;
+
+    /**
+     * The cells of the rows ahead as they are now, compared with {@link #cells} to find the rows that have changed.
+     */
+    private final float[] fresh;
+
+    /**
+     * The cheapest cost of reaching each cell from the start of the plan.
+     */
+    private final float[] best;
+
+    /**
+     * The column change, -1, 0 or 1, taken to reach each cell at its cheapest cost.
+     */
+    private final byte[] from;
+
+    /**
+     * The column of the path at the start of each remembered row.
+     */
+    private final int[] path;
+
+    /**
+     * The length of a row in seconds, 0 if nothing has been planned yet.
+     */
+    private float rowTime;
+
+    /**
+     * The row the plan started at, where the boat's column was fixed.
+     */
+    private int origin;
+
+    /**
+     * The last row of the plan.
+     */
+    private int last;
+
+    /**
+     * The time the plan started at.
+     */
+    private double originTime;
+
+    /**
+     * The y position of the boat when the plan started.
+     */
+    private float originY;
+
+    /**
+     * The forward speed of the boat the plan was made for.
+     */
+    private float forward;
+
+    /**
+     * The number of times the whole path has been planned from scratch.
+     */
+    private int replans;
+
+    /**
+     * Creates a planner for a boat in a lane.
+     *
+     * @param lane       The lane the boat is racing in.
+     * @param boatWidth  The width of the boat.
+     * @param boatHeight The height of the boat.
+     */
+    public PathPlanner(Lane lane, int boatWidth, int boatHeight) {
+        this.lane = lane;
+        this.boatWidth = boatWidth;
+        this.boatHeight = boatHeight;
+        float travel = lane.getHitbox().getWidth() - boatWidth;
+        this.columns = travel > 0 ? Math.min(MAX_COLUMNS, (int) (travel / MIN_COLUMN_WIDTH) + 1) : 1;
+        this.columnWidth = this.columns > 1 ? travel / (this.columns - 1) : 0;
+        /* A boat wider than its lane is kept in the middle of it */
+        this.firstColumn = Math.min(0, travel / 2);
+        float fastest = 0;
+        for (ObstacleType type : ObstacleType.values()) {
+            fastest = Math.max(fastest, type.getSpeed());
+        }
+        for (PowerUpType type : PowerUpType.values()) {
+            fastest = Math.max(fastest, type.getSpeed());
+        }
+        this.fastestItem = fastest;
+        this.cells = new float[MAX_ROWS * this.columns];
+        this.fresh = new float[MAX_ROWS * this.columns];
+        this.best = new float[MAX_ROWS * this.columns];
+        this.from = new byte[MAX_ROWS * this.columns];
+        this.path = new int[MAX_ROWS];
+    }
+
+    /**
+     * Plan the path of the boat from where it is now, reusing as much of the last plan as is still right.
+     *
+     * @param now          The time since the start of the race.
+     * @param boatX        The x position of the boat.
+     * @param boatY        The y position of the boat.
+     * @param forwardSpeed The speed the boat is going up the lane.
+     * @param sideSpeed    The speed the boat steers sideways at, greater than 0.
+     */
+    public void plan(double now, float boatX, float boatY, float forwardSpeed, float sideSpeed) {
+        float newRowTime = this.columnWidth > 0 ? this.columnWidth / sideSpeed : LOOKAHEAD / MIN_ROWS;
+        int rows = Math.min(MAX_ROWS / 2, Math.max(MIN_ROWS, (int) Math.ceil(LOOKAHEAD / newRowTime)));
+        int column = nearestColumn(boatX);
+
+        boolean reuse = newRowTime == this.rowTime
+            && Math.abs(forwardSpeed - this.forward) <= SPEED_TOLERANCE * this.forward
+            && Math.abs(boatY - (this.originY + this.forward * (float) (now - this.originTime))) <= DRIFT_TOLERANCE;
+        if (reuse) {
+            int nowRow = row(now);
+            reuse = nowRow >= this.origin && nowRow < this.last && nowRow + rows - this.origin < MAX_ROWS
+                && onPath(now, boatX);
+        }
+        if (!reuse || !carryOn(now, boatX, boatY, rows)) {
+            this.rowTime = newRowTime;
+            this.forward = forwardSpeed;
+            this.originTime = now;
+            this.originY = boatY;
+            this.origin = row(now);
+            this.last = this.origin;
+            this.replans++;
+            int start = slot(this.origin) * this.columns;
+            Arrays.fill(this.best, start, start + this.columns, Float.POSITIVE_INFINITY);
+            this.best[start + column] = 0;
+            predict(now, boatY, this.origin, this.origin + rows);
+            copyRows(this.origin, this.origin + rows);
+            extend(this.origin + 1, this.origin + rows);
+            trace(this.origin);
+        }
+    }
+
+    /**
+     * Carry the last plan on to the rows that have come into the lookahead, planning again from the first row whose
+     * cells have changed since they were planned.
+     *
+     * @param now   The time since the start of the race.
+     * @param boatX The x position of the boat.
+     * @param boatY The y position of the boat.
+     * @param rows  The number of rows to plan ahead of the current row.
+     * @return True if the path still goes through where the boat is, false if it needs planning from scratch.
+     */
+    private boolean carryOn(double now, float boatX, float boatY, int rows) {
+        int nowRow = row(now);
+        int end = nowRow + rows;
+        predict(now, boatY, nowRow, end);
+        int changed = this.last + 1;
+        for (int row = nowRow; row <= this.last && changed > this.last; row++) {
+            int start = slot(row) * this.columns;
+            for (int c = 0; c < this.columns; c++) {
+                if (this.fresh[start + c] != this.cells[start + c]) {
+                    changed = row;
+                    break;
+                }
+            }
+        }
+        copyRows(changed, end);
+        /* A cell's cost is paid on the way to the next row, so the rows after a changed row are planned again */
+        extend(Math.max(Math.min(changed + 1, this.last + 1), nowRow + 1), end);
+        trace(nowRow);
+        return onPath(now, boatX);
+    }
+
+    /**
+     * Check if the boat is where its path puts it, to within half a column or a pixel if there is only one column.
+     *
+     * @param now   The time since the start of the race.
+     * @param boatX The x position of the boat.
+     * @return True if the boat is on its path.
+     */
+    private boolean onPath(double now, float boatX) {
+        return Math.abs(getX(now) - boatX) <= Math.max(1, this.columnWidth / 2);
+    }
+
+    /**
+     * Copy rows of cells worked out by {@link #predict} into the cells the path is planned over.
+     *
+     * @param first The first row to copy.
+     * @param end   The last row to copy.
+     */
+    private void copyRows(int first, int end) {
+        for (int row = first; row <= end; row++) {
+            int start = slot(row) * this.columns;
+            System.arraycopy(this.fresh, start, this.cells, start, this.columns);
+        }
+    }
+
+    /**
+     * Find the cheapest way to reach each cell of some rows, and make the last of them the end of the plan.
+     *
+     * @param first The first row to plan, after the start of the plan.
+     * @param end   The last row to plan.
+     */
+    private void extend(int first, int end) {
+        for (int row = first; row <= end; row++) {
+            step(row);
+        }
+        this.last = end;
+    }
+
+    /**
+     * Work out the cells of the rows ahead in {@link #fresh}, from where the obstacles and power ups are now.
+     * <p>
+     * Items are predicted from where they were at the start of the plan, so cells only change if items are added or
+     * removed or the boat goes a different speed.
+     *
+     * @param now   The time since the start of the race.
+     * @param boatY The y position of the boat.
+     * @param first The first row to work out.
+     * @param end   The last row to work out.
+     */
+    private void predict(double now, float boatY, int first, int end) {
+        for (int row = first; row <= end; row++) {
+            int start = slot(row) * this.columns;
+            Arrays.fill(this.fresh, start, start + this.columns, 0);
+        }
+        double endTime = (end + 1) * (double) this.rowTime;
+        float reach = boatY + this.boatHeight + (this.forward + this.fastestItem) * (float) (endTime - now);
+        mark(this.lane.getObstacles(), COLLISION_COST, now, boatY, reach, first, end);
+        mark(this.lane.getPowerUps(), -POWER_UP_REWARD, now, boatY, reach, first, end);
+    }
+
+    /**
+     * Add a cost to every cell of the rows ahead where the boat would touch an item.
+     *
+     * @param items The obstacles or power ups in the lane.
+     * @param cost  The cost of touching one item for one row.
+     * @param now   The time since the start of the race.
+     * @param boatY The y position of the boat.
+     * @param reach The y position past which items are too far ahead to reach by the last row.
+     * @param first The first row to mark.
+     * @param end   The last row to mark.
+     * @param <T>   The kind of item.
+     */
+    private <T extends Enum<T> & LaneItemType> void mark(LaneItems<T> items, float cost, double now, float boatY,
+                                                         float reach, int first, int end) {
+        float laneX = this.lane.getHitbox().getX() + this.firstColumn;
+        for (int i = items.firstOverlapping(boatY); i < items.size(); i++) {
+            int item = items.slot(i);
+            float itemY = items.getY(item);
+            if (itemY >= reach) {
+                break;
+            }
+            /* How far the item was above the boat at the start of the plan, closing at both of their speeds */
+            float drift = items.getType(item).getSpeed();
+            double gap = itemY + drift * (now - this.originTime) - this.originY;
+            double closing = Math.max(1, this.forward + drift);
+            int top = Math.min(end, row(this.originTime + (gap + items.getHeight()) / closing));
+            int bottom = Math.max(first, row(this.originTime + (gap - this.boatHeight) / closing));
+            if (bottom > top) {
+                continue;
+            }
+
+            float itemX = items.getX(item);
+            int left;
+            int right;
+            if (this.columns == 1) {
+                boolean touches = itemX < laneX + this.boatWidth && itemX + items.getWidth() > laneX;
+                left = touches ? 0 : 1;
+                right = 0;
+            } else {
+                left = Math.max(0, (int) Math.floor((itemX - this.boatWidth - laneX) / this.columnWidth) + 1);
+                right = Math.min(this.columns - 1, (int) Math.ceil((itemX + items.getWidth() - laneX) / this.columnWidth) - 1);
+            }
+            for (int row = bottom; row <= top; row++) {
+                int start = slot(row) * this.columns;
+                for (int c = left; c <= right; c++) {
+                    this.fresh[start + c] += cost;
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the cheapest way to reach each cell of a row from the row before.
+     * <p>
+     * The boat spends the row before moving from one column to the next, so it pays for the cells of both columns.
+     * Where moving costs the same as staying the move is taken, so the path only turns off as late as it can and
+     * keeps to the last plan for as long as possible.
+     *
+     * @param row The row to reach.
+     */
+    private void step(int row) {
+        int before = slot(row - 1) * this.columns;
+        int here = slot(row) * this.columns;
+        for (int c = 0; c < this.columns; c++) {
+            float cost = this.best[before + c] + this.cells[before + c];
+            byte move = 0;
+            if (c > 0) {
+                float left = this.best[before + c - 1] + this.cells[before + c - 1] + this.cells[before + c] + MOVE_COST;
+                if (left <= cost) {
+                    cost = left;
+                    move = 1;
+                }
+            }
+            if (c < this.columns - 1) {
+                float right = this.best[before + c + 1] + this.cells[before + c + 1] + this.cells[before + c] + MOVE_COST;
+                if (right <= cost) {
+                    cost = right;
+                    move = -1;
+                }
+            }
+            this.best[here + c] = cost;
+            this.from[here + c] = move;
+        }
+    }
+
+    /**
+     * Follow the cheapest cell of the last row back to the current row, storing the column of each row of the path.
+     *
+     * @param nowRow The row the boat is in.
+     */
+    private void trace(int nowRow) {
+        int end = slot(this.last) * this.columns;
+        int column = 0;
+        float cheapest = this.best[end] + this.cells[end];
+        for (int c = 1; c < this.columns; c++) {
+            float cost = this.best[end + c] + this.cells[end + c];
+            if (cost < cheapest) {
+                cheapest = cost;
+                column = c;
+            }
+        }
+        for (int row = this.last; row >= nowRow; row--) {
+            this.path[slot(row)] = column;
+            if (row > this.origin) {
+                column -= this.from[slot(row) * this.columns + column];
+            }
+        }
+    }
+
+    /**
+     * Get the x position the path puts the boat at at a time, moving steadily from one column to the next in each row.
+     *
+     * @param time The time since the start of the race, the boat stays at the end of the path after the last row.
+     * @return A float of the x position of the boat.
+     */
+    public float getX(double time) {
+        double rows = time / this.rowTime;
+        int row = (int) Math.floor(rows);
+        if (row >= this.last) {
+            return columnX(this.path[slot(this.last)]);
+        }
+        if (row < this.origin) {
+            return columnX(this.path[slot(this.origin)]);
+        }
+        float from = columnX(this.path[slot(row)]);
+        float to = columnX(this.path[slot(row + 1)]);
+        return from + (to - from) * (float) (rows - row);
+    }
+
+    /**
+     * Get if a path has been planned.
+     *
+     * @return True once {@link #plan} has been called.
+     */
+    public boolean hasPlan() {
+        return this.rowTime > 0;
+    }
+
+    /**
+     * Get the number of times the whole path has been planned from scratch, rather than carried on from the last plan.
+     *
+     * @return An int of the number of full plans.
+     */
+    public int getReplans() {
+        return this.replans;
+    }
+
+    /**
+     * Get the x position of the boat in a column.
+     *
+     * @param column The column.
+     * @return A float of the x position of the left of the boat.
+     */
+    public float columnX(int column) {
+        return this.lane.getHitbox().getX() + this.firstColumn + column * this.columnWidth;
+    }
+
+    /**
+     * Get the column nearest to an x position.
+     *
+     * @param x The x position of the left of the boat.
+     * @return An int of the column.
+     */
+    private int nearestColumn(float x) {
+        if (this.columns == 1) {
+            return 0;
+        }
+        int column = Math.round((x - this.lane.getHitbox().getX()) / this.columnWidth);
+        return Math.max(0, Math.min(this.columns - 1, column));
+    }
+
+    /**
+     * Get the row a time is in.
+     *
+     * @param time The time since the start of the race.
+     * @return An int of the row.
+     */
+    private int row(double time) {
+        return (int) Math.floor(time / this.rowTime);
+    }
+
+    /**
+     * Get where in the ring of remembered rows a row is kept.
+     *
+     * @param row The row.
+     * @return An int of the row's place in the ring.
+     */
+    private int slot(int row) {
+        return row % MAX_ROWS;
+    }
+}
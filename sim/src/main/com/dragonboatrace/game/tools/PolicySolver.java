@@ -0,0 +1,604 @@
+package main.com.dragonboatrace.game.tools;
+
+import main.com.dragonboatrace.game.entities.EntityType;
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.entities.boats.Boat;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+
+import java.util.Arrays;
+
+/**
+ * Works out the {@link AiPolicy} of a boat type at a difficulty by value iteration.
+ * <p>
+ * Each decision the boat makes progress up its lane, and loses it by hitting obstacles or leaving its lane, so the
+ * value of a state is the distance the boat can expect to travel from it, with distance further in the future counted
+ * for less. The quantized states from {@link AiPolicy} only say which bucket everything is in, so moving is modelled
+ * as the chance of moving into the next bucket over one decision, in proportion to how far the boat moves against the
+ * size of the bucket. The values are improved a state at a time until none change by more than {@link #TOLERANCE},
+ * and the table takes the best action in every state. Finding the best action means trying all of them, so between
+ * each sweep that does the values are improved a few times more with the actions found, which is much quicker.
+ * <p>
+ * The race is modelled with the default rules of an eight boat race, rather than whatever {@link Config} holds, so a
+ * table is the same whenever and wherever it is solved.
+ */
+public final class PolicySolver {
+
+    /**
+     * The time between two decisions of a boat.
+     */
+    private static final float DECISION_TIME = 1f / 15;
+
+    /**
+     * How much less progress made one decision later is worth.
+     */
+    private static final float DISCOUNT = 0.95f;
+
+    /**
+     * The largest change in any value for which the values are taken to have settled.
+     */
+    private static final float TOLERANCE = 0.01f;
+
+    /**
+     * The most times every value is improved before the table is taken anyway.
+     */
+    private static final int MAX_SWEEPS = 1000;
+
+    /**
+     * The number of times the values are improved with the actions last found to be best, after each sweep that
+     * finds them.
+     */
+    private static final int EVALUATIONS = 6;
+
+    /**
+     * The fraction of its type's speed a computer boat typically races at.
+     */
+    private static final float SPEED_SCALE = 0.9f;
+
+    /**
+     * The number of boats in the modelled race.
+     */
+    private static final int PLAYERS = 8;
+
+    /**
+     * The round of the modelled race.
+     */
+    private static final int ROUND = 1;
+
+    /**
+     * The width of a lane of the modelled race.
+     */
+    private static final int LANE_WIDTH = 1920 / PLAYERS;
+
+    /**
+     * The height of the view of the modelled race.
+     */
+    private static final int VIEW_HEIGHT = 1080;
+
+    /**
+     * The average time an item waits before it appears again in its lane.
+     */
+    private static final float ITEM_WAIT = 2;
+
+    /**
+     * The fraction of the items appearing that are obstacles, the rest are power ups.
+     */
+    private static final float OBSTACLE_SHARE = 0.8f;
+
+    /**
+     * Reduces the scalar that stamina gives when accelerating in the modelled race.
+     */
+    private static final int STAMINA_SPEED_DIVISION = 2;
+
+    /**
+     * The velocity of a boat after a collision in the modelled race.
+     */
+    private static final float COLLISION_VELOCITY = -20;
+
+    /**
+     * The time a boat is slowed after a collision in the modelled race.
+     */
+    private static final float COLLISION_TIME = 0.5f;
+
+    /**
+     * The extra speed of a boat with a boost.
+     */
+    private static final float BOOST_SPEED = 100;
+
+    /**
+     * The number of frames, at {@link Boat#TUNED_RATE}, that a boost lasts.
+     */
+    private static final float BOOST_FRAMES = 100;
+
+    /**
+     * The distance a power up is taken to be worth.
+     */
+    private static final float POWER_UP_VALUE = 50;
+
+    /**
+     * The distance each bucket of health already lost makes being damaged again cost.
+     */
+    private static final float DAMAGE_COST = 40;
+
+    /**
+     * The distance steering costs, so the boat only steers when it makes a difference.
+     */
+    private static final float STEER_COST = 0.01f;
+
+    /**
+     * The rate stamina is used and regained at, and the least it is used at, matching {@link Boat}.
+     */
+    private static final float STAMINA_RATE = 10, MIN_BOOST_SPEED = 5;
+
+    /**
+     * The most outcomes of one decision for the closest obstacle.
+     */
+    private static final int MAX_OUTCOMES = AiPolicy.OBSTACLE_COLUMNS + 1;
+
+    /**
+     * The expected value of every state.
+     */
+    private final float[] values = new float[AiPolicy.STATES];
+
+    /**
+     * The best action in every state, as last found.
+     */
+    private final int[] actions = new int[AiPolicy.STATES];
+
+    /**
+     * The speed the boat races at.
+     */
+    private final float cruise;
+
+    /**
+     * The maximum stamina of the boat.
+     */
+    private final float maxStamina;
+
+    /**
+     * The chance one collision drops the boat's health by a bucket.
+     */
+    private final float damageChance;
+
+    /**
+     * The number of obstacles and power ups ahead of the boat per pixel of the lane, when moving at its speed.
+     */
+    private final float obstacleDensity, powerUpDensity;
+
+    /**
+     * The average speed obstacles drift down the lane at.
+     */
+    private final float drift;
+
+    /**
+     * For each bucket of stamina, the scalar using it multiplies the speed by.
+     */
+    private final float[] sprintScale = new float[AiPolicy.STAMINA_BUCKETS];
+
+    /**
+     * For each bucket of stamina, the chance of using enough of it in one decision to drop a bucket.
+     */
+    private final float[] staminaUsed = new float[AiPolicy.STAMINA_BUCKETS];
+
+    /**
+     * For each bucket of stamina, the chance of regaining enough of it in one decision to rise a bucket.
+     */
+    private final float[] staminaRegained = new float[AiPolicy.STAMINA_BUCKETS];
+
+    /* The outcomes of one decision for each part of the state, filled in for each action in turn */
+    private final int[] obstacleTo = new int[MAX_OUTCOMES];
+    private final float[] obstacleChance = new float[MAX_OUTCOMES];
+    private final boolean[] obstacleHit = new boolean[MAX_OUTCOMES];
+    private int obstacleOutcomes;
+    private final int[] laneTo = new int[2];
+    private final float[] laneChance = new float[2];
+    private int laneOutcomes;
+    private final int[] powerUpTo = new int[AiPolicy.POWER_UPS];
+    private final float[] powerUpChance = new float[AiPolicy.POWER_UPS];
+    private int powerUpOutcomes;
+    private final int[] staminaTo = new int[2];
+    private final float[] staminaChance = new float[2];
+    private int staminaOutcomes;
+    private final int[] boostTo = new int[2];
+    private final float[] boostChance = new float[2];
+    private int boostOutcomes;
+
+    /**
+     * Creates a solver for a boat type at a difficulty.
+     *
+     * @param boat       The boat type.
+     * @param difficulty The difficulty of the race.
+     */
+    private PolicySolver(BoatType boat, int difficulty) {
+        this.cruise = boat.getSpeed() * SPEED_SCALE;
+        this.maxStamina = boat.getStamina();
+        float damage = 0;
+        float drift = 0;
+        for (ObstacleType type : ObstacleType.values()) {
+            damage += type.getDamage() / ObstacleType.values().length;
+            drift += type.getSpeed() / ObstacleType.values().length;
+        }
+        this.drift = drift;
+        this.damageChance = Math.min(1, damage / (boat.getHealth() / AiPolicy.HEALTH_BUCKETS));
+
+        /* Each item spends its time in view of the lane and then waits to appear again */
+        int items = (15 * (1 + ROUND + difficulty)) / PLAYERS;
+        float inView = VIEW_HEIGHT / (this.cruise + this.drift);
+        float onScreen = items * inView / (inView + ITEM_WAIT);
+        this.obstacleDensity = onScreen * OBSTACLE_SHARE / VIEW_HEIGHT;
+        this.powerUpDensity = onScreen * (1 - OBSTACLE_SHARE) / VIEW_HEIGHT;
+
+        float bucket = this.maxStamina / AiPolicy.STAMINA_BUCKETS;
+        for (int stamina = 0; stamina < AiPolicy.STAMINA_BUCKETS; stamina++) {
+            /* Only the least stamina in the bucket is counted on for speed, so an empty boat is not thought fast */
+            this.sprintScale[stamina] = velocityPercentage(stamina * bucket);
+            float middle = (stamina + 0.5f) * bucket;
+            this.staminaUsed[stamina] = Math.min(1, useStamina(middle) * DECISION_TIME / bucket);
+            this.staminaRegained[stamina] = Math.min(1, regenerateStamina(middle) * Boat.TUNED_RATE * DECISION_TIME / bucket);
+        }
+
+        Arrays.fill(this.values, this.cruise * DECISION_TIME / (1 - DISCOUNT));
+    }
+
+    /**
+     * Solve the table of a boat type at a difficulty.
+     *
+     * @param boat       The boat type.
+     * @param difficulty The difficulty of the race.
+     * @return The {@link AiPolicy} for the boat type.
+     */
+    public static AiPolicy solve(BoatType boat, int difficulty) {
+        PolicySolver solver = new PolicySolver(boat, difficulty);
+        for (int sweep = 0; sweep < MAX_SWEEPS && solver.sweep() >= TOLERANCE; sweep++) {
+            for (int evaluation = 0; evaluation < EVALUATIONS; evaluation++) {
+                solver.evaluate();
+            }
+        }
+        return AiPolicy.of(boat, difficulty, solver.actions);
+    }
+
+    /**
+     * Find the best action in every state and improve its value, using the values already improved this sweep.
+     * <p>
+     * Steering straight on without using stamina is taken when nothing is better.
+     *
+     * @return The largest change in any value.
+     */
+    private float sweep() {
+        float largest = 0;
+        for (int state = 0; state < AiPolicy.STATES; state++) {
+            int best = AiPolicy.action(0, false);
+            float value = value(state, best);
+            for (int action = 0; action < AiPolicy.ACTIONS; action++) {
+                float next = value(state, action);
+                if (next > value) {
+                    best = action;
+                    value = next;
+                }
+            }
+            largest = Math.max(largest, Math.abs(value - this.values[state]));
+            this.values[state] = value;
+            this.actions[state] = best;
+        }
+        return largest;
+    }
+
+    /**
+     * Improve the value of every state once, taking the action last found to be best in it.
+     */
+    private void evaluate() {
+        for (int state = 0; state < AiPolicy.STATES; state++) {
+            this.values[state] = value(state, this.actions[state]);
+        }
+    }
+
+    /**
+     * Get the value of taking an action in a state, the progress made over the decision and the discounted value of
+     * where it could leave the boat.
+     *
+     * @param state  The state.
+     * @param action The action.
+     * @return A float of the expected value.
+     */
+    private float value(int state, int action) {
+        int boost = state % AiPolicy.BOOST_STATES;
+        int rest = state / AiPolicy.BOOST_STATES;
+        int health = rest % AiPolicy.HEALTH_BUCKETS;
+        rest /= AiPolicy.HEALTH_BUCKETS;
+        int stamina = rest % AiPolicy.STAMINA_BUCKETS;
+        rest /= AiPolicy.STAMINA_BUCKETS;
+        int powerUp = rest % AiPolicy.POWER_UPS;
+        rest /= AiPolicy.POWER_UPS;
+        int lane = rest % AiPolicy.LANE_BUCKETS;
+        int obstacle = rest / AiPolicy.LANE_BUCKETS;
+
+        int direction = AiPolicy.direction(action);
+        boolean sprint = AiPolicy.sprints(action);
+        float speed = this.cruise + boost * BOOST_SPEED;
+        float forward = sprint ? speed + speed * this.sprintScale[stamina] : speed;
+        float sideways = speed * DECISION_TIME;
+
+        float reward = forward * DECISION_TIME - STEER_COST * Math.abs(direction);
+        float hitChance = obstacleOutcomes(obstacle, lane, direction, sideways, forward);
+        reward -= hitChance * ((speed - COLLISION_VELOCITY) * COLLISION_TIME + DAMAGE_COST * (AiPolicy.HEALTH_BUCKETS - health));
+        reward -= laneOutcomes(lane, direction, sideways) * Boat.OUT_OF_LANE_PENALTY * DECISION_TIME * this.cruise;
+        reward += powerUpOutcomes(powerUp, direction, sideways, forward) * POWER_UP_VALUE;
+        staminaOutcomes(stamina, sprint);
+        boostOutcomes(boost);
+
+        float expected = 0;
+        for (int o = 0; o < this.obstacleOutcomes; o++) {
+            boolean hit = this.obstacleHit[o] && health > 0;
+            int next = this.obstacleTo[o];
+            for (int l = 0; l < this.laneOutcomes; l++) {
+                float laneChance = this.obstacleChance[o] * this.laneChance[l];
+                if (laneChance == 0) {
+                    continue;
+                }
+                for (int p = 0; p < this.powerUpOutcomes; p++) {
+                    float powerUpChance = laneChance * this.powerUpChance[p];
+                    if (powerUpChance == 0) {
+                        continue;
+                    }
+                    for (int s = 0; s < this.staminaOutcomes; s++) {
+                        float staminaChance = powerUpChance * this.staminaChance[s];
+                        if (staminaChance == 0) {
+                            continue;
+                        }
+                        for (int b = 0; b < this.boostOutcomes; b++) {
+                            float chance = staminaChance * this.boostChance[b];
+                            if (chance == 0) {
+                                continue;
+                            }
+                            int unharmed = AiPolicy.state(next, this.laneTo[l], this.powerUpTo[p], this.staminaTo[s], health, this.boostTo[b]);
+                            if (hit) {
+                                /* Losing a bucket of health is one state in every lot of health states lower */
+                                expected += chance * ((1 - this.damageChance) * this.values[unharmed]
+                                    + this.damageChance * this.values[unharmed - AiPolicy.BOOST_STATES]);
+                            } else {
+                                expected += chance * this.values[unharmed];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return reward + DISCOUNT * expected;
+    }
+
+    /**
+     * Fill in where the closest obstacle could be after a decision.
+     *
+     * @param obstacle  The obstacle part of the state.
+     * @param lane      The bucket of the boat's position across its lane.
+     * @param direction The way the boat steers.
+     * @param sideways  The distance the boat moves sideways when it steers.
+     * @param forward   The speed the boat moves forwards at.
+     * @return A float of the chance of hitting the obstacle.
+     */
+    private float obstacleOutcomes(int obstacle, int lane, int direction, float sideways, float forward) {
+        this.obstacleOutcomes = 0;
+        float closing = (forward + this.drift) * DECISION_TIME;
+        if (obstacle == AiPolicy.NO_OBSTACLE) {
+            /* Obstacles appear at the top of the rows, anywhere they fit in the lane */
+            float appear = this.obstacleDensity * closing / AiPolicy.OBSTACLE_COLUMNS;
+            float none = 1;
+            float travel = LANE_WIDTH - EntityType.BOAT.getWidth();
+            float centre = (lane + 0.5f) * travel / AiPolicy.LANE_BUCKETS + EntityType.BOAT.getWidth() / 2f;
+            float half = EntityType.OBSTACLE.getWidth() / 2f;
+            for (int column = 0; column < AiPolicy.OBSTACLE_COLUMNS; column++) {
+                float x = centre + (column + 0.5f - AiPolicy.OBSTACLE_COLUMNS / 2f) * AiPolicy.COLUMN_WIDTH;
+                if (x >= half && x <= LANE_WIDTH - half) {
+                    addObstacle((AiPolicy.OBSTACLE_ROWS - 1) * AiPolicy.OBSTACLE_COLUMNS + column, appear, false);
+                    none -= appear;
+                }
+            }
+            addObstacle(AiPolicy.NO_OBSTACLE, none, false);
+            return 0;
+        }
+        int column = obstacle % AiPolicy.OBSTACLE_COLUMNS;
+        int row = obstacle / AiPolicy.OBSTACLE_COLUMNS;
+        if (colliding(column, row)) {
+            /* Already hit, and so removed */
+            addObstacle(AiPolicy.NO_OBSTACLE, 1, false);
+            return 0;
+        }
+        float across = direction == 0 ? 0 : Math.min(1, sideways / AiPolicy.COLUMN_WIDTH);
+        float down = Math.min(1, closing / AiPolicy.ROW_HEIGHT);
+        float hit = 0;
+        for (int dx = 0; dx < 2; dx++) {
+            for (int dy = 0; dy < 2; dy++) {
+                float chance = (dx == 0 ? 1 - across : across) * (dy == 0 ? 1 - down : down);
+                if (chance == 0) {
+                    continue;
+                }
+                /* Steering one way moves the obstacle the other way relative to the boat */
+                int nextColumn = column - dx * direction;
+                int nextRow = row - dy;
+                if (nextRow < 0 || nextColumn < 0 || nextColumn >= AiPolicy.OBSTACLE_COLUMNS) {
+                    addObstacle(AiPolicy.NO_OBSTACLE, chance, false);
+                } else if (colliding(nextColumn, nextRow)) {
+                    addObstacle(AiPolicy.NO_OBSTACLE, chance, true);
+                    hit += chance;
+                } else {
+                    addObstacle(nextRow * AiPolicy.OBSTACLE_COLUMNS + nextColumn, chance, false);
+                }
+            }
+        }
+        return hit;
+    }
+
+    /**
+     * Add a place the closest obstacle could be after a decision.
+     *
+     * @param obstacle The obstacle part of the state.
+     * @param chance   The chance of it being there.
+     * @param hit      If the boat hit the obstacle getting there.
+     */
+    private void addObstacle(int obstacle, float chance, boolean hit) {
+        this.obstacleTo[this.obstacleOutcomes] = obstacle;
+        this.obstacleChance[this.obstacleOutcomes] = chance;
+        this.obstacleHit[this.obstacleOutcomes] = hit;
+        this.obstacleOutcomes++;
+    }
+
+    /**
+     * Get if an obstacle in a column and row overlaps the boat.
+     *
+     * @param column The column of the obstacle.
+     * @param row    The row of the obstacle.
+     * @return True if they overlap.
+     */
+    private static boolean colliding(int column, int row) {
+        float offset = (column + 0.5f - AiPolicy.OBSTACLE_COLUMNS / 2f) * AiPolicy.COLUMN_WIDTH;
+        float bottom = row * AiPolicy.ROW_HEIGHT - EntityType.OBSTACLE.getHeight();
+        return Math.abs(offset) < (EntityType.BOAT.getWidth() + EntityType.OBSTACLE.getWidth()) / 2f
+            && bottom < EntityType.BOAT.getHeight();
+    }
+
+    /**
+     * Fill in where the boat could be across its lane after a decision.
+     *
+     * @param lane      The bucket of the boat's position across its lane.
+     * @param direction The way the boat steers.
+     * @param sideways  The distance the boat moves sideways when it steers.
+     * @return A float of the chance of the boat leaving its lane.
+     */
+    private float laneOutcomes(int lane, int direction, float sideways) {
+        float travel = LANE_WIDTH - EntityType.BOAT.getWidth();
+        float across = direction == 0 ? 0 : Math.min(1, sideways / (travel / AiPolicy.LANE_BUCKETS));
+        int next = lane + direction;
+        if (next < 0 || next >= AiPolicy.LANE_BUCKETS) {
+            set(this.laneTo, this.laneChance, lane, 1, lane, 0);
+            this.laneOutcomes = 1;
+            return across;
+        }
+        set(this.laneTo, this.laneChance, lane, 1 - across, next, across);
+        this.laneOutcomes = 2;
+        return 0;
+    }
+
+    /**
+     * Fill in where the closest power up could be after a decision.
+     *
+     * @param powerUp   The power up part of the state.
+     * @param direction The way the boat steers.
+     * @param sideways  The distance the boat moves sideways when it steers.
+     * @param forward   The speed the boat moves forwards at.
+     * @return A float of the chance of collecting the power up.
+     */
+    private float powerUpOutcomes(int powerUp, int direction, float sideways, float forward) {
+        float closing = (forward + this.drift) * DECISION_TIME;
+        if (powerUp == AiPolicy.NO_POWER_UP) {
+            /* Power ups appear at the top of the rows, as likely on either side as straight ahead */
+            float appear = this.powerUpDensity * closing / 3;
+            this.powerUpTo[0] = AiPolicy.NO_POWER_UP;
+            this.powerUpChance[0] = 1 - 3 * appear;
+            for (int side = 1; side < AiPolicy.POWER_UPS; side++) {
+                this.powerUpTo[side] = side;
+                this.powerUpChance[side] = appear;
+            }
+            this.powerUpOutcomes = AiPolicy.POWER_UPS;
+            return 0;
+        }
+        /* On average the power up is half way up the rows */
+        float reach = Math.min(1, closing / (AiPolicy.OBSTACLE_ROWS * AiPolicy.ROW_HEIGHT / 2));
+        int shifted = powerUp;
+        if (direction == -1) {
+            shifted = powerUp == AiPolicy.POWER_UP_LEFT ? AiPolicy.POWER_UP_AHEAD : AiPolicy.POWER_UP_RIGHT;
+        } else if (direction == 1) {
+            shifted = powerUp == AiPolicy.POWER_UP_RIGHT ? AiPolicy.POWER_UP_AHEAD : AiPolicy.POWER_UP_LEFT;
+        }
+        float across = direction == 0 ? 0 : Math.min(1, sideways / EntityType.POWERUP.getWidth());
+        this.powerUpTo[0] = AiPolicy.NO_POWER_UP;
+        this.powerUpChance[0] = reach;
+        set(this.powerUpTo, this.powerUpChance, powerUp, (1 - reach) * (1 - across), shifted, (1 - reach) * across, 1);
+        this.powerUpOutcomes = 3;
+        return powerUp == AiPolicy.POWER_UP_AHEAD ? reach : 0;
+    }
+
+    /**
+     * Fill in how much stamina the boat could have after a decision.
+     *
+     * @param stamina The bucket of the boat's stamina.
+     * @param sprint  If the boat uses its stamina.
+     */
+    private void staminaOutcomes(int stamina, boolean sprint) {
+        int next = sprint ? Math.max(0, stamina - 1) : Math.min(AiPolicy.STAMINA_BUCKETS - 1, stamina + 1);
+        float change = next == stamina ? 0 : sprint ? this.staminaUsed[stamina] : this.staminaRegained[stamina];
+        set(this.staminaTo, this.staminaChance, stamina, 1 - change, next, change);
+        this.staminaOutcomes = 2;
+    }
+
+    /**
+     * Fill in if the boat could still have a boost after a decision.
+     *
+     * @param boost 1 if the boat has a boost, otherwise 0.
+     */
+    private void boostOutcomes(int boost) {
+        float end = boost == 0 ? 0 : Math.min(1, DECISION_TIME * Boat.TUNED_RATE / BOOST_FRAMES);
+        set(this.boostTo, this.boostChance, boost, 1 - end, 0, end);
+        this.boostOutcomes = 2;
+    }
+
+    /**
+     * Set the first two outcomes of a part of the state.
+     *
+     * @param to     The part of the state of each outcome.
+     * @param chance The chance of each outcome.
+     * @param first  The first outcome.
+     * @param p      The chance of the first outcome.
+     * @param second The second outcome.
+     * @param q      The chance of the second outcome.
+     */
+    private static void set(int[] to, float[] chance, int first, float p, int second, float q) {
+        set(to, chance, first, p, second, q, 0);
+    }
+
+    /**
+     * Set two outcomes of a part of the state.
+     *
+     * @param to     The part of the state of each outcome.
+     * @param chance The chance of each outcome.
+     * @param first  The first outcome.
+     * @param p      The chance of the first outcome.
+     * @param second The second outcome.
+     * @param q      The chance of the second outcome.
+     * @param offset The index of the first outcome.
+     */
+    private static void set(int[] to, float[] chance, int first, float p, int second, float q, int offset) {
+        to[offset] = first;
+        chance[offset] = p;
+        to[offset + 1] = second;
+        chance[offset + 1] = q;
+    }
+
+    /**
+     * Get the scalar stamina multiplies the speed by, matching {@link Boat}.
+     *
+     * @param stamina The stamina the boat has.
+     * @return A float of the scalar.
+     */
+    private static float velocityPercentage(float stamina) {
+        return (float) (0.25 + StrictMath.log(stamina + 1) / 3) / STAMINA_SPEED_DIVISION;
+    }
+
+    /**
+     * Get the stamina used each second, matching {@link Boat}.
+     *
+     * @param stamina The stamina the boat has.
+     * @return A float of the stamina used.
+     */
+    private float useStamina(float stamina) {
+        return (float) (StrictMath.pow(this.maxStamina, -stamina / (2 * this.maxStamina)) * STAMINA_RATE + STAMINA_RATE + MIN_BOOST_SPEED);
+    }
+
+    /**
+     * Get the stamina regained each frame at {@link Boat#TUNED_RATE}, matching {@link Boat}.
+     *
+     * @param stamina The stamina the boat has.
+     * @return A float of the stamina regained.
+     */
+    private float regenerateStamina(float stamina) {
+        return (float) (-1 * STAMINA_RATE * StrictMath.pow(this.maxStamina, -stamina / (2 * this.maxStamina)) + STAMINA_RATE + 1) / 10;
+    }
+}
@@ -0,0 +1,255 @@
+package main.com.dragonboatrace.game.tools;
+
+import java.util.Arrays;
+
+/**
+ * A lightweight profiler that times the phases of each frame and keeps the last {@link #WINDOW} frames of each.
+ * <p>
+ * Code being timed is wrapped in {@link #start(ProfilerPhase)} and {@link #stop(ProfilerPhase)}. Phases can be nested,
+ * and time spent in a nested phase is only counted for that phase, so the phases of a frame add up to the time spent
+ * in them rather than counting anything twice. A phase can be started any number of times in a frame and its times
+ * are added together. {@link #endFrame()} records the frame, which also gives {@link ProfilerPhase#FRAME} the time
+ * since the last frame ended.
+ * <p>
+ * Nothing is timed until the profiler is enabled, when starting and stopping phases cost a single check. Once enabled
+ * nothing is allocated, so the profiler does not add garbage collection pauses to what it measures.
+ * <p>
+ * Only the thread that enabled the profiler is timed. Work done by other threads, such as boats updated in parallel by
+ * {@link LaneJobs}, is counted in whichever phase the timed thread is waiting in.
+ */
+public class Profiler {
+
+    /**
+     * The number of frames kept for each phase.
+     */
+    public static final int WINDOW = 600;
+
+    /**
+     * The deepest phases can be nested.
+     */
+    private static final int MAX_DEPTH = 16;
+
+    /**
+     * The number of nanoseconds in a millisecond.
+     */
+    private static final float NANOS_PER_MILLI = 1000000f;
+
+    /**
+     * Every phase, in order of their ordinal.
+     */
+    private static final ProfilerPhase[] PHASES = ProfilerPhase.values();
+
+    /**
+     * If phases are being timed.
+     */
+    private static boolean enabled = false;
+
+    /**
+     * The thread being timed, the one that last enabled the profiler.
+     */
+    private static Thread owner = null;
+
+    /**
+     * The time spent in each phase so far this frame, in nanoseconds.
+     */
+    private static final long[] current = new long[PHASES.length];
+
+    /**
+     * The time spent in each phase in each of the last frames, in nanoseconds, used as a ring buffer.
+     */
+    private static final long[][] samples = new long[PHASES.length][WINDOW];
+
+    /**
+     * Used to sort a phase's times when finding a percentile.
+     */
+    private static final long[] sorted = new long[WINDOW];
+
+    /**
+     * The phases that have been started and not stopped, innermost last.
+     */
+    private static final ProfilerPhase[] stack = new ProfilerPhase[MAX_DEPTH];
+
+    /**
+     * The number of phases that have been started and not stopped.
+     */
+    private static int depth = 0;
+
+    /**
+     * When the innermost phase was last started or returned to.
+     */
+    private static long mark = 0;
+
+    /**
+     * When the last frame ended, or 0 if no frame has ended since the profiler was enabled.
+     */
+    private static long frameEnd = 0;
+
+    /**
+     * Where the next frame is recorded in the ring buffer.
+     */
+    private static int next = 0;
+
+    /**
+     * The number of frames recorded, up to {@link #WINDOW}.
+     */
+    private static int frames = 0;
+
+    /**
+     * Start or stop timing phases.
+     * <p>
+     * Frames that were already recorded are kept.
+     *
+     * @param enable If phases should be timed.
+     */
+    public static void setEnabled(boolean enable) {
+        if (enable) {
+            owner = Thread.currentThread();
+        }
+        if (enable != enabled) {
+            enabled = enable;
+            discardFrame();
+        }
+    }
+
+    /**
+     * If phases are being timed.
+     *
+     * @return A boolean of if the profiler is enabled.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Start timing a phase, pausing the phase it is nested in.
+     *
+     * @param phase The phase that is starting.
+     */
+    public static void start(ProfilerPhase phase) {
+        if (!enabled || Thread.currentThread() != owner) {
+            return;
+        }
+        if (depth == MAX_DEPTH) {
+            throw new IllegalStateException("Profiler phases are nested too deeply to start " + phase);
+        }
+        long now = System.nanoTime();
+        if (depth > 0) {
+            current[stack[depth - 1].ordinal()] += now - mark;
+        }
+        stack[depth++] = phase;
+        mark = now;
+    }
+
+    /**
+     * Stop timing a phase, carrying on with the phase it is nested in.
+     *
+     * @param phase The phase that is stopping, which must be the last one started.
+     */
+    public static void stop(ProfilerPhase phase) {
+        if (!enabled || Thread.currentThread() != owner) {
+            return;
+        }
+        if (depth == 0 || stack[depth - 1] != phase) {
+            throw new IllegalStateException("Profiler phase " + phase + " stopped without being the last one started");
+        }
+        long now = System.nanoTime();
+        current[phase.ordinal()] += now - mark;
+        depth--;
+        mark = now;
+    }
+
+    /**
+     * Add time measured some other way to a phase for this frame.
+     *
+     * @param phase The phase the time was spent in.
+     * @param nanos The time spent, in nanoseconds.
+     */
+    public static void record(ProfilerPhase phase, long nanos) {
+        if (enabled && Thread.currentThread() == owner) {
+            current[phase.ordinal()] += nanos;
+        }
+    }
+
+    /**
+     * Record the times of every phase for the frame that has just finished and start the next one.
+     */
+    public static void endFrame() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (frameEnd != 0) {
+            current[ProfilerPhase.FRAME.ordinal()] += now - frameEnd;
+        }
+        frameEnd = now;
+        for (int i = 0; i < PHASES.length; i++) {
+            samples[i][next] = current[i];
+            current[i] = 0;
+        }
+        next = (next + 1) % WINDOW;
+        frames = Math.min(frames + 1, WINDOW);
+    }
+
+    /**
+     * Forget the time spent in the frame so far without recording it, for when the time since the last frame was not
+     * spent on anything being profiled.
+     */
+    public static void discardFrame() {
+        Arrays.fill(current, 0);
+        depth = 0;
+        frameEnd = 0;
+    }
+
+    /**
+     * Forget every recorded frame.
+     */
+    public static void reset() {
+        discardFrame();
+        next = 0;
+        frames = 0;
+    }
+
+    /**
+     * Get the number of frames that have been recorded, up to {@link #WINDOW}.
+     *
+     * @return An int of the number of frames the percentiles are taken from.
+     */
+    public static int getFrames() {
+        return frames;
+    }
+
+    /**
+     * Get the time of a phase that a percentage of the recorded frames were at or under.
+     *
+     * @param phase      The phase to look at.
+     * @param percentile The percentage of frames, between 0 and 100.
+     * @return A float of the time in milliseconds, or 0 if no frames have been recorded.
+     */
+    public static float percentile(ProfilerPhase phase, float percentile) {
+        if (frames == 0) {
+            return 0;
+        }
+        System.arraycopy(samples[phase.ordinal()], 0, sorted, 0, frames);
+        Arrays.sort(sorted, 0, frames);
+        int rank = (int) Math.ceil(percentile / 100 * frames) - 1;
+        return sorted[Math.max(0, Math.min(frames - 1, rank))] / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Create a CSV table of the 50th, 95th and 99th percentile and the longest time of every phase.
+     *
+     * @return A String of the table, with a header row and a row for each phase.
+     */
+    public static String toCsv() {
+        StringBuilder csv = new StringBuilder("phase,p50_ms,p95_ms,p99_ms,max_ms,frames\n");
+        for (ProfilerPhase phase : PHASES) {
+            csv.append(phase.getLabel()).append(',')
+                .append(percentile(phase, 50)).append(',')
+                .append(percentile(phase, 95)).append(',')
+                .append(percentile(phase, 99)).append(',')
+                .append(percentile(phase, 100)).append(',')
+                .append(frames).append('\n');
+        }
+        return csv.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package main.com.dragonboatrace.game.tools;
+
+/**
+ * Represents a part of a frame that the {@link Profiler} times.
+ */
+public enum ProfilerPhase {
+
+    FRAME("Frame"),
+    BACKGROUND("Background"),
+    RACE("Race update"),
+    PLAYER("Player"),
+    AI("AI decisions"),
+    COMPUTER_BOATS("Computer boats"),
+    LANES("Lanes"),
+    COLLISIONS("Collisions"),
+    RENDER("Race render"),
+    HUD("HUD text");
+
+    private final String label;
+
+    /**
+     * Creates a new phase with a name to show it by.
+     *
+     * @param label The name of the phase.
+     */
+    ProfilerPhase(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Get the name the phase is shown by.
+     *
+     * @return A String of the name.
+     */
+    public String getLabel() {
+        return this.label;
+    }
+}
@@ -0,0 +1,586 @@
+package main.com.dragonboatrace.game.tools;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonValue.JsonIterator;
+import main.com.dragonboatrace.game.entities.EntityType;
+import main.com.dragonboatrace.game.entities.FinishLine;
+import main.com.dragonboatrace.game.entities.boats.Boat;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.entities.boats.ComputerBoat;
+import main.com.dragonboatrace.game.entities.boats.PlayerBoat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents a Race.
+ *
+ * @author Benji Garment, Joe Wrieden, Jacob Turner
+ */
+public class Race {
+    /**
+     * The time scale that runs the race as fast as possible, a full frame of steps every time it is advanced.
+     */
+    public static final float UNBOUNDED = Float.POSITIVE_INFINITY;
+
+    /**
+     * The length of the race.
+     */
+    private final int length;
+    /**
+     * The list of boats in the race, not including the player.
+     */
+    private final List<Boat> boats;
+    /**
+     * The rules the race is run with.
+     */
+    private final RaceSettings settings;
+    /**
+     * Updates the boats that are not the player in parallel, when there are enough of them.
+     */
+    private final LaneJobs jobs;
+    /**
+     * Decides where the boats that are not the player steer, a few of them each step.
+     */
+    private final AiScheduler ai;
+    /**
+     * The players boat.
+     */
+    private final PlayerBoat player;
+    /**
+     * The finish line.
+     */
+    private final FinishLine finishLine;
+    /**
+     * The view of the race, which follows the player.
+     */
+    private final RaceCamera camera;
+    /**
+     * The width of the world the race is in, split evenly between the lanes.
+     */
+    private final int width;
+    /**
+     * The height of the view the race is shown in.
+     */
+    private final int height;
+
+    /**
+     * The simulation time the race has run for, in seconds, which the boats' finish times are taken from.
+     */
+    private double elapsed;
+
+    /**
+     * How many seconds of the race are simulated for each second that passes.
+     */
+    private float timeScale = 1;
+
+    private int round;
+
+    /**
+     * The random numbers used by the race, every lane and boat splits its own stream from it.
+     */
+    private final RaceRandom random;
+
+    /**
+     * The time passed that has not yet been simulated, always less than one simulation step after advancing.
+     */
+    private float accumulator;
+
+    /**
+     * The number of simulation steps the race has run.
+     */
+    private long ticks;
+
+    /**
+     * If the race is over, either because it was finished or the player's boat broke.
+     */
+    private boolean finished;
+
+    // >>>> Modified in assessment 2 <<<<
+    /**
+     * Creates a new race of a specified length.
+     *
+     * @param raceLength The length of the race.
+     * @param boatChosen The {@link BoatType} that the player chose.
+     * @param round The current round of the race.
+     */
+    public Race(int raceLength, BoatType boatChosen, int round) {
+        this(raceLength, boatChosen, round, RaceRandom.unseeded().getSeed());
+    }
+
+    /**
+     * Creates a new race of a specified length from a seed.
+     * <p>
+     * The same seed and the same player input always give the same race.
+     *
+     * @param raceLength The length of the race.
+     * @param boatChosen The {@link BoatType} that the player chose.
+     * @param round The current round of the race.
+     * @param seed The seed for all random numbers in the race.
+     */
+    public Race(int raceLength, BoatType boatChosen, int round, long seed) {
+        this(raceLength, boatChosen, round, seed, Config.WIDTH, Config.HEIGHT);
+    }
+
+    /**
+     * Creates a new race of a specified length in a world of a given size.
+     *
+     * @param raceLength The length of the race.
+     * @param boatChosen The {@link BoatType} that the player chose.
+     * @param round The current round of the race.
+     * @param width The width of the world, split evenly between the lanes.
+     * @param height The height of the view the race is shown in.
+     */
+    public Race(int raceLength, BoatType boatChosen, int round, int width, int height) {
+        this(raceLength, boatChosen, round, RaceRandom.unseeded().getSeed(), width, height);
+    }
+
+    /**
+     * Creates a new race of a specified length from a seed in a world of a given size.
+     * <p>
+     * The same seed and the same player input always give the same race.
+     *
+     * @param raceLength The length of the race.
+     * @param boatChosen The {@link BoatType} that the player chose.
+     * @param round The current round of the race.
+     * @param seed The seed for all random numbers in the race.
+     * @param width The width of the world, split evenly between the lanes.
+     * @param height The height of the view the race is shown in.
+     */
+    public Race(int raceLength, BoatType boatChosen, int round, long seed, int width, int height) {
+        this(raceLength, boatChosen, round, seed, width, height, RaceSettings.defaults());
+    }
+
+    /**
+     * Creates a new race of a specified length from a seed in a world of a given size, run with its own settings.
+     * <p>
+     * The same seed, settings and player input always give the same race, whatever {@link Config} holds.
+     *
+     * @param raceLength The length of the race.
+     * @param boatChosen The {@link BoatType} that the player chose.
+     * @param round The current round of the race.
+     * @param seed The seed for all random numbers in the race.
+     * @param width The width of the world, split evenly between the lanes.
+     * @param height The height of the view the race is shown in.
+     * @param settings The rules the race is run with.
+     */
+    public Race(int raceLength, BoatType boatChosen, int round, long seed, int width, int height, RaceSettings settings) {
+        this.settings = settings;
+        this.length = raceLength;
+        this.round = round;
+        this.random = new RaceRandom(seed);
+        this.width = width;
+        this.height = height;
+        this.finishLine = createFinishLine(raceLength, width);
+        int size = width / settings.getPlayerCount();
+        this.elapsed = 0;
+
+        this.player = new PlayerBoat(boatChosen, new Lane(new Vector2(0, 0), size, height, round, this.random.split(0), settings), "Player");
+
+        boats = new ArrayList<Boat>();
+        List<ComputerBoat> computers = new ArrayList<ComputerBoat>();
+        List<BoatType> avaialableTypes = new ArrayList<BoatType>(Arrays.asList(BoatType.values()));
+        avaialableTypes.remove(boatChosen);
+        for (int i = 1; i < settings.getPlayerCount(); i++) {
+            int rand = this.random.nextInt(avaialableTypes.size());
+            computers.add(new ComputerBoat(avaialableTypes.get(rand), new Lane(new Vector2(size * i, 0), size, height, round, this.random.split(i), settings), "COMP" + i, i));
+        }
+        boats.addAll(computers);
+        this.jobs = new LaneJobs(this.boats, this.settings.getSimulationThreads());
+        this.ai = new AiScheduler(computers, settings);
+        this.camera = new RaceCamera();
+        this.camera.moveTo(cameraY());
+    }
+
+    // >>>> Added in assessment 2 <<<<
+    /**
+     * Creates a race from a save.
+     *
+     * @param data The JsonValue that contains any other data the class requires to fully reconstruct it.
+     */
+    public Race(JsonValue data) {
+        this(data, RaceSettings.defaults());
+    }
+
+    /**
+     * Creates a race from a save, using some default settings for anything the save does not hold.
+     *
+     * @param data The JsonValue that contains any other data the class requires to fully reconstruct it.
+     * @param defaults The settings used for any rule missing from the save, like saves made before rules were saved.
+     */
+    public Race(JsonValue data, RaceSettings defaults) {
+        this.settings = data.has("settings") ? new RaceSettings(data.get("settings"), defaults) : defaults;
+        this.length = data.getInt("length");
+        this.round = data.getInt("round");
+        this.random = data.has("random") ? new RaceRandom(data.get("random")) : RaceRandom.unseeded();
+
+        this.width = data.getInt("width", Config.WIDTH);
+        this.height = data.getInt("height", Config.HEIGHT);
+        this.finishLine = createFinishLine(this.length, this.width);
+
+        this.elapsed = data.getDouble("elapsed", 0);
+
+        JsonValue playerJson = data.get("player");
+        BoatType boatType = new Json().fromJson(BoatType.class, playerJson.getString("type"));
+        Lane lane = new Lane(playerJson.get("lane"), this.settings);
+        String name = playerJson.getString("name");
+        Vector2 pos = new Vector2(playerJson.get("pos").getFloat("x"), playerJson.get("pos").getFloat("y"));
+        Vector2 vel = new Vector2(playerJson.get("vel").getFloat("x"), playerJson.get("vel").getFloat("y"));
+        this.player = new PlayerBoat(pos, vel, boatType, lane, name, playerJson.get("data"));
+
+        List<ComputerBoat> computers = new ArrayList<ComputerBoat>();
+        JsonIterator boatIter = data.get("boats").iterator();
+        int boatNum = 1;
+        while (boatIter.hasNext()) {
+            JsonValue boatJson = boatIter.next();
+            BoatType CPUBoatType = new Json().fromJson(BoatType.class, boatJson.getString("type"));
+            Lane CPULane = new Lane(boatJson.get("lane"), this.settings);
+            String CPUName = boatJson.getString("name");
+            Vector2 boatPos = new Vector2(boatJson.get("pos").getFloat("x"), boatJson.get("pos").getFloat("y"));
+            Vector2 boatVel = new Vector2(boatJson.get("vel").getFloat("x"), boatJson.get("vel").getFloat("y"));
+            computers.add(new ComputerBoat(boatPos, boatVel, CPUBoatType, CPULane, CPUName, boatJson.get("data"), boatNum++));
+        }
+        this.boats = new ArrayList<Boat>(computers);
+        this.jobs = new LaneJobs(this.boats, this.settings.getSimulationThreads());
+        this.ai = new AiScheduler(computers, this.settings);
+
+        this.player.updateYPosition(this.finishLine.getHitBox().getHeight(), this.length);
+        this.camera = new RaceCamera();
+        this.camera.moveTo(cameraY());
+	}
+
+    /**
+     * Create the finish line, placed so that its middle is level with the back of a boat at the moment it finishes.
+     *
+     * @param raceLength The length of the race.
+     * @param width      The width of the world the finish line spans.
+     * @return The {@link FinishLine} of the race.
+     */
+    private static FinishLine createFinishLine(int raceLength, int width) {
+        int lineHeight = EntityType.FINISH.getHeight();
+        /* A boat finishes when it is a finish line's height from the end */
+        return new FinishLine(new Vector2(0, raceLength - lineHeight + Boat.START_Y - lineHeight / 2f), width);
+    }
+
+    /**
+     * The race distance at the bottom of the view, found from the player's distance travelled and where they are
+     * shown on the screen.
+     *
+     * @return A float of the distance the camera should be at.
+     */
+    private float cameraY() {
+        return this.player.getDistanceTravelled() + Boat.START_Y - this.player.getViewY();
+    }
+
+    /**
+     * Advance the race by the time passed since the last frame, simulating it in fixed steps of
+     * 1 / {@link RaceSettings#getSimulationRate()} seconds.
+     * <p>
+     * Time left over that is smaller than a step is carried to the next frame and used to interpolate where everything
+     * is drawn. If a frame takes so long that more than {@link RaceSettings#getMaxSimulationSteps()} steps are needed, the extra
+     * time is dropped so that the race slows down rather than falling further and further behind.
+     * <p>
+     * The frame time is scaled by the {@link #setTimeScale(float) time scale} first, and a fast forwarded race can run
+     * proportionally more steps each frame. However fast or slow the race is run, it runs the same steps, so the boats
+     * finish in the same times.
+     *
+     * @param frameTime The time since the last frame.
+     */
+    public void advance(float frameTime) {
+        float step = 1f / this.settings.getSimulationRate();
+        int maxSteps = this.settings.getMaxSimulationSteps();
+        if (this.timeScale == UNBOUNDED) {
+            /* Nothing waits for time to pass, every frame runs as many steps as a frame can */
+            this.accumulator = 0;
+            for (int steps = 0; steps < maxSteps && !this.finished; steps++) {
+                savePositions();
+                update(step);
+            }
+        } else {
+            this.accumulator += frameTime * this.timeScale;
+            maxSteps = (int) Math.ceil(maxSteps * Math.max(1, this.timeScale));
+            int steps = 0;
+            while (this.accumulator >= step && steps < maxSteps && !this.finished) {
+                savePositions();
+                update(step);
+                this.accumulator -= step;
+                steps++;
+            }
+            if (this.accumulator >= step) {
+                this.accumulator %= step;
+            }
+        }
+        interpolate(this.accumulator / step);
+    }
+
+    /**
+     * Set how fast the race runs compared to the time passing, which only changes how long it takes to watch.
+     *
+     * @param timeScale The number of seconds of the race to simulate each second, like 0.25 for slow motion or 8 to
+     *                  fast forward, or {@link #UNBOUNDED} to run as fast as possible.
+     */
+    public void setTimeScale(float timeScale) {
+        if (!(timeScale > 0)) {
+            throw new IllegalArgumentException("The time scale must be more than 0, not " + timeScale);
+        }
+        this.timeScale = timeScale;
+    }
+
+    /**
+     * Get how fast the race runs compared to the time passing.
+     *
+     * @return A float of the seconds of the race simulated each second, or {@link #UNBOUNDED}.
+     */
+    public float getTimeScale() {
+        return this.timeScale;
+    }
+
+    /**
+     * Remember where everything in the race is at the start of the next simulation step.
+     */
+    private void savePositions() {
+        player.savePosition();
+        player.getLane().savePositions();
+        for (Boat boat : this.boats) {
+            boat.savePosition();
+            boat.getLane().savePositions();
+        }
+        camera.savePosition();
+    }
+
+    /**
+     * Move everything in the race to part way between its previous and current position for rendering.
+     *
+     * @param alpha How far through the next simulation step the frame is, between 0 and 1.
+     */
+    private void interpolate(float alpha) {
+        player.interpolate(alpha);
+        player.getLane().interpolate(alpha);
+        for (Boat boat : this.boats) {
+            boat.interpolate(alpha);
+            boat.getLane().interpolate(alpha);
+        }
+        camera.interpolate(alpha);
+    }
+
+    /**
+     * Update the race by a single simulation step.
+     *
+     * @param deltaTime The length of the step.
+     */
+    public void update(float deltaTime) {
+        Profiler.start(ProfilerPhase.RACE);
+        try {
+            step(deltaTime);
+        } finally {
+            Profiler.stop(ProfilerPhase.RACE);
+        }
+    }
+
+    /**
+     * Move every boat for a single simulation step and give the boats their times once the player finishes.
+     * <p>
+     * The computer boats whose turn it is decide where to steer first, through the {@link AiScheduler}. Each computer
+     * boat only depends on itself and its lane, so with at least {@link RaceSettings#getParallelBoats()} of them they
+     * are updated in parallel by {@link LaneJobs}. Which boats have finished is checked afterwards in their order in
+     * the race, so the result is the same as updating them one at a time.
+     *
+     * @param deltaTime The length of the step.
+     */
+    private void step(float deltaTime) {
+        this.ticks++;
+        this.elapsed += deltaTime;
+        Profiler.start(ProfilerPhase.PLAYER);
+        player.update(deltaTime);
+        Profiler.stop(ProfilerPhase.PLAYER);
+        player.updateYPosition(this.finishLine.getHitBox().getHeight(), length);
+        camera.follow(cameraY());
+        if (player.isDead()) {
+            this.finished = true;
+            return;
+        }
+        Profiler.start(ProfilerPhase.AI);
+        this.ai.run();
+        Profiler.stop(ProfilerPhase.AI);
+        Profiler.start(ProfilerPhase.COMPUTER_BOATS);
+        if (this.jobs.isParallel() && this.boats.size() >= this.settings.getParallelBoats()) {
+            this.jobs.update(deltaTime);
+        } else {
+            for (Boat boat : this.boats) {
+                boat.update(deltaTime);
+            }
+        }
+        Profiler.stop(ProfilerPhase.COMPUTER_BOATS);
+        for (Boat boat : this.boats) {
+            if (boat.getDistanceTravelled() + this.finishLine.getHitBox().getHeight() >= this.length && boat.getTime() == 0) {
+                boat.setTime(getRaceTime());
+                boat.setTotalTime(boat.getTime());
+            }
+        }
+        if (player.getDistanceTravelled() + this.finishLine.getHitBox().getHeight() >= this.length) {
+            player.setTime(getRaceTime());
+            player.setTotalTime(player.getTime());
+            List<Float> dnfList = new ArrayList<Float>();
+            for (Boat boat : boats) {
+                if (boat.getTime() == 0) {
+                    dnfList.add(boat.getDistanceTravelled());
+                }
+            }
+            Collections.sort(dnfList);
+            Collections.reverse(dnfList);
+            for (float dist : dnfList) {
+                for (Boat boatN : boats) {
+                    if (boatN.getDistanceTravelled() == dist) {
+                        switch (dnfList.indexOf(dist) + 1) {
+                            case 1:
+                                boatN.setTime(player.getTime() + 1);
+                                break;
+                            case 2:
+                                boatN.setTime(player.getTime() + 3);
+                                break;
+                            case 3:
+                                boatN.setTime(player.getTime() + 5);
+                                break;
+                            default:
+                                boatN.setTime(player.getTime() + this.random.nextInt(6, 30));
+                        }
+
+                    }
+                }
+            }
+            finish();
+        }
+    }
+
+    /**
+     * End the race once the player has crossed the finish line, adding the player's penalties to their time.
+     */
+    private void finish() {
+        this.finished = true;
+        player.setTime(this.player.getPenaltyTime());
+    }
+
+    /**
+     * Get the simulation time the race has run for, which does not include any time it was paused or slowed down by.
+     *
+     * @return A float of the time in seconds, to the nearest hundredth of a second.
+     */
+    public float getRaceTime() {
+        return Math.round(this.elapsed * 100) / (float) 100;
+    }
+
+    /**
+     * Get the number of simulation steps the race has run.
+     *
+     * @return A long of how many steps have been simulated.
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * If the race is over, either because it was finished or the player's boat broke.
+     * <p>
+     * Once it is over every boat has its time for the leaderboard, or the player's boat has no health left.
+     *
+     * @return A boolean of if the race has ended.
+     */
+    public boolean isFinished() {
+        return this.finished;
+    }
+
+    /**
+     * Get the seed the random numbers of the race were created from.
+     *
+     * @return A long of the seed.
+     */
+    public long getSeed() {
+        return this.random.getSeed();
+    }
+
+    /**
+     * Get the rules the race is run with.
+     *
+     * @return The {@link RaceSettings} of the race.
+     */
+    public RaceSettings getSettings() {
+        return this.settings;
+    }
+
+    /**
+     * Get the players boat.
+     *
+     * @return A {@link PlayerBoat} representing the players boat.
+     */
+    public PlayerBoat getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * Get the computer controlled boats in the race.
+     *
+     * @return A list of every {@link Boat} in the race except the player.
+     */
+    public List<Boat> getBoats() {
+        return this.boats;
+    }
+
+    /**
+     * Get the width of the world the race is in.
+     *
+     * @return An int of the width split between the lanes.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Get the height of the view the race is shown in.
+     *
+     * @return An int of the height of the view.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Get the view of the race, which follows the player.
+     *
+     * @return The {@link RaceCamera} to draw the race from.
+     */
+    public RaceCamera getCamera() {
+        return this.camera;
+    }
+
+    /**
+     * Get the finish line of the race.
+     *
+     * @return The {@link FinishLine}.
+     */
+    public FinishLine getFinishLine() {
+        return this.finishLine;
+    }
+
+    // >>>> Added in assessment 2 <<<<
+    public String toJson() {
+        String[] CPUBoatJson = new String[this.boats.size()];
+        for (int i=0;i<this.boats.size();i++){
+            CPUBoatJson[i] = this.boats.get(i).toJson();
+        }
+        return String.format("{length:%d, round:%d, width:%d, height:%d, player:%s, boats:[%s], random:%s, settings:%s, elapsed:%s}", 
+            this.length,
+            this.round,
+            this.width,
+            this.height,
+            this.player.toJson(),
+            String.join(",", CPUBoatJson),
+            this.random.toJson(),
+            this.settings.toJson(),
+            Double.toString(this.elapsed)
+        );
+    }
+}
@@ -0,0 +1,80 @@
+package main.com.dragonboatrace.game.tools;
+
+/**
+ * The view of a {@link Race}, which follows the player up the course.
+ * <p>
+ * Everything in the race has its y position in race distance, and only the camera knows where the bottom of the screen
+ * is. The renderer subtracts {@link #getRenderY()} from a y position to find where to draw it, so nothing has to be
+ * scrolled by the player's speed every step.
+ */
+public class RaceCamera {
+
+    /**
+     * The race distance at the bottom of the view.
+     */
+    private float y;
+
+    /**
+     * The race distance at the bottom of the view at the start of the last simulation step.
+     */
+    private float previousY;
+
+    /**
+     * The race distance at the bottom of the view when drawing, between its previous and current position.
+     */
+    private float renderY;
+
+    /**
+     * Jump the bottom of the view straight to a race distance, without moving smoothly from where it was.
+     *
+     * @param y The race distance at the bottom of the view.
+     */
+    public void moveTo(float y) {
+        this.y = y;
+        this.previousY = y;
+        this.renderY = y;
+    }
+
+    /**
+     * Move the bottom of the view to a race distance for the current simulation step.
+     *
+     * @param y The race distance at the bottom of the view.
+     */
+    public void follow(float y) {
+        this.y = y;
+    }
+
+    /**
+     * Remember where the view is at the start of the next simulation step.
+     */
+    public void savePosition() {
+        this.previousY = this.y;
+    }
+
+    /**
+     * Move the view to part way between its previous and current position for rendering.
+     *
+     * @param alpha How far through the next simulation step the frame is, between 0 and 1.
+     */
+    public void interpolate(float alpha) {
+        this.renderY = this.previousY + (this.y - this.previousY) * alpha;
+    }
+
+    /**
+     * Get the race distance at the bottom of the view.
+     *
+     * @return A float of the distance.
+     */
+    public float getY() {
+        return this.y;
+    }
+
+    /**
+     * Get the race distance at the bottom of the view this frame.
+     *
+     * @return A float between the view's previous and current distance.
+     */
+    public float getRenderY() {
+        return this.renderY;
+    }
+}
@@ -0,0 +1,118 @@
+package main.com.dragonboatrace.game.tools;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * A seeded source of random numbers for a race.
+ * <p>
+ * A race has one seed, and every lane and boat gets its own independent stream split from it with {@link #split(long)}.
+ * Streams only depend on the seed they were split from, so the same seed always gives the same numbers to the same
+ * lane or boat no matter what order things happen in.
+ */
+public class RaceRandom extends RandomXS128 {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The seed the stream was created from, used to split off new streams.
+     */
+    private final long seed;
+
+    /**
+     * Creates a new stream of random numbers from a seed.
+     *
+     * @param seed The seed of the stream.
+     */
+    public RaceRandom(long seed) {
+        super(seed);
+        this.seed = seed;
+    }
+
+    /**
+     * Recreates a stream of random numbers from the JSON written by {@link #toJson()}.
+     *
+     * @param data The JsonValue that contains the seed and state of the stream.
+     */
+    public RaceRandom(JsonValue data) {
+        super(data.getLong("s0"), data.getLong("s1"));
+        this.seed = data.getLong("seed");
+    }
+
+    /**
+     * Create a new stream using a random seed.
+     *
+     * @return A stream that will not repeat any other.
+     */
+    public static RaceRandom unseeded() {
+        return new RaceRandom(new RandomXS128().nextLong());
+    }
+
+    /**
+     * Split off an independent stream of random numbers.
+     * <p>
+     * The new stream only depends on this stream's seed and the stream number, not on how many numbers have been used.
+     *
+     * @param stream The number of the stream to split off.
+     * @return A new stream of random numbers.
+     */
+    public RaceRandom split(long stream) {
+        return new RaceRandom(mix(this.seed + 0x9E3779B97F4A7C15L * (stream + 1)));
+    }
+
+    /**
+     * Get a random int in a range.
+     *
+     * @param origin The smallest value that can be returned.
+     * @param bound  The value above the largest value that can be returned.
+     * @return An int between origin (inclusive) and bound (exclusive).
+     */
+    public int nextInt(int origin, int bound) {
+        return origin + nextInt(bound - origin);
+    }
+
+    /**
+     * Get a random double in a range.
+     *
+     * @param origin The smallest value that can be returned.
+     * @param bound  The value above the largest value that can be returned.
+     * @return A double between origin (inclusive) and bound (exclusive).
+     */
+    public double nextDouble(double origin, double bound) {
+        return origin + nextDouble() * (bound - origin);
+    }
+
+    /**
+     * Get the seed the stream was created from.
+     *
+     * @return A long of the seed.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Scramble the bits of a seed so that nearby seeds give unrelated streams.
+     *
+     * @param z The value to scramble.
+     * @return The scrambled value.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Creates a JSON string needed to fully reconstruct the stream, including how far through it is.
+     *
+     * @return JSON String contain all values needed to reconstruct the class.
+     */
+    public String toJson() {
+        return String.format("{seed:%d, s0:%d, s1:%d}",
+            this.seed,
+            getState(0),
+            getState(1)
+        );
+    }
+}
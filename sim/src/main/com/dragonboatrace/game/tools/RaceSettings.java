@@ -0,0 +1,393 @@
+package main.com.dragonboatrace.game.tools;
+
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * The rules a single {@link Race} is run with.
+ * <p>
+ * Settings never change once created, and each race, its lanes and its boats only read the settings they were given,
+ * so any number of races with different settings can be run at once, on any threads. {@link Config} only provides the
+ * defaults, a copy with one setting changed is made with the {@code with} methods.
+ * <p>
+ * The rules of the race are saved with it. How many steps can be run in one frame, when and on how many threads the
+ * boats are updated in parallel, and how long computer boats can spend deciding each step, depend on the machine the
+ * race is run on rather than being rules of the race, so they are taken from {@link Config} again when a race is
+ * loaded.
+ */
+public final class RaceSettings {
+
+    /**
+     * The number of boats in the race, including the player.
+     */
+    private final int playerCount;
+    /**
+     * The difficulty of the race, changes the number of obstacles.
+     */
+    private final int difficulty;
+    /**
+     * Reduces the scalar that stamina gives when accelerating.
+     */
+    private final int staminaSpeedDivision;
+    /**
+     * The velocity penalty given when a collision occurs.
+     */
+    private final int obstacleCollisionPenalty;
+    /**
+     * The time a boat must wait before moving again after a collision.
+     */
+    private final float obstacleCollisionTime;
+    /**
+     * The number of times a second the race is simulated.
+     */
+    private final int simulationRate;
+    /**
+     * The most simulation steps that can be run in one frame.
+     */
+    private final int maxSimulationSteps;
+    /**
+     * The fewest computer boats the race needs before they are updated in parallel.
+     */
+    private final int parallelBoats;
+    /**
+     * The number of threads the computer boats are updated on.
+     */
+    private final int simulationThreads;
+    /**
+     * The number of times a second each computer boat decides where to steer.
+     */
+    private final int aiDecisionRate;
+    /**
+     * The most microseconds each simulation step can spend on computer boats deciding where to steer.
+     */
+    private final int aiBudgetMicros;
+    /**
+     * If computer boats decide from a table worked out ahead of time.
+     */
+    private final boolean aiPolicy;
+
+    /**
+     * Creates settings from every value.
+     *
+     * @param playerCount              The number of boats in the race, including the player.
+     * @param difficulty               The difficulty of the race.
+     * @param staminaSpeedDivision     Reduces the scalar that stamina gives when accelerating.
+     * @param obstacleCollisionPenalty The velocity penalty given when a collision occurs.
+     * @param obstacleCollisionTime    The time a boat must wait before moving again after a collision.
+     * @param simulationRate           The number of times a second the race is simulated.
+     * @param maxSimulationSteps       The most simulation steps that can be run in one frame.
+     * @param parallelBoats            The fewest computer boats that are updated in parallel.
+     * @param simulationThreads        The number of threads the computer boats are updated on.
+     * @param aiDecisionRate           The number of times a second each computer boat decides where to steer.
+     * @param aiBudgetMicros           The most microseconds each step can spend on computer boats deciding.
+     * @param aiPolicy                 If computer boats decide from a table worked out ahead of time.
+     */
+    private RaceSettings(int playerCount, int difficulty, int staminaSpeedDivision, int obstacleCollisionPenalty,
+                         float obstacleCollisionTime, int simulationRate, int maxSimulationSteps, int parallelBoats,
+                         int simulationThreads, int aiDecisionRate, int aiBudgetMicros, boolean aiPolicy) {
+        if (playerCount < 1) {
+            throw new IllegalArgumentException("A race needs at least one boat, not " + playerCount);
+        }
+        if (simulationRate < 1) {
+            throw new IllegalArgumentException("A race must be simulated at least once a second, not " + simulationRate);
+        }
+        if (simulationThreads < 1) {
+            throw new IllegalArgumentException("A race needs at least one thread, not " + simulationThreads);
+        }
+        if (aiDecisionRate < 1) {
+            throw new IllegalArgumentException("Computer boats must decide at least once a second, not " + aiDecisionRate);
+        }
+        this.playerCount = playerCount;
+        this.difficulty = difficulty;
+        this.staminaSpeedDivision = staminaSpeedDivision;
+        this.obstacleCollisionPenalty = obstacleCollisionPenalty;
+        this.obstacleCollisionTime = obstacleCollisionTime;
+        this.simulationRate = simulationRate;
+        this.maxSimulationSteps = maxSimulationSteps;
+        this.parallelBoats = parallelBoats;
+        this.simulationThreads = simulationThreads;
+        this.aiDecisionRate = aiDecisionRate;
+        this.aiBudgetMicros = aiBudgetMicros;
+        this.aiPolicy = aiPolicy;
+    }
+
+    /**
+     * Creates the settings of a saved race, any setting missing from the save is taken from some defaults.
+     *
+     * @param data     The JsonValue that contains the saved settings.
+     * @param defaults The settings to use for anything that was not saved.
+     */
+    public RaceSettings(JsonValue data, RaceSettings defaults) {
+        this(data.getInt("playerCount", defaults.playerCount),
+            data.getInt("difficulty", defaults.difficulty),
+            data.getInt("staminaSpeedDivision", defaults.staminaSpeedDivision),
+            data.getInt("obstacleCollisionPenalty", defaults.obstacleCollisionPenalty),
+            data.getFloat("obstacleCollisionTime", defaults.obstacleCollisionTime),
+            data.getInt("simulationRate", defaults.simulationRate),
+            defaults.maxSimulationSteps,
+            defaults.parallelBoats,
+            defaults.simulationThreads,
+            data.getInt("aiDecisionRate", defaults.aiDecisionRate),
+            defaults.aiBudgetMicros,
+            data.getBoolean("aiPolicy", defaults.aiPolicy));
+    }
+
+    /**
+     * Get the settings currently chosen in {@link Config}.
+     *
+     * @return The {@link RaceSettings} new races are run with by default.
+     */
+    public static RaceSettings defaults() {
+        return new RaceSettings(Config.PLAYER_COUNT, Config.GAME_DIFFICULTY, Config.STAMINA_SPEED_DIVISION,
+            Config.OBSTACLE_COLLISION_PENALTY, Config.OBSTACLE_COLLISION_TIME, Config.SIMULATION_RATE,
+            Config.MAX_SIMULATION_STEPS, Config.PARALLEL_BOATS, Config.SIMULATION_THREADS, Config.AI_DECISION_RATE,
+            Config.AI_BUDGET_MICROS, Config.AI_POLICY);
+    }
+
+    /**
+     * Copy the settings with a different number of boats.
+     *
+     * @param playerCount The number of boats in the race, including the player.
+     * @return The new {@link RaceSettings}.
+     */
+    public RaceSettings withPlayerCount(int playerCount) {
+        return new RaceSettings(playerCount, this.difficulty, this.staminaSpeedDivision,
+            this.obstacleCollisionPenalty, this.obstacleCollisionTime, this.simulationRate, this.maxSimulationSteps,
+            this.parallelBoats, this.simulationThreads, this.aiDecisionRate, this.aiBudgetMicros, this.aiPolicy);
+    }
+
+    /**
+     * Copy the settings with a different difficulty.
+     *
+     * @param difficulty The difficulty of the race.
+     * @return The new {@link RaceSettings}.
+     */
+    public RaceSettings withDifficulty(int difficulty) {
+        return new RaceSettings(this.playerCount, difficulty, this.staminaSpeedDivision,
+            this.obstacleCollisionPenalty, this.obstacleCollisionTime, this.simulationRate, this.maxSimulationSteps,
+            this.parallelBoats, this.simulationThreads, this.aiDecisionRate, this.aiBudgetMicros, this.aiPolicy);
+    }
+
+    /**
+     * Copy the settings with a different stamina speed scalar.
+     *
+     * @param staminaSpeedDivision Reduces the scalar that stamina gives when accelerating.
+     * @return The new {@link RaceSettings}.
+     */
+    public RaceSettings withStaminaSpeedDivision(int staminaSpeedDivision) {
+        return new RaceSettings(this.playerCount, this.difficulty, staminaSpeedDivision,
+            this.obstacleCollisionPenalty, this.obstacleCollisionTime, this.simulationRate, this.maxSimulationSteps,
+            this.parallelBoats, this.simulationThreads, this.aiDecisionRate, this.aiBudgetMicros, this.aiPolicy);
+    }
+
+    /**
+     * Copy the settings with different collision penalties.
+     *
+     * @param obstacleCollisionPenalty The velocity penalty given when a collision occurs.
+     * @param obstacleCollisionTime    The time a boat must wait before moving again after a collision.
+     * @return The new {@link RaceSettings}.
+     */
+    public RaceSettings withObstacleCollision(int obstacleCollisionPenalty, float obstacleCollisionTime) {
+        return new RaceSettings(this.playerCount, this.difficulty, this.staminaSpeedDivision,
+            obstacleCollisionPenalty, obstacleCollisionTime, this.simulationRate, this.maxSimulationSteps,
+            this.parallelBoats, this.simulationThreads, this.aiDecisionRate, this.aiBudgetMicros, this.aiPolicy);
+    }
+
+    /**
+     * Copy the settings with a different simulation rate.
+     *
+     * @param simulationRate     The number of times a second the race is simulated.
+     * @param maxSimulationSteps The most simulation steps that can be run in one frame.
+     * @return The new {@link RaceSettings}.
+     */
+    public RaceSettings withSimulationRate(int simulationRate, int maxSimulationSteps) {
+        return new RaceSettings(this.playerCount, this.difficulty, this.staminaSpeedDivision,
+            this.obstacleCollisionPenalty, this.obstacleCollisionTime, simulationRate, maxSimulationSteps,
+            this.parallelBoats, this.simulationThreads, this.aiDecisionRate, this.aiBudgetMicros, this.aiPolicy);
+    }
+
+    /**
+     * Copy the settings with a different number of boats needed to update them in parallel.
+     *
+     * @param parallelBoats The fewest computer boats that are updated in parallel.
+     * @return The new {@link RaceSettings}.
+     */
+    public RaceSettings withParallelBoats(int parallelBoats) {
+        return new RaceSettings(this.playerCount, this.difficulty, this.staminaSpeedDivision,
+            this.obstacleCollisionPenalty, this.obstacleCollisionTime, this.simulationRate, this.maxSimulationSteps,
+            parallelBoats, this.simulationThreads, this.aiDecisionRate, this.aiBudgetMicros, this.aiPolicy);
+    }
+
+    /**
+     * Copy the settings with computer boats updated on a different number of threads.
+     *
+     * @param simulationThreads The number of threads, 1 to update every boat on the thread running the race.
+     * @return The new {@link RaceSettings}.
+     */
+    public RaceSettings withSimulationThreads(int simulationThreads) {
+        return new RaceSettings(this.playerCount, this.difficulty, this.staminaSpeedDivision,
+            this.obstacleCollisionPenalty, this.obstacleCollisionTime, this.simulationRate, this.maxSimulationSteps,
+            this.parallelBoats, simulationThreads, this.aiDecisionRate, this.aiBudgetMicros, this.aiPolicy);
+    }
+
+    /**
+     * Copy the settings with computer boats that decide where to steer a different number of times a second.
+     *
+     * @param aiDecisionRate The number of times a second each computer boat decides where to steer.
+     * @return The new {@link RaceSettings}.
+     */
+    public RaceSettings withAiDecisionRate(int aiDecisionRate) {
+        return new RaceSettings(this.playerCount, this.difficulty, this.staminaSpeedDivision,
+            this.obstacleCollisionPenalty, this.obstacleCollisionTime, this.simulationRate, this.maxSimulationSteps,
+            this.parallelBoats, this.simulationThreads, aiDecisionRate, this.aiBudgetMicros, this.aiPolicy);
+    }
+
+    /**
+     * Copy the settings with a different limit on the time computer boats can spend deciding each step.
+     *
+     * @param aiBudgetMicros The number of microseconds per step, 0 for no limit.
+     * @return The new {@link RaceSettings}.
+     */
+    public RaceSettings withAiBudgetMicros(int aiBudgetMicros) {
+        return new RaceSettings(this.playerCount, this.difficulty, this.staminaSpeedDivision,
+            this.obstacleCollisionPenalty, this.obstacleCollisionTime, this.simulationRate, this.maxSimulationSteps,
+            this.parallelBoats, this.simulationThreads, this.aiDecisionRate, aiBudgetMicros, this.aiPolicy);
+    }
+
+    /**
+     * Copy the settings with computer boats that do or do not decide from a table worked out ahead of time.
+     *
+     * @param aiPolicy If computer boats decide from their {@link AiPolicy}.
+     * @return The new {@link RaceSettings}.
+     */
+    public RaceSettings withAiPolicy(boolean aiPolicy) {
+        return new RaceSettings(this.playerCount, this.difficulty, this.staminaSpeedDivision,
+            this.obstacleCollisionPenalty, this.obstacleCollisionTime, this.simulationRate, this.maxSimulationSteps,
+            this.parallelBoats, this.simulationThreads, this.aiDecisionRate, this.aiBudgetMicros, aiPolicy);
+    }
+
+    /**
+     * Get the number of boats in the race.
+     *
+     * @return An int of the number of boats, including the player.
+     */
+    public int getPlayerCount() {
+        return this.playerCount;
+    }
+
+    /**
+     * Get the difficulty of the race.
+     *
+     * @return An int of the difficulty, from 0 for easy.
+     */
+    public int getDifficulty() {
+        return this.difficulty;
+    }
+
+    /**
+     * Get the amount the scalar that stamina gives when accelerating is reduced by.
+     *
+     * @return An int to divide the stamina scalar by.
+     */
+    public int getStaminaSpeedDivision() {
+        return this.staminaSpeedDivision;
+    }
+
+    /**
+     * Get the velocity penalty given when a collision occurs.
+     *
+     * @return An int of the velocity a boat has after a collision.
+     */
+    public int getObstacleCollisionPenalty() {
+        return this.obstacleCollisionPenalty;
+    }
+
+    /**
+     * Get the time a boat must wait before moving again after a collision.
+     *
+     * @return A float of the time in seconds.
+     */
+    public float getObstacleCollisionTime() {
+        return this.obstacleCollisionTime;
+    }
+
+    /**
+     * Get the number of times a second the race is simulated.
+     *
+     * @return An int of the number of simulation steps per second.
+     */
+    public int getSimulationRate() {
+        return this.simulationRate;
+    }
+
+    /**
+     * Get the most simulation steps that can be run in one frame.
+     *
+     * @return An int of the maximum number of steps per frame.
+     */
+    public int getMaxSimulationSteps() {
+        return this.maxSimulationSteps;
+    }
+
+    /**
+     * Get the fewest computer boats the race needs before they are updated in parallel.
+     *
+     * @return An int of the number of computer boats.
+     */
+    public int getParallelBoats() {
+        return this.parallelBoats;
+    }
+
+    /**
+     * Get the number of threads the computer boats are updated on.
+     *
+     * @return An int of the number of threads, 1 if every boat is updated on the thread running the race.
+     */
+    public int getSimulationThreads() {
+        return this.simulationThreads;
+    }
+
+    /**
+     * Get the number of times a second each computer boat decides where to steer.
+     *
+     * @return An int of the number of decisions per second.
+     */
+    public int getAiDecisionRate() {
+        return this.aiDecisionRate;
+    }
+
+    /**
+     * Get the most time each simulation step can spend on computer boats deciding where to steer.
+     *
+     * @return An int of the number of microseconds per step, 0 for no limit.
+     */
+    public int getAiBudgetMicros() {
+        return this.aiBudgetMicros;
+    }
+
+    /**
+     * Get if computer boats decide from a table worked out ahead of time.
+     *
+     * @return True if computer boats use their {@link AiPolicy}.
+     */
+    public boolean isAiPolicy() {
+        return this.aiPolicy;
+    }
+
+    /**
+     * Creates a JSON string of the rules of the race.
+     *
+     * @return JSON String contain all values needed to reconstruct the settings.
+     */
+    public String toJson() {
+        return String.format("{playerCount:%d, difficulty:%d, staminaSpeedDivision:%d, obstacleCollisionPenalty:%d, obstacleCollisionTime:%s, simulationRate:%d, aiDecisionRate:%d, aiPolicy:%b}",
+            this.playerCount,
+            this.difficulty,
+            this.staminaSpeedDivision,
+            this.obstacleCollisionPenalty,
+            Float.toString(this.obstacleCollisionTime),
+            this.simulationRate,
+            this.aiDecisionRate,
+            this.aiPolicy
+        );
+    }
+}
@@ -0,0 +1,254 @@
+package main.com.dragonboatrace.game.tools;
+
+import com.badlogic.gdx.utils.FloatArray;
+
+import java.util.Arrays;
+
+/**
+ * The times at which a lane adds its next obstacles and power ups, kept in a hierarchical timing wheel.
+ * <p>
+ * Time is counted from when the wheel was created in ticks of {@link #TICKS_PER_SECOND}. Each level of the wheel has
+ * {@link #SLOTS} slots, the first level holding the spawns due in the next {@link #SLOTS} ticks with one tick per slot,
+ * and each level above covering {@link #SLOTS} times as long per slot. Adding a spawn puts it straight into the slot
+ * of the tick it is due in, and moving time on only looks at the slots of the ticks passed, so both cost the same
+ * however many spawns are waiting. When the first level wraps around, the next slot of the level above is spread out
+ * into it.
+ * <p>
+ * Spawns live in parallel arrays linked into lists by slot, with removed ones kept on a free list, so nothing is
+ * allocated once the arrays are big enough.
+ */
+public class SpawnWheel {
+
+    /**
+     * The number of ticks in a second of simulation time.
+     */
+    public static final int TICKS_PER_SECOND = 64;
+
+    /**
+     * The number of bits of a tick used to pick the slot on each level.
+     */
+    private static final int SLOT_BITS = 6;
+
+    /**
+     * The number of slots on each level.
+     */
+    public static final int SLOTS = 1 << SLOT_BITS;
+
+    /**
+     * The number of levels, together they cover 3 days of ticks, anything further away waits in the last slot.
+     */
+    private static final int LEVELS = 4;
+
+    /**
+     * The number of spawns to make room for to start with.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Used to mark the end of a list.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * The first spawn in each slot of each level, the slots of the first level first.
+     */
+    private final int[] heads;
+
+    /**
+     * The simulation time each spawn is due at, in seconds.
+     */
+    private double[] due;
+
+    /**
+     * The next spawn in the same slot as each spawn.
+     */
+    private int[] next;
+
+    /**
+     * The first spawn on the free list.
+     */
+    private int free;
+
+    /**
+     * The number of spawns that have ever been used.
+     */
+    private int used;
+
+    /**
+     * The number of spawns waiting.
+     */
+    private int size;
+
+    /**
+     * The simulation time in seconds.
+     */
+    private double now;
+
+    /**
+     * The tick the simulation time is in.
+     */
+    private long tick;
+
+    /**
+     * Creates a new empty wheel at the start of the simulation.
+     */
+    public SpawnWheel() {
+        this.heads = new int[LEVELS * SLOTS];
+        Arrays.fill(this.heads, NONE);
+        this.due = new double[INITIAL_CAPACITY];
+        this.next = new int[INITIAL_CAPACITY];
+        this.free = NONE;
+        this.used = 0;
+        this.size = 0;
+        this.now = 0;
+        this.tick = 0;
+    }
+
+    /**
+     * Add a spawn due after a wait.
+     *
+     * @param wait The number of seconds from now that the spawn is due.
+     */
+    public void schedule(float wait) {
+        int spawn;
+        if (this.free != NONE) {
+            spawn = this.free;
+            this.free = this.next[spawn];
+        } else {
+            if (this.used == this.due.length) {
+                this.due = Arrays.copyOf(this.due, this.used * 2);
+                this.next = Arrays.copyOf(this.next, this.used * 2);
+            }
+            spawn = this.used++;
+        }
+        this.due[spawn] = this.now + wait;
+        this.size++;
+        insert(spawn);
+    }
+
+    /**
+     * Move the simulation time on and count the spawns that have become due, removing them from the wheel.
+     *
+     * @param deltaTime The number of seconds to move on by.
+     * @return An int of how many spawns became due.
+     */
+    public int advance(float deltaTime) {
+        this.now += deltaTime;
+        long target = tickOf(this.now);
+        /* Spawns in the current tick that were not yet due last time */
+        int expired = expire();
+        while (this.tick < target) {
+            this.tick++;
+            if ((this.tick & (SLOTS - 1)) == 0) {
+                cascade();
+            }
+            expired += expire();
+        }
+        return expired;
+    }
+
+    /**
+     * Remove the spawns in the slot of the current tick that are due.
+     *
+     * @return An int of how many were due.
+     */
+    private int expire() {
+        int slot = (int) (this.tick & (SLOTS - 1));
+        int spawn = this.heads[slot];
+        int kept = NONE;
+        int expired = 0;
+        while (spawn != NONE) {
+            int following = this.next[spawn];
+            if (this.due[spawn] <= this.now) {
+                this.next[spawn] = this.free;
+                this.free = spawn;
+                expired++;
+            } else {
+                this.next[spawn] = kept;
+                kept = spawn;
+            }
+            spawn = following;
+        }
+        this.heads[slot] = kept;
+        this.size -= expired;
+        return expired;
+    }
+
+    /**
+     * Spread the next slot of each level above out into the levels below, moving up a level each time a level wraps
+     * around too.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int index = (int) ((this.tick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+            int slot = level * SLOTS + index;
+            int spawn = this.heads[slot];
+            this.heads[slot] = NONE;
+            while (spawn != NONE) {
+                int following = this.next[spawn];
+                insert(spawn);
+                spawn = following;
+            }
+            if (index != 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Link a spawn into the slot of the tick it is due in, on the lowest level that reaches that far.
+     *
+     * @param spawn The spawn to link.
+     */
+    private void insert(int spawn) {
+        long dueTick = Math.max(tickOf(this.due[spawn]), this.tick);
+        long ahead = dueTick - this.tick;
+        int level = 0;
+        while (level < LEVELS - 1 && ahead >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        if (ahead >= 1L << (SLOT_BITS * LEVELS)) {
+            /* Too far away for the wheel, it waits as far ahead as possible and is put back when it comes round */
+            dueTick = this.tick + (1L << (SLOT_BITS * LEVELS)) - 1;
+        }
+        int slot = level * SLOTS + (int) ((dueTick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+        this.next[spawn] = this.heads[slot];
+        this.heads[slot] = spawn;
+    }
+
+    /**
+     * Get the tick a time is in.
+     *
+     * @param time The simulation time in seconds.
+     * @return A long of the tick.
+     */
+    private static long tickOf(double time) {
+        return (long) Math.floor(time * TICKS_PER_SECOND);
+    }
+
+    /**
+     * Get the number of spawns waiting.
+     *
+     * @return An int of how many spawns have not become due.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Add the time left until each waiting spawn is due to an array, soonest first.
+     * <p>
+     * Scheduling the same waits on a new wheel gives back the same times, so a saved lane loads as it was.
+     *
+     * @param waits The array to add the times to, in seconds.
+     */
+    public void waits(FloatArray waits) {
+        int start = waits.size;
+        for (int slot = 0; slot < this.heads.length; slot++) {
+            for (int spawn = this.heads[slot]; spawn != NONE; spawn = this.next[spawn]) {
+                waits.add((float) (this.due[spawn] - this.now));
+            }
+        }
+        Arrays.sort(waits.items, start, waits.size);
+    }
+}
@@ -0,0 +1,112 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.math.Vector2;
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.entities.boats.ComputerBoat;
+import main.com.dragonboatrace.game.tools.AiPolicy;
+import main.com.dragonboatrace.game.tools.Lane;
+import main.com.dragonboatrace.game.tools.RaceRandom;
+import main.com.dragonboatrace.game.tools.RaceSettings;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class AiPolicyTest {
+
+    /**
+     * A normal race that uses the tables, with so many boats that the lanes start with nothing due to appear in them.
+     */
+    private static final RaceSettings EMPTY = RaceSettings.defaults().withDifficulty(1).withPlayerCount(100).withAiPolicy(true);
+
+    /**
+     * The table every test uses, solved once as there are no generated tables on the test classpath.
+     */
+    private static final AiPolicy POLICY = AiPolicy.forBoat(BoatType.AGILE, 1);
+
+    /**
+     * The state of a boat with full health, no boost and no power up ahead.
+     */
+    private static int state(int obstacle, int lane, int stamina) {
+        return AiPolicy.state(obstacle, lane, AiPolicy.NO_POWER_UP, stamina, AiPolicy.HEALTH_BUCKETS - 1, 0);
+    }
+
+    private static byte[] write(AiPolicy policy) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        policy.write(bytes);
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void WRITES_AND_READS_BACK() throws IOException {
+        byte[] bytes = write(POLICY);
+        /* Two actions to a byte, after the header */
+        assertTrue(bytes.length < AiPolicy.STATES / 2 + 32);
+        AiPolicy read = AiPolicy.read(new ByteArrayInputStream(bytes));
+        assertEquals(BoatType.AGILE, read.getBoat());
+        assertEquals(1, read.getDifficulty());
+        for (int state = 0; state < AiPolicy.STATES; state++) {
+            assertEquals(POLICY.action(state), read.action(state));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void OUT_OF_DATE_TABLE_REJECTED() throws IOException {
+        byte[] bytes = write(POLICY);
+        /* The version follows the four bytes of the file's marker */
+        bytes[7]++;
+        AiPolicy.read(new ByteArrayInputStream(bytes));
+    }
+
+    @Test
+    public void LOADED_ONCE() {
+        assertSame(POLICY, AiPolicy.forBoat(BoatType.AGILE, 1));
+    }
+
+    @Test
+    public void DODGES_OBSTACLE_AHEAD() {
+        int ahead = 2 * AiPolicy.OBSTACLE_COLUMNS + AiPolicy.OBSTACLE_COLUMNS / 2;
+        int middle = AiPolicy.LANE_BUCKETS / 2;
+        assertNotEquals(0, AiPolicy.direction(POLICY.action(state(ahead, middle, AiPolicy.STAMINA_BUCKETS - 1))));
+        /* Racing straight on when there is nothing to dodge */
+        assertEquals(0, AiPolicy.direction(POLICY.action(state(AiPolicy.NO_OBSTACLE, middle, AiPolicy.STAMINA_BUCKETS - 1))));
+    }
+
+    @Test
+    public void STAYS_IN_LANE() {
+        for (int stamina = 0; stamina < AiPolicy.STAMINA_BUCKETS; stamina++) {
+            assertNotEquals(-1, AiPolicy.direction(POLICY.action(state(AiPolicy.NO_OBSTACLE, 0, stamina))));
+            assertNotEquals(1, AiPolicy.direction(POLICY.action(state(AiPolicy.NO_OBSTACLE, AiPolicy.LANE_BUCKETS - 1, stamina))));
+        }
+    }
+
+    @Test
+    public void SPRINTS_ONLY_WITH_STAMINA() {
+        int middle = AiPolicy.LANE_BUCKETS / 2;
+        assertTrue(AiPolicy.sprints(POLICY.action(state(AiPolicy.NO_OBSTACLE, middle, AiPolicy.STAMINA_BUCKETS - 1))));
+        assertFalse(AiPolicy.sprints(POLICY.action(state(AiPolicy.NO_OBSTACLE, middle, 0))));
+    }
+
+    @Test
+    public void BOAT_STEERS_AROUND_ROCK() {
+        Lane lane = new Lane(new Vector2(0, 0), 240, 1080, 1, new RaceRandom(1), EMPTY);
+        ComputerBoat boat = new ComputerBoat(BoatType.AGILE, lane, "policy", 1);
+        float rockY = boat.getHitBox().getY() + 300;
+        lane.getObstacles().add(ObstacleType.ROCK, boat.getHitBox().getX() + 5, rockY);
+        float health = boat.getHealth();
+        for (int step = 0; step < 2 * 120; step++) {
+            if (step % 8 == 0) {
+                boat.decide();
+            }
+            boat.update(1f / 120);
+        }
+        assertTrue(boat.getHitBox().getY() > rockY + 40);
+        assertEquals(health, boat.getHealth(), 0);
+        assertEquals(0, boat.getPenaltyTime(), 0);
+    }
+}
@@ -0,0 +1,107 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.math.Vector2;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.entities.boats.ComputerBoat;
+import main.com.dragonboatrace.game.tools.AiScheduler;
+import main.com.dragonboatrace.game.tools.Lane;
+import main.com.dragonboatrace.game.tools.RaceRandom;
+import main.com.dragonboatrace.game.tools.RaceSettings;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AiSchedulerTest {
+
+    /**
+     * Decide 15 times a second in a race simulated 120 times a second, so each boat decides every 8 steps.
+     */
+    private static final RaceSettings SETTINGS = RaceSettings.defaults().withSimulationRate(120, 8).withAiDecisionRate(15);
+
+    /**
+     * A computer boat that counts its decisions and can be made to take a while over them.
+     */
+    private static class CountingBoat extends ComputerBoat {
+        private final long decideNanos;
+        private int decisions;
+
+        private CountingBoat(int seed, long decideNanos) {
+            super(BoatType.AGILE, new Lane(new Vector2(0, 0), 240, 1080, 1, new RaceRandom(seed)), "COMP" + seed, 1);
+            this.decideNanos = decideNanos;
+        }
+
+        @Override
+        public void decide() {
+            long end = System.nanoTime() + this.decideNanos;
+            while (System.nanoTime() < end) {
+                Thread.yield();
+            }
+            this.decisions++;
+            super.decide();
+        }
+    }
+
+    private static List<ComputerBoat> boats(int count, long decideNanos) {
+        List<ComputerBoat> boats = new ArrayList<ComputerBoat>();
+        for (int i = 0; i < count; i++) {
+            boats.add(new CountingBoat(i, decideNanos));
+        }
+        return boats;
+    }
+
+    @Test
+    public void EVERY_BOAT_DECIDES_FIRST() {
+        AiScheduler ai = new AiScheduler(boats(32, 0), SETTINGS);
+        assertEquals(32, ai.run());
+    }
+
+    @Test
+    public void TURNS_SPREAD_EVENLY() {
+        List<ComputerBoat> boats = boats(32, 0);
+        AiScheduler ai = new AiScheduler(boats, SETTINGS);
+        ai.run();
+        for (int step = 0; step < 120; step++) {
+            assertEquals(4, ai.run());
+        }
+        /* A second of steps is 15 decisions for every boat */
+        for (ComputerBoat boat : boats) {
+            assertEquals(16, ((CountingBoat) boat).decisions);
+        }
+    }
+
+    @Test
+    public void FEWER_BOATS_THAN_STEPS() {
+        List<ComputerBoat> boats = boats(7, 0);
+        AiScheduler ai = new AiScheduler(boats, SETTINGS);
+        ai.run();
+        int decided = 0;
+        for (int step = 0; step < 8; step++) {
+            int now = ai.run();
+            assertTrue(now <= 1);
+            decided += now;
+        }
+        assertEquals(7, decided);
+        for (ComputerBoat boat : boats) {
+            assertEquals(2, ((CountingBoat) boat).decisions);
+        }
+    }
+
+    @Test
+    public void BUDGET_DEFERS_DECISIONS() {
+        List<ComputerBoat> boats = boats(16, 200000);
+        AiScheduler ai = new AiScheduler(boats, SETTINGS.withAiBudgetMicros(50));
+        /* Every decision takes longer than the budget, but one is still made each step */
+        for (int step = 0; step < 16; step++) {
+            assertEquals(1, ai.run());
+        }
+        /* No boat is left waiting forever */
+        for (ComputerBoat boat : boats) {
+            assertTrue(((CountingBoat) boat).decisions >= 1);
+        }
+        assertTrue(ai.getWaiting() > 0);
+    }
+}
@@ -0,0 +1,46 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.Race;
+
+import org.junit.Test;
+
+public class FixedTimestepTest {
+
+    @Test
+    public void SAME_STEPS_AT_ANY_FRAME_RATE() {
+        int[] frameRates = {30, 60, 144, 1000};
+        for (int frameRate : frameRates) {
+            Race r = new Race(100000, BoatType.AGILE, 1);
+            for (int i = 0; i < frameRate * 2; i++) {
+                r.advance(1f / frameRate);
+            }
+            assertEquals(2 * Config.SIMULATION_RATE, r.getTicks(), 1);
+        }
+    }
+
+    @Test
+    public void LONG_FRAME_CAPPED() {
+        Race r = new Race(100000, BoatType.AGILE, 1);
+        r.advance(5);
+        assertEquals(Config.MAX_SIMULATION_STEPS, r.getTicks());
+        /* The dropped time is not caught up on later */
+        r.advance(0);
+        assertEquals(Config.MAX_SIMULATION_STEPS, r.getTicks());
+    }
+
+    @Test
+    public void SHORT_FRAMES_ACCUMULATE() {
+        Race r = new Race(100000, BoatType.AGILE, 1);
+        float quarterStep = 0.25f / Config.SIMULATION_RATE;
+        for (int i = 0; i < 3; i++) {
+            r.advance(quarterStep);
+        }
+        assertEquals(0, r.getTicks());
+        r.advance(quarterStep * 1.5f);
+        assertEquals(1, r.getTicks());
+    }
+}
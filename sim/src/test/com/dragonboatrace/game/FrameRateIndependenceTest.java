@@ -0,0 +1,115 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.math.Vector2;
+import main.com.dragonboatrace.game.entities.boats.Boat;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.entities.boats.PlayerBoat;
+import main.com.dragonboatrace.game.tools.Lane;
+import main.com.dragonboatrace.game.tools.RaceRandom;
+
+import org.junit.Test;
+
+public class FrameRateIndependenceTest {
+
+    /**
+     * The rates the boats are updated at, the last is the most accurate.
+     */
+    private static final int[] RATES = {30, 60, 144, 1000};
+
+    /**
+     * Create a lane so wide and tall that nothing in it comes near the boat.
+     *
+     * @return The new lane.
+     */
+    private static Lane openWater() {
+        return new Lane(new Vector2(0, 0), 4000, 100000, 1, new RaceRandom(1));
+    }
+
+    @Test
+    public void GLIDE_SAME_AT_ANY_RATE() {
+        float[] moved = new float[RATES.length];
+        for (int r = 0; r < RATES.length; r++) {
+            Boat boat = new Boat(BoatType.FAST, openWater(), "glider");
+            float start = boat.getHitBox().getX();
+            boat.addVelocity(300, 0);
+            for (int i = 0; i < RATES[r]; i++) {
+                boat.update(1f / RATES[r]);
+            }
+            moved[r] = boat.getHitBox().getX() - start;
+        }
+        for (int r = 0; r < RATES.length; r++) {
+            assertEquals(moved[RATES.length - 1], moved[r], moved[RATES.length - 1] * 0.005f);
+        }
+    }
+
+    @Test
+    public void STEERING_SAME_AT_ANY_RATE() {
+        float[] moved = new float[RATES.length];
+        float[] travelled = new float[RATES.length];
+        for (int r = 0; r < RATES.length; r++) {
+            PlayerBoat boat = new PlayerBoat(BoatType.AGILE, openWater(), "steerer");
+            float start = boat.getHitBox().getX();
+            /* Steer right for half a second, then let go */
+            boat.setControls(false, true, false);
+            for (int i = 0; i < RATES[r]; i++) {
+                if (i == RATES[r] / 2) {
+                    boat.setControls(false, false, false);
+                }
+                boat.update(1f / RATES[r]);
+            }
+            moved[r] = boat.getHitBox().getX() - start;
+            travelled[r] = boat.getDistanceTravelled();
+        }
+        for (int r = 0; r < RATES.length; r++) {
+            assertEquals(moved[RATES.length - 1], moved[r], moved[RATES.length - 1] * 0.005f);
+            assertEquals(travelled[RATES.length - 1], travelled[r], 0.5f);
+        }
+    }
+
+    @Test
+    public void OUT_OF_LANE_PENALTY_PER_SECOND() {
+        for (int rate : RATES) {
+            Boat boat = new Boat(BoatType.AGILE, new Lane(new Vector2(123, 456), 1, 2, 3), "testBoat");
+            for (int i = 0; i < 2 * rate; i++) {
+                boat.update(1f / rate);
+            }
+            assertEquals(2 * Boat.OUT_OF_LANE_PENALTY, boat.getPenaltyTime(), 0.05f);
+        }
+    }
+
+    @Test
+    public void STAMINA_REGAINED_SAME_AT_ANY_RATE() {
+        float[] stamina = new float[RATES.length];
+        for (int r = 0; r < RATES.length; r++) {
+            PlayerBoat boat = new PlayerBoat(BoatType.ENDURANCE, openWater(), "rester");
+            boat.setStamina(10);
+            for (int i = 0; i < RATES[r]; i++) {
+                boat.update(1f / RATES[r]);
+            }
+            stamina[r] = boat.getStamina();
+        }
+        for (int r = 0; r < RATES.length; r++) {
+            assertEquals(stamina[RATES.length - 1], stamina[r], stamina[RATES.length - 1] * 0.01f);
+        }
+    }
+
+    @Test
+    public void BOOST_LASTS_SAME_AT_ANY_RATE() {
+        for (int rate : RATES) {
+            Boat boat = new Boat(BoatType.AGILE, openWater(), "booster");
+            /* 100 frames at the tuned rate is a little over 1.66 seconds */
+            boat.addBoost(100);
+            int step = 0;
+            for (; step < rate * 1.6f; step++) {
+                boat.update(1f / rate);
+            }
+            assertTrue(boat.getBoost() > 0);
+            for (; step < rate * 1.7f; step++) {
+                boat.update(1f / rate);
+            }
+            assertEquals(0, boat.getBoost(), 0);
+        }
+    }
+}
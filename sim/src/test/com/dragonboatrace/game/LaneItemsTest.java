@@ -0,0 +1,106 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+
+import main.com.dragonboatrace.game.entities.EntityType;
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.tools.LaneItems;
+
+import org.junit.Test;
+
+public class LaneItemsTest {
+
+    private static LaneItems<ObstacleType> itemsAt(float... ys) {
+        LaneItems<ObstacleType> items = new LaneItems<ObstacleType>(ObstacleType.values(), EntityType.OBSTACLE);
+        for (float y : ys) {
+            items.add(ObstacleType.BRANCH, 0, y);
+        }
+        return items;
+    }
+
+    private static void assertOrdered(LaneItems<ObstacleType> items) {
+        for (int i = 1; i < items.size(); i++) {
+            assertTrue(items.getY(items.slot(i - 1)) <= items.getY(items.slot(i)));
+        }
+    }
+
+    @Test
+    public void ADD_KEEPS_ORDER() {
+        LaneItems<ObstacleType> items = itemsAt(500, 100, 900, 300, 700);
+        assertOrdered(items);
+        assertEquals(100, items.getY(items.slot(0)), 0);
+        assertEquals(900, items.getY(items.slot(4)), 0);
+    }
+
+    @Test
+    public void UPDATE_KEEPS_ORDER_WHEN_OVERTAKING() {
+        LaneItems<ObstacleType> items = itemsAt(100, 200, 300);
+        /* A leaf is 15 faster than a branch, so after 25 seconds it has overtaken every item below it */
+        items.add(ObstacleType.LEAF, 0, 400);
+        for (int i = 0; i < 25 * 60; i++) {
+            items.update(1f / 60);
+            assertOrdered(items);
+        }
+        assertEquals(ObstacleType.LEAF, items.getType(items.slot(0)));
+    }
+
+    @Test
+    public void UPDATE_ONLY_DRIFTS() {
+        LaneItems<ObstacleType> items = itemsAt(500);
+        items.update(1);
+        assertEquals(500 - ObstacleType.BRANCH.getSpeed(), items.getY(items.slot(0)), 0.001);
+    }
+
+    @Test
+    public void RANGE_QUERY_FINDS_OVERLAPPING_ITEMS() {
+        LaneItems<ObstacleType> items = itemsAt(0, 100, 200, 300, 400);
+        /* The item at 200 reaches up to 240, so the first item reaching above 250 starts at 300 */
+        assertEquals(300, items.getY(items.slot(items.firstOverlapping(250))), 0);
+        assertEquals(200, items.getY(items.slot(items.firstOverlapping(230))), 0);
+        assertEquals(items.size(), items.firstOverlapping(1000));
+    }
+
+    @Test
+    public void NEAREST_AHEAD() {
+        LaneItems<ObstacleType> items = itemsAt(0, 100, 200);
+        assertEquals(100, items.getY(items.nearestAhead(50)), 0);
+        assertEquals(0, items.getY(items.nearestAhead(-100)), 0);
+        assertEquals(-1, items.nearestAhead(240));
+    }
+
+    @Test
+    public void REMOVED_SLOTS_ARE_REUSED() {
+        LaneItems<ObstacleType> items = itemsAt(100, 200, 300);
+        int removed = items.slot(1);
+        items.removeAt(1);
+        assertFalse(items.isAlive(removed));
+        assertEquals(2, items.size());
+        int added = items.add(ObstacleType.ROCK, 0, 50);
+        assertEquals(removed, added);
+        assertTrue(items.isAlive(added));
+        assertEquals(added, items.slot(0));
+        assertOrdered(items);
+    }
+
+    @Test
+    public void CLEAR_REMOVES_EVERYTHING() {
+        LaneItems<ObstacleType> items = itemsAt(100, 200, 300);
+        int slot = items.slot(0);
+        items.clear();
+        assertTrue(items.isEmpty());
+        assertFalse(items.isAlive(slot));
+        items.add(ObstacleType.ROCK, 0, 10);
+        assertEquals(1, items.size());
+        assertEquals(ObstacleType.ROCK, items.getType(items.slot(0)));
+    }
+
+    @Test
+    public void GROWS_PAST_INITIAL_CAPACITY() {
+        LaneItems<ObstacleType> items = itemsAt();
+        for (int i = 100; i > 0; i--) {
+            items.add(ObstacleType.BRANCH, 0, i);
+        }
+        assertEquals(100, items.size());
+        assertOrdered(items);
+    }
+}
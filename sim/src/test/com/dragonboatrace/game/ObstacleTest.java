@@ -7,7 +7,6 @@ import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 
-import main.com.dragonboatrace.game.entities.Obstacle;
 import main.com.dragonboatrace.game.entities.ObstacleType;
 import main.com.dragonboatrace.game.entities.boats.Boat;
 import main.com.dragonboatrace.game.entities.boats.BoatType;
@@ -15,25 +14,23 @@ import main.com.dragonboatrace.game.tools.Lane;
 import main.com.dragonboatrace.game.tools.Tuple;
 
 import org.junit.Test;
-import org.junit.runner.RunWith;
 
-@RunWith (GdxTestRunner.class)
 public class ObstacleTest {
     @Test
     public void OBSTACLE_COLLISION() {
-        Boat b = new Boat(BoatType.AGILE, new Lane(new Vector2(123, 456), 1, 2, 3, false), "testBoat", false);
+        Boat b = new Boat(BoatType.AGILE, new Lane(new Vector2(123, 456), 1, 2, 3), "testBoat");
         float x = b.getHitBox().getX();
         float y = b.getHitBox().getY();
-        b.getLane().getObstacles().add(new Obstacle(ObstacleType.BRANCH, new Vector2(x, y), false));
+        b.getLane().getObstacles().add(ObstacleType.BRANCH, x, y);
         assertTrue(b.checkObstacleCollisions());
     }
 
     @Test
     public void OBSTACLE_COLLISION_REDUCE_HEALTH() {
-        Boat b = new Boat(BoatType.AGILE, new Lane(new Vector2(123, 456), 1, 2, 3, false), "testBoat", false);
+        Boat b = new Boat(BoatType.AGILE, new Lane(new Vector2(123, 456), 1, 2, 3), "testBoat");
         float x = b.getHitBox().getX();
         float y = b.getHitBox().getY();
-        b.getLane().getObstacles().add(new Obstacle(ObstacleType.BRANCH, new Vector2(x, y), false));
+        b.getLane().getObstacles().add(ObstacleType.BRANCH, x, y);
         float startHealth = b.getHealth();
         b.checkObstacleCollisions();
         assertTrue(startHealth != b.getHealth());
@@ -41,10 +38,10 @@ public class ObstacleTest {
 
     @Test
     public void OBSTACLE_COLLISION_REMOVE_ON_COLLISION() {
-        Boat b = new Boat(BoatType.AGILE, new Lane(new Vector2(123, 456), 1, 2, 3, false), "testBoat", false);
+        Boat b = new Boat(BoatType.AGILE, new Lane(new Vector2(123, 456), 1, 2, 3), "testBoat");
         float x = b.getHitBox().getX();
         float y = b.getHitBox().getY();
-        b.getLane().getObstacles().add(new Obstacle(ObstacleType.BRANCH, new Vector2(x, y), false));
+        b.getLane().getObstacles().add(ObstacleType.BRANCH, x, y);
         float startHealth = b.getHealth();
         b.checkObstacleCollisions();
         assertTrue(b.getLane().getObstacles().size() == 0);
@@ -52,12 +49,12 @@ public class ObstacleTest {
 
     @Test
     public void OBSTACLE_DAMAGE() {
-        Boat b = new Boat(BoatType.AGILE, new Lane(new Vector2(123, 456), 1, 2, 3, false), "testBoat", false);
+        Boat b = new Boat(BoatType.AGILE, new Lane(new Vector2(123, 456), 1, 2, 3), "testBoat");
         float x = b.getHitBox().getX();
         float y = b.getHitBox().getY();
         for (ObstacleType type : ObstacleType.values()) {
             float reduction = type.getDamage();
-            b.getLane().getObstacles().add(new Obstacle(type, new Vector2(x, y), false));
+            b.getLane().getObstacles().add(type, x, y);
             float startHealth = b.getHealth();
             b.checkObstacleCollisions();
             assertTrue(b.getHealth() == startHealth - reduction);
@@ -0,0 +1,113 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.math.Vector2;
+import main.com.dragonboatrace.game.entities.EntityType;
+import main.com.dragonboatrace.game.entities.ObstacleType;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.entities.boats.ComputerBoat;
+import main.com.dragonboatrace.game.tools.Lane;
+import main.com.dragonboatrace.game.tools.PathPlanner;
+import main.com.dragonboatrace.game.tools.RaceRandom;
+import main.com.dragonboatrace.game.tools.RaceSettings;
+
+import org.junit.Test;
+
+public class PathPlannerTest {
+
+    /**
+     * A hard race, with so many boats that the lanes start with nothing due to appear in them.
+     */
+    private static final RaceSettings EMPTY = RaceSettings.defaults().withDifficulty(ComputerBoat.PLANNING_DIFFICULTY).withPlayerCount(100);
+
+    /**
+     * A hard race with four boats, so the lanes are busy.
+     */
+    private static final RaceSettings BUSY = RaceSettings.defaults().withDifficulty(ComputerBoat.PLANNING_DIFFICULTY).withPlayerCount(4);
+
+    private static Lane lane(int seed, RaceSettings settings) {
+        return new Lane(new Vector2(0, 0), 240, 1080, 1, new RaceRandom(seed), settings);
+    }
+
+    @Test
+    public void STEERS_THROUGH_A_GAP() {
+        Lane lane = lane(1, EMPTY);
+        ComputerBoat boat = new ComputerBoat(BoatType.AGILE, lane, "planner", 1);
+        /* A wall of rocks in front of the boat, with a gap on the right */
+        float wallY = boat.getHitBox().getY() + 400;
+        for (int x = 0; x < 160; x += 40) {
+            lane.getObstacles().add(ObstacleType.ROCK, x, wallY);
+        }
+        float health = boat.getHealth();
+        for (int step = 0; step < 3 * 120; step++) {
+            if (step % 8 == 0) {
+                boat.decide();
+            }
+            boat.update(1f / 120);
+        }
+        assertTrue(boat.getHitBox().getY() > wallY + 40);
+        assertEquals(health, boat.getHealth(), 0);
+    }
+
+    @Test
+    public void PATH_STAYS_IN_LANE() {
+        Lane lane = lane(7, BUSY);
+        ComputerBoat boat = new ComputerBoat(BoatType.AGILE, lane, "planner", 1);
+        PathPlanner planner = new PathPlanner(lane, EntityType.BOAT.getWidth(), EntityType.BOAT.getHeight());
+        double time = 0;
+        for (int step = 0; step < 20 * 120; step++, time += 1f / 120) {
+            if (step % 8 == 0) {
+                boat.decide();
+                planner.plan(time, boat.getHitBox().getX(), boat.getHitBox().getY(), boat.getVelocity().y, boat.getSpeed());
+                for (int ahead = 0; ahead < 60; ahead++) {
+                    float x = planner.getX(time + ahead / 60.0);
+                    assertTrue(x >= -0.01f);
+                    assertTrue(x + EntityType.BOAT.getWidth() <= 240.01f);
+                }
+            }
+            boat.update(1f / 120);
+        }
+    }
+
+    @Test
+    public void CARRIES_ON_PLAN() {
+        Lane lane = lane(1, EMPTY);
+        PathPlanner planner = new PathPlanner(lane, EntityType.BOAT.getWidth(), EntityType.BOAT.getHeight());
+        planner.plan(0, 95, 100, 300, 250);
+        /* Following the path at the speed it was planned for never needs it planning from scratch */
+        for (int decision = 1; decision <= 15; decision++) {
+            double time = decision / 15.0;
+            planner.plan(time, planner.getX(time), (float) (100 + 300 * time), 300, 250);
+        }
+        assertEquals(1, planner.getReplans());
+    }
+
+    @Test
+    public void PLANS_AGAIN_WHEN_KNOCKED_OFF_PATH() {
+        Lane lane = lane(1, EMPTY);
+        PathPlanner planner = new PathPlanner(lane, EntityType.BOAT.getWidth(), EntityType.BOAT.getHeight());
+        planner.plan(0, 95, 100, 300, 250);
+        /* Pushed sideways */
+        planner.plan(0.1, 180, 130, 300, 250);
+        assertEquals(2, planner.getReplans());
+        /* Slowed down by a collision */
+        planner.plan(0.2, planner.getX(0.2), 140, 30, 250);
+        assertEquals(3, planner.getReplans());
+    }
+
+    @Test
+    public void PLANS_AROUND_AN_OBSTACLE_THAT_APPEARS() {
+        Lane lane = lane(1, EMPTY);
+        PathPlanner planner = new PathPlanner(lane, EntityType.BOAT.getWidth(), EntityType.BOAT.getHeight());
+        planner.plan(0, 95, 100, 300, 250);
+        float straight = planner.getX(0.8);
+        /* A rock right where the boat will be in 0.8 seconds */
+        lane.getObstacles().add(ObstacleType.ROCK, straight, 100 + 0.8f * (300 + ObstacleType.ROCK.getSpeed()));
+        planner.plan(1 / 15.0, planner.getX(1 / 15.0), 120, 300, 250);
+        float x = planner.getX(0.8);
+        assertTrue(x + EntityType.BOAT.getWidth() <= straight || x >= straight + EntityType.OBSTACLE.getWidth());
+        /* The rock is far enough ahead that the path the boat has taken so far is kept */
+        assertEquals(1, planner.getReplans());
+    }
+}
@@ -0,0 +1,110 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.tools.Profiler;
+import main.com.dragonboatrace.game.tools.ProfilerPhase;
+import main.com.dragonboatrace.game.tools.Race;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProfilerTest {
+
+    @Before
+    public void setUp() {
+        Profiler.reset();
+        Profiler.setEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        Profiler.setEnabled(false);
+        Profiler.reset();
+    }
+
+    @Test
+    public void PERCENTILES_OF_RECORDED_FRAMES() {
+        /* Frames of 1ms to 100ms */
+        for (int i = 1; i <= 100; i++) {
+            Profiler.record(ProfilerPhase.LANES, i * 1000000L);
+            Profiler.endFrame();
+        }
+        assertEquals(100, Profiler.getFrames());
+        assertEquals(50, Profiler.percentile(ProfilerPhase.LANES, 50), 0.001);
+        assertEquals(95, Profiler.percentile(ProfilerPhase.LANES, 95), 0.001);
+        assertEquals(99, Profiler.percentile(ProfilerPhase.LANES, 99), 0.001);
+        assertEquals(100, Profiler.percentile(ProfilerPhase.LANES, 100), 0.001);
+        assertEquals(0, Profiler.percentile(ProfilerPhase.HUD, 99), 0);
+    }
+
+    @Test
+    public void ONLY_THE_LAST_FRAMES_ARE_KEPT() {
+        for (int i = 0; i < Profiler.WINDOW; i++) {
+            Profiler.record(ProfilerPhase.RENDER, 50000000L);
+            Profiler.endFrame();
+        }
+        for (int i = 0; i < Profiler.WINDOW; i++) {
+            Profiler.record(ProfilerPhase.RENDER, 1000000L);
+            Profiler.endFrame();
+        }
+        assertEquals(Profiler.WINDOW, Profiler.getFrames());
+        assertEquals(1, Profiler.percentile(ProfilerPhase.RENDER, 100), 0.001);
+    }
+
+    @Test
+    public void NESTED_PHASES_ARE_NOT_COUNTED_TWICE() {
+        Profiler.start(ProfilerPhase.RACE);
+        Profiler.start(ProfilerPhase.PLAYER);
+        spin(5);
+        Profiler.stop(ProfilerPhase.PLAYER);
+        Profiler.stop(ProfilerPhase.RACE);
+        Profiler.endFrame();
+        assertTrue(Profiler.percentile(ProfilerPhase.PLAYER, 50) >= 5);
+        assertTrue(Profiler.percentile(ProfilerPhase.RACE, 50) < Profiler.percentile(ProfilerPhase.PLAYER, 50));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void STOPPING_THE_WRONG_PHASE() {
+        Profiler.start(ProfilerPhase.RACE);
+        Profiler.start(ProfilerPhase.PLAYER);
+        Profiler.stop(ProfilerPhase.RACE);
+    }
+
+    @Test
+    public void DISABLED_RECORDS_NOTHING() {
+        Profiler.setEnabled(false);
+        Profiler.start(ProfilerPhase.RACE);
+        Profiler.record(ProfilerPhase.RACE, 1000000L);
+        Profiler.endFrame();
+        assertEquals(0, Profiler.getFrames());
+    }
+
+    @Test
+    public void RACE_PHASES_ARE_TIMED() {
+        Race r = new Race(100000, BoatType.AGILE, 1, 42);
+        r.getPlayer().addHealth(Float.MAX_VALUE / 2);
+        for (int i = 0; i < 10; i++) {
+            r.advance(1f / 60);
+            Profiler.endFrame();
+        }
+        assertTrue(Profiler.percentile(ProfilerPhase.PLAYER, 50) > 0);
+        assertTrue(Profiler.percentile(ProfilerPhase.COMPUTER_BOATS, 50) > 0);
+        assertTrue(Profiler.percentile(ProfilerPhase.LANES, 50) > 0);
+        assertTrue(Profiler.percentile(ProfilerPhase.COLLISIONS, 50) > 0);
+    }
+
+    /**
+     * Busy wait, so the time is spent in the phase being timed.
+     *
+     * @param millis How long to wait for.
+     */
+    private static void spin(long millis) {
+        long end = System.nanoTime() + millis * 1000000L;
+        while (System.nanoTime() < end) {
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+
+import main.com.dragonboatrace.game.entities.boats.Boat;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.entities.boats.PlayerBoat;
+import main.com.dragonboatrace.game.tools.Race;
+
+import org.junit.Test;
+
+public class RaceCameraTest {
+
+    @Test
+    public void CAMERA_FOLLOWS_PLAYER() {
+        Race r = new Race(100000, BoatType.AGILE, 1, 42);
+        PlayerBoat player = r.getPlayer();
+        player.addHealth(Float.MAX_VALUE / 2);
+        for (int i = 0; i < 120; i++) {
+            r.advance(1f / 60);
+            assertEquals(player.getDistanceTravelled(), r.getCamera().getY(), 0.001);
+            assertEquals(Boat.START_Y, player.getHitBox().getY() - r.getCamera().getY(), 0.001);
+        }
+        assertTrue(r.getCamera().getY() > 0);
+    }
+
+    @Test
+    public void FINISH_LINE_IN_VIEW_AT_THE_END() {
+        Race r = new Race(5000, BoatType.AGILE, 1, 42);
+        r.getPlayer().addHealth(Float.MAX_VALUE / 2);
+        while (!r.isFinished()) {
+            r.advance(1f / 60);
+        }
+        float finishY = r.getFinishLine().getHitBox().getY() - r.getCamera().getY();
+        assertTrue(finishY > 0);
+        assertTrue(finishY < r.getHeight());
+    }
+
+    @Test
+    public void LANE_MOVES_WITH_ITS_BOAT() {
+        Race r = new Race(100000, BoatType.AGILE, 1, 42);
+        r.getPlayer().addHealth(Float.MAX_VALUE / 2);
+        for (int i = 0; i < 120; i++) {
+            r.advance(1f / 60);
+        }
+        for (Boat boat : r.getBoats()) {
+            assertEquals(boat.getDistanceTravelled(), boat.getLane().getHitbox().getY(), 0.001);
+            assertEquals(Boat.START_Y, boat.getHitBox().getY() - boat.getDistanceTravelled(), 0.001);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.utils.JsonReader;
+import main.com.dragonboatrace.game.entities.boats.Boat;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.tools.Race;
+
+import org.junit.Test;
+
+public class RaceClockTest {
+
+    @Test
+    public void RACE_TIME_IS_SIMULATION_TIME() throws InterruptedException {
+        Race race = new Race(100000, BoatType.AGILE, 1, 42);
+        for (int i = 0; i < 60; i++) {
+            race.advance(1f / 60);
+        }
+        /* Time that passes without the race being advanced, like a pause, is not counted */
+        Thread.sleep(50);
+        for (int i = 0; i < 60; i++) {
+            race.advance(1f / 60);
+        }
+        assertEquals(2, race.getRaceTime(), 0.01f);
+    }
+
+    @Test
+    public void SCALED_TIME() {
+        float[] scales = {0.25f, 1, 8};
+        for (float scale : scales) {
+            Race race = new Race(100000, BoatType.AGILE, 1, 42);
+            race.setTimeScale(scale);
+            for (int i = 0; i < 60; i++) {
+                race.advance(1f / 60);
+            }
+            assertEquals(scale, race.getRaceTime(), 0.01f);
+        }
+    }
+
+    @Test
+    public void FINISH_TIMES_SAME_AT_ANY_SCALE() {
+        float[] scales = {0.25f, 1, 8, Race.UNBOUNDED};
+        String expected = null;
+        for (float scale : scales) {
+            Race race = new Race(3000, BoatType.AGILE, 1, 42);
+            race.getPlayer().addHealth(Float.MAX_VALUE / 2);
+            race.setTimeScale(scale);
+            for (int frame = 0; frame < 1000000 && !race.isFinished(); frame++) {
+                race.advance(1f / 60);
+            }
+            assertTrue(race.isFinished());
+            assertTrue(race.getPlayer().getTime() > 0);
+            StringBuilder times = new StringBuilder().append(race.getPlayer().getTime());
+            for (Boat boat : race.getBoats()) {
+                times.append(',').append(boat.getTime());
+            }
+            if (expected == null) {
+                expected = times.toString();
+            }
+            assertEquals(expected, times.toString());
+        }
+    }
+
+    @Test
+    public void RACE_TIME_SAVED() {
+        Race race = new Race(100000, BoatType.AGILE, 1, 42);
+        race.setTimeScale(Race.UNBOUNDED);
+        for (int i = 0; i < 30; i++) {
+            race.advance(0);
+        }
+        Race reloaded = new Race(new JsonReader().parse(race.toJson()));
+        assertEquals(race.getRaceTime(), reloaded.getRaceTime(), 0);
+        assertTrue(reloaded.getRaceTime() > 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void TIME_MUST_PASS() {
+        new Race(100000, BoatType.AGILE, 1, 42).setTimeScale(0);
+    }
+}
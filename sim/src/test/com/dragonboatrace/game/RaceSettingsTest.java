@@ -0,0 +1,135 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.utils.JsonReader;
+import main.com.dragonboatrace.game.entities.boats.Boat;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.Race;
+import main.com.dragonboatrace.game.tools.RaceSettings;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class RaceSettingsTest {
+
+    @Test
+    public void RACES_WITH_DIFFERENT_SETTINGS_COEXIST() {
+        int players = Config.PLAYER_COUNT;
+        Race small = race(RaceSettings.defaults().withPlayerCount(4).withDifficulty(0), 1);
+        Race large = race(RaceSettings.defaults().withPlayerCount(12).withDifficulty(2), 1);
+        assertEquals(3, small.getBoats().size());
+        assertEquals(11, large.getBoats().size());
+        assertEquals(1920 / 4, small.getPlayer().getLane().getHitbox().getWidth());
+        assertEquals(1920 / 12, large.getPlayer().getLane().getHitbox().getWidth());
+        for (Boat boat : large.getBoats()) {
+            assertSame(large.getSettings(), boat.getLane().getSettings());
+        }
+        assertEquals(players, Config.PLAYER_COUNT);
+    }
+
+    @Test
+    public void SETTINGS_ARE_SAVED_WITH_THE_RACE() {
+        int players = Config.PLAYER_COUNT;
+        int difficulty = Config.GAME_DIFFICULTY;
+        RaceSettings settings = RaceSettings.defaults().withPlayerCount(5).withDifficulty(2)
+            .withObstacleCollision(-35, 0.75f).withStaminaSpeedDivision(3);
+        Race race = race(settings, 42);
+        for (int i = 0; i < 120; i++) {
+            race.advance(1f / 60);
+        }
+        String save = race.toJson();
+        try {
+            /* Loading does not depend on the defaults of the game that loads it */
+            Config.setPlayerCount(3);
+            Config.setGameDifficulty(0);
+            Race reloaded = new Race(new JsonReader().parse(save));
+            assertEquals(settings.toJson(), reloaded.getSettings().toJson());
+            assertEquals(4, reloaded.getBoats().size());
+            assertEquals(save, reloaded.toJson());
+        } finally {
+            Config.setPlayerCount(players);
+            Config.setGameDifficulty(difficulty);
+        }
+    }
+
+    @Test
+    public void OLD_SAVES_USE_THE_DEFAULTS() {
+        String save = race(RaceSettings.defaults().withDifficulty(2), 7).toJson();
+        String oldSave = save.substring(0, save.lastIndexOf(", settings:")) + "}";
+        Race reloaded = new Race(new JsonReader().parse(oldSave), RaceSettings.defaults().withDifficulty(2));
+        assertEquals(2, reloaded.getSettings().getDifficulty());
+        assertEquals(save, reloaded.toJson());
+    }
+
+    @Test
+    public void CONCURRENT_RACES_SAME_AS_ONE_AT_A_TIME() throws Exception {
+        final List<RaceSettings> settings = new ArrayList<RaceSettings>();
+        for (int i = 0; i < 16; i++) {
+            settings.add(RaceSettings.defaults().withPlayerCount(2 + i % 7).withDifficulty(i % 3)
+                .withObstacleCollision(-10 - i, 0.25f + i / 16f));
+        }
+        List<String> serial = new ArrayList<String>();
+        for (int i = 0; i < settings.size(); i++) {
+            serial.add(raceAfter(settings.get(i), i, 300));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> concurrent = new ArrayList<Future<String>>();
+            for (int i = 0; i < settings.size(); i++) {
+                final int seed = i;
+                concurrent.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() {
+                        return raceAfter(settings.get(seed), seed, 300);
+                    }
+                }));
+            }
+            for (int i = 0; i < settings.size(); i++) {
+                assertEquals(serial.get(i), concurrent.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void A_RACE_NEEDS_A_BOAT() {
+        RaceSettings.defaults().withPlayerCount(0);
+    }
+
+    /**
+     * Create a seeded race in a 1920 by 1080 world.
+     *
+     * @param settings The rules of the race.
+     * @param seed     The seed of the race.
+     * @return The new race.
+     */
+    private static Race race(RaceSettings settings, long seed) {
+        return new Race(100000, BoatType.AGILE, 1, seed, 1920, 1080, settings);
+    }
+
+    /**
+     * Run a seeded race for a number of frames.
+     *
+     * @param settings The rules of the race.
+     * @param seed     The seed of the race.
+     * @param frames   The number of frames of 1/60 seconds to run.
+     * @return The race saved as JSON.
+     */
+    private static String raceAfter(RaceSettings settings, long seed, int frames) {
+        Race race = race(settings, seed);
+        for (int i = 0; i < frames; i++) {
+            race.advance(1f / 60);
+        }
+        return race.toJson();
+    }
+}
@@ -56,9 +56,9 @@ public class RequirementsTesting {
     public void UR_DIFFICULTY_LEVELTest() {
         // first check how many obstacles will spawn every round, this will represent
         // the difficulty of each round
-        int countRoundOne = (new Lane(new Vector2(123, 456), 1, 2, 3, false)).createObstacleCount(1, 1, 1);
-        int countRoundTwo = (new Lane(new Vector2(123, 456), 1, 2, 3, false)).createObstacleCount(2, 1, 1);
-        int countRoundThree = (new Lane(new Vector2(123, 456), 1, 2, 3, false)).createObstacleCount(3, 1, 1);
+        int countRoundOne = (new Lane(new Vector2(123, 456), 1, 2, 3)).createObstacleCount(1, 1, 1);
+        int countRoundTwo = (new Lane(new Vector2(123, 456), 1, 2, 3)).createObstacleCount(2, 1, 1);
+        int countRoundThree = (new Lane(new Vector2(123, 456), 1, 2, 3)).createObstacleCount(3, 1, 1);
 
         // then check if as the rounds increase the number of obstacles spawning
         // increases
@@ -0,0 +1,89 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.utils.JsonReader;
+import main.com.dragonboatrace.game.entities.boats.BoatType;
+import main.com.dragonboatrace.game.tools.Config;
+import main.com.dragonboatrace.game.tools.Race;
+import main.com.dragonboatrace.game.tools.RaceRandom;
+import main.com.dragonboatrace.game.tools.RaceSettings;
+
+import org.junit.Test;
+
+public class SeededRaceTest {
+
+    @Test
+    public void SAME_SEED_SAME_RACE() {
+        Race r1 = new Race(100000, BoatType.AGILE, 1, 42);
+        Race r2 = new Race(100000, BoatType.AGILE, 1, 42);
+        for (int i = 0; i < 600; i++) {
+            r1.advance(1f / 60);
+            r2.advance(1f / 60);
+        }
+        assertEquals(r1.toJson(), r2.toJson());
+    }
+
+    @Test
+    public void DIFFERENT_SEED_DIFFERENT_RACE() {
+        Race r1 = new Race(100000, BoatType.AGILE, 1, 42);
+        Race r2 = new Race(100000, BoatType.AGILE, 1, 43);
+        for (int i = 0; i < 600; i++) {
+            r1.advance(1f / 60);
+            r2.advance(1f / 60);
+        }
+        assertNotEquals(r1.toJson(), r2.toJson());
+    }
+
+    @Test
+    public void PARALLEL_SAME_AS_SERIAL() {
+        RaceSettings settings = RaceSettings.defaults().withPlayerCount(32).withParallelBoats(1);
+        String serial = raceAfter(600, settings.withSimulationThreads(1));
+        String parallel = raceAfter(600, settings.withSimulationThreads(4));
+        assertEquals(serial, parallel);
+    }
+
+    /**
+     * Run a seeded race for a number of frames.
+     *
+     * @param frames   The number of frames of 1/60 seconds to run.
+     * @param settings The settings to run the race with.
+     * @return The race saved as JSON.
+     */
+    private static String raceAfter(int frames, RaceSettings settings) {
+        Race race = new Race(100000, BoatType.AGILE, 1, 42, Config.WIDTH, Config.HEIGHT, settings);
+        race.getPlayer().addHealth(Float.MAX_VALUE / 2);
+        for (int i = 0; i < frames; i++) {
+            race.advance(1f / 60);
+        }
+        return race.toJson();
+    }
+
+    @Test
+    public void SPLIT_STREAMS_DO_NOT_DEPEND_ON_USE() {
+        RaceRandom used = new RaceRandom(7);
+        RaceRandom unused = new RaceRandom(7);
+        for (int i = 0; i < 100; i++) {
+            used.nextInt();
+        }
+        RaceRandom a = used.split(3);
+        RaceRandom b = unused.split(3);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextLong(), b.nextLong());
+        }
+        assertNotEquals(unused.split(3).nextLong(), unused.split(4).nextLong());
+    }
+
+    @Test
+    public void SAVE_RELOAD_CONTINUES_STREAM() {
+        RaceRandom random = new RaceRandom(-123456789L);
+        for (int i = 0; i < 10; i++) {
+            random.nextDouble();
+        }
+        RaceRandom reloaded = new RaceRandom(new JsonReader().parse(random.toJson()));
+        assertEquals(random.getSeed(), reloaded.getSeed());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(random.nextLong(), reloaded.nextLong());
+        }
+    }
+}
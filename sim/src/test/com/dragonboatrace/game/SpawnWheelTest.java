@@ -0,0 +1,98 @@
+package test.com.dragonboatrace.game;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import com.badlogic.gdx.utils.FloatArray;
+
+import main.com.dragonboatrace.game.tools.SpawnWheel;
+
+import org.junit.Test;
+
+public class SpawnWheelTest {
+
+    private static final float STEP = 1f / 120;
+
+    /**
+     * Move a wheel on one step at a time until something is due.
+     *
+     * @param wheel The wheel to move on.
+     * @return The number of steps until the first spawn was due.
+     */
+    private static int stepsUntilDue(SpawnWheel wheel) {
+        int steps = 0;
+        int due = 0;
+        while (due == 0) {
+            due = wheel.advance(STEP);
+            steps++;
+        }
+        return steps;
+    }
+
+    @Test
+    public void DUE_AFTER_ITS_WAIT() {
+        SpawnWheel wheel = new SpawnWheel();
+        wheel.schedule(1.5f);
+        assertEquals(1, wheel.size());
+        assertEquals(180, stepsUntilDue(wheel), 1);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void WAITS_LONGER_THAN_THE_FIRST_LEVEL() {
+        /* Past the first level after a second, the second after a minute and the third after an hour */
+        float[] waits = {10, 100, 5000};
+        for (float wait : waits) {
+            SpawnWheel wheel = new SpawnWheel();
+            wheel.advance(0.3f);
+            wheel.schedule(wait);
+            int steps = stepsUntilDue(wheel);
+            assertEquals(wait / STEP, steps, 1);
+        }
+    }
+
+    @Test
+    public void SAME_AS_CHECKING_EVERY_WAIT() {
+        Random random = new Random(42);
+        SpawnWheel wheel = new SpawnWheel();
+        List<Double> due = new ArrayList<Double>();
+        double now = 0;
+        for (int step = 0; step < 60 * 120; step++) {
+            /* Irregular frames, with a new wait most of the time */
+            float deltaTime = STEP * (0.5f + random.nextFloat());
+            if (random.nextFloat() < 0.7f) {
+                float wait = 1 + 2 * random.nextFloat();
+                wheel.schedule(wait);
+                due.add(now + wait);
+            }
+            now += deltaTime;
+            int expected = 0;
+            for (Iterator<Double> iter = due.iterator(); iter.hasNext(); ) {
+                if (iter.next() <= now) {
+                    iter.remove();
+                    expected++;
+                }
+            }
+            assertEquals(expected, wheel.advance(deltaTime));
+            assertEquals(due.size(), wheel.size());
+        }
+    }
+
+    @Test
+    public void WAITS_LEFT_ARE_KEPT() {
+        SpawnWheel wheel = new SpawnWheel();
+        wheel.schedule(2);
+        wheel.schedule(300);
+        wheel.advance(1.25f);
+        FloatArray waits = new FloatArray();
+        wheel.waits(waits);
+        waits.sort();
+        assertEquals(2, waits.size);
+        assertEquals(0.75f, waits.get(0), 0.0001f);
+        assertEquals(298.75f, waits.get(1), 0.0001f);
+    }
+}